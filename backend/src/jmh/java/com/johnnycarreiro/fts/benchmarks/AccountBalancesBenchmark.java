@@ -0,0 +1,101 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.johnnycarreiro.fts.infra.ledger.AccountBalances;
+
+/**
+ * Postings per second on {@link AccountBalances} from 8 threads, against a
+ * single global lock over a map of balances (`impl=global-lock`).
+ *
+ * `hot` is the share of transfers that pay into one hot destination, on top
+ * of every transfer paying its fee into the same fee account; at `0.5` a
+ * quarter of all transfers also debit from that hot account. Sources are
+ * funded so that most debits succeed, which keeps the comparison on the
+ * update path.
+ * Run with `./gradlew jmh -Pjmh.includes=AccountBalancesBenchmark`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class AccountBalancesBenchmark {
+
+  private static final int ACCOUNTS = 10_000;
+  private static final String FEES = "0000000000";
+  private static final String HOT = "9999999999";
+  private static final long OPENING = 1_000_000_000L;
+
+  @Param({ "cells", "global-lock" })
+  public String impl;
+
+  @Param({ "0.0", "0.1", "0.5" })
+  public double hot;
+
+  private String[] accounts;
+  private AccountBalances cells;
+  private GlobalLockBalances globalLock;
+
+  /** The baseline: every posting takes the same lock. */
+  private static final class GlobalLockBalances {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final HashMap<String, Long> balances = new HashMap<>();
+
+    boolean transfer(final String source, final String destination, final long amount, final long fee) {
+      lock.lock();
+      try {
+        final long available = balances.getOrDefault(source, OPENING);
+        if (available < amount + fee) {
+          return false;
+        }
+        balances.put(source, available - amount - fee);
+        balances.merge(destination, OPENING + amount, (current, ignored) -> current + amount);
+        balances.merge(FEES, fee, Long::sum);
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Picker {
+    private final SplittableRandom random = new SplittableRandom(Thread.currentThread().threadId());
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    accounts = new String[ACCOUNTS];
+    for (int i = 0; i < ACCOUNTS; i++) {
+      accounts[i] = "%010d".formatted(i + 1);
+    }
+    cells = new AccountBalances(account -> account.equals(FEES) ? 0 : OPENING);
+    globalLock = new GlobalLockBalances();
+  }
+
+  @Benchmark
+  public boolean transfer(final Picker picker) {
+    final var random = picker.random;
+    final boolean hit = random.nextDouble() < hot;
+    final var destination = hit ? HOT : accounts[random.nextInt(ACCOUNTS)];
+    final var source = hit && hot >= 0.5 && random.nextBoolean() ? HOT : accounts[random.nextInt(ACCOUNTS)];
+    final long amount = 1 + random.nextInt(100);
+    return impl.equals("cells")
+        ? cells.transfer(source, destination, amount, FEES, 1)
+        : globalLock.transfer(source, destination, amount, 1);
+  }
+}
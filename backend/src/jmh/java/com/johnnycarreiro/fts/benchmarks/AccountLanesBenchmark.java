@@ -0,0 +1,125 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.AccountLanes;
+
+/**
+ * Throughput of {@link AccountLanes} as the number of lanes grows, under
+ * three account distributions: `uniform` (every account equally likely),
+ * `zipf` (a long tail of mostly quiet accounts, s = 1.1) and `hot` (half of
+ * all transfers come from one account). `rebalance=false` pins every account
+ * to its hash lane, which shows what rerouting idle accounts buys under skew.
+ *
+ * Each item burns a fixed amount of CPU to stand in for applying a transfer.
+ * Run with `./gradlew jmh -Pjmh.includes=AccountLanesBenchmark`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccountLanesBenchmark {
+
+  private static final int ITEMS = 100_000;
+  private static final int ACCOUNTS = 10_000;
+  private static final long WORK_TOKENS = 200;
+
+  @Param({ "1", "2", "4", "8" })
+  public int lanes;
+
+  @Param({ "uniform", "zipf", "hot" })
+  public String skew;
+
+  @Param({ "true", "false" })
+  public boolean rebalance;
+
+  private String[] accountPerItem;
+  private Semaphore handled;
+  private AccountLanes<String> executor;
+
+  @Setup(Level.Trial)
+  public void generate() {
+    final var accounts = new String[ACCOUNTS];
+    for (int i = 0; i < ACCOUNTS; i++) {
+      accounts[i] = "%010d".formatted(i);
+    }
+    final var random = new SplittableRandom(42);
+    final var zipf = zipfCumulative(ACCOUNTS, 1.1);
+
+    accountPerItem = new String[ITEMS];
+    for (int i = 0; i < ITEMS; i++) {
+      accountPerItem[i] = switch (skew) {
+        case "zipf" -> accounts[sample(zipf, random.nextDouble())];
+        case "hot" -> random.nextBoolean() ? accounts[0] : accounts[random.nextInt(ACCOUNTS)];
+        default -> accounts[random.nextInt(ACCOUNTS)];
+      };
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void start() {
+    handled = new Semaphore(0);
+    executor = new AccountLanes<>(lanes, 4_096, 64, rebalance ? 256 : Integer.MAX_VALUE,
+        Thread.ofPlatform().daemon().factory(), items -> {
+          for (int i = 0; i < items.size(); i++) {
+            Blackhole.consumeCPU(WORK_TOKENS);
+          }
+          handled.release(items.size());
+        });
+  }
+
+  @TearDown(Level.Iteration)
+  public void stop() throws InterruptedException {
+    executor.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITEMS)
+  public void executeAll() throws InterruptedException {
+    for (String account : accountPerItem) {
+      executor.submit(account, account);
+    }
+    handled.acquire(ITEMS);
+  }
+
+  private static double[] zipfCumulative(final int n, final double s) {
+    final double[] cumulative = new double[n];
+    double sum = 0;
+    for (int i = 0; i < n; i++) {
+      sum += 1.0 / Math.pow(i + 1, s);
+      cumulative[i] = sum;
+    }
+    for (int i = 0; i < n; i++) {
+      cumulative[i] /= sum;
+    }
+    return cumulative;
+  }
+
+  private static int sample(final double[] cumulative, final double u) {
+    int low = 0;
+    int high = cumulative.length - 1;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (cumulative[mid] < u) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -0,0 +1,78 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.johnnycarreiro.fts.infra.ledger.journal.Posting;
+import com.johnnycarreiro.fts.infra.ledger.journal.PostingJournal;
+
+/**
+ * Postings appended per second to a {@link PostingJournal} by one thread,
+ * forcing the journal to disk every `syncEvery` postings. `syncEvery=1` is
+ * what writing each posting durably on its own costs; the execution engine
+ * syncs once per lane batch, i.e. every ~1500 postings.
+ *
+ * Segments are created in the system temp directory. Run with
+ * `./gradlew jmh -Pjmh.includes=PostingJournalBenchmark`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PostingJournalBenchmark {
+
+  @Param({ "1", "64", "1536" })
+  public int syncEvery;
+
+  private final List<Posting.Entry> legs = List.of(new Posting.Entry(Posting.Leg.CREDIT, "1234567890", 1_000));
+
+  private Path directory;
+  private PostingJournal journal;
+  private UUID transferId;
+  private int unsynced;
+
+  @Setup(Level.Iteration)
+  public void open() throws IOException {
+    directory = Files.createTempDirectory("posting-journal-bench");
+    journal = PostingJournal.open(directory, 1 << 20, posting -> {
+    });
+    transferId = UUID.randomUUID();
+    unsynced = 0;
+  }
+
+  @TearDown(Level.Iteration)
+  public void close() throws IOException {
+    journal.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public long append() {
+    final long sequence = journal.append(transferId, legs, 0);
+    if (++unsynced == syncEvery) {
+      journal.sync();
+      unsynced = 0;
+    }
+    return sequence;
+  }
+}
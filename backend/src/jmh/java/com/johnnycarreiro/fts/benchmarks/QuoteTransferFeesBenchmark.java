@@ -0,0 +1,133 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesCommand;
+import com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesUseCase;
+import com.johnnycarreiro.fts.application.transfer.quote.TransferFeeQuote;
+import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+import com.johnnycarreiro.fts.core.utils.Result;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+
+/**
+ * Measures a single `POST /transfers/quotes` worth of work, without HTTP.
+ *
+ * Run with `./gradlew jmh`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuoteTransferFeesBenchmark {
+
+  @Param({ "100", "10000" })
+  public int items;
+
+  private QuoteTransferFeesUseCase useCase;
+  private QuoteTransferFeesCommand command;
+
+  @Setup
+  public void setup() {
+    final List<TransferFee> fees = List.copyOf(Fees.seed());
+    final var feeCalculatorService = new TransferFeeCalculatorService();
+    feeCalculatorService.setTransferFee(fees);
+    useCase = new QuoteTransferFeesUseCase(feeCalculatorService, new InMemoryTransferRepository(fees));
+
+    final var random = ThreadLocalRandom.current();
+    final var now = Instant.now();
+    final var quoteItems = new ArrayList<QuoteTransferFeesCommand.Item>(items);
+    for (int i = 0; i < items; i++) {
+      final var scheduledDate = now.plusSeconds(86_400L * random.nextInt(0, 51) + 3_600);
+      quoteItems.add(new QuoteTransferFeesCommand.Item(
+          BigDecimal.valueOf(random.nextInt(1, 1_000_000), 2), scheduledDate.toString()));
+    }
+    command = QuoteTransferFeesCommand.of(quoteItems);
+  }
+
+  @Benchmark
+  public Result<List<TransferFeeQuote>, ValidationHandler> quote() {
+    return useCase.execute(command);
+  }
+
+  static final class Fees {
+    static List<TransferFee> seed() {
+      return List.of(
+          TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")),
+          TransferFee.create("De 1 a 10 dias", 1, 10, new BigDecimal("12.00"), new BigDecimal("0.00")),
+          TransferFee.create("De 11 a 20 dias", 11, 20, new BigDecimal("0.00"), new BigDecimal("0.082")),
+          TransferFee.create("De 21 a 30 dias", 21, 30, new BigDecimal("0.00"), new BigDecimal("0.069")),
+          TransferFee.create("De 31 a 40 dias", 31, 40, new BigDecimal("0.00"), new BigDecimal("0.047")),
+          TransferFee.create("De 41 a 50 dias", 41, 50, new BigDecimal("0.00"), new BigDecimal("0.017")));
+    }
+  }
+
+  /**
+   * Keeps transfers in memory and serves a fixed fee schedule, so the
+   * benchmark measures quoting rather than the database. Quoting only reads
+   * the fees; the other operations work but are never timed.
+   */
+  static final class InMemoryTransferRepository implements TransferRepository {
+    private final List<TransferFee> fees;
+    private final Map<String, Transfer> transfers = new ConcurrentHashMap<>();
+
+    InMemoryTransferRepository(List<TransferFee> fees) {
+      this.fees = fees;
+    }
+
+    @Override
+    public Result<List<Transfer>, DomainException> listAll() {
+      return Result.success(List.copyOf(transfers.values()));
+    }
+
+    @Override
+    public Result<Void, DomainException> save(Transfer transfer) {
+      transfers.put(transfer.getId().getValue(), transfer);
+      return Result.success(null);
+    }
+
+    @Override
+    public Result<Void, DomainException> saveAll(List<Transfer> transfers) {
+      transfers.forEach(this::save);
+      return Result.success(null);
+    }
+
+    @Override
+    public Result<Optional<Transfer>, DomainException> findById(String transferId) {
+      return Result.success(Optional.ofNullable(transfers.get(transferId)));
+    }
+
+    @Override
+    public Result<Void, DomainException> update(Transfer transfer) {
+      if (transfers.replace(transfer.getId().getValue(), transfer) == null) {
+        return Result.error(DomainException.with(new Error("Transfer not found")));
+      }
+      return Result.success(null);
+    }
+
+    @Override
+    public Result<List<TransferFee>, DomainException> listAllFees() {
+      return Result.success(fees);
+    }
+  }
+}
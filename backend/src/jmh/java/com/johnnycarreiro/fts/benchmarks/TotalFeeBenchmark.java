@@ -0,0 +1,57 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+
+/**
+ * Compares the total-fee calculation on long cents against the BigDecimal
+ * arithmetic it replaced. Run with `./gradlew jmh`; the `gc` profiler
+ * reports the allocation rate of each variant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TotalFeeBenchmark {
+
+  private TransferFee fee;
+  private Money amount;
+  private BigDecimal amountDecimal;
+  private BigDecimal fixedFeeDecimal;
+  private BigDecimal percentageFeeDecimal;
+
+  @Setup
+  public void setup() {
+    fee = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025"));
+    amount = Money.of(new BigDecimal("1234.57"));
+    amountDecimal = new BigDecimal("1234.57");
+    fixedFeeDecimal = fee.getFixedFee();
+    percentageFeeDecimal = fee.getPercentageFee();
+  }
+
+  @Benchmark
+  public long longCents() {
+    return fee.calculateTotalFee(amount).getCents();
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimal() {
+    return fixedFeeDecimal.add(percentageFeeDecimal.multiply(amountDecimal));
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalRounded() {
+    return fixedFeeDecimal.add(percentageFeeDecimal.multiply(amountDecimal)).setScale(2, RoundingMode.HALF_EVEN);
+  }
+}
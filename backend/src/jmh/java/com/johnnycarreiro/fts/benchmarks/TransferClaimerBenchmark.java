@@ -0,0 +1,120 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferClaimer;
+
+/**
+ * Transfers claimed and completed per second when `nodes` claimers, each
+ * standing in for one backend node, drain the same H2 database built from
+ * `db/schema.sql`. Every invocation drains 5,000 due transfers spread over
+ * 500 source accounts, in batches of 100. Run with
+ * `./gradlew jmh -Pjmh.includes=TransferClaimerBenchmark`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransferClaimerBenchmark {
+
+  private static final int TRANSFERS = 5_000;
+  private static final int CLAIM_BATCH = 100;
+  private static final String FEE_ID = "c7b92261-8f3d-4f88-8d10-d8b790a6d001";
+
+  @Param({ "1", "2", "4", "8" })
+  public int nodes;
+
+  private JdbcTemplate jdbc;
+  private List<TransferClaimer> claimers;
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final var dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:claims-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql"), new ClassPathResource("db/data.sql"))
+        .execute(dataSource);
+    jdbc = new JdbcTemplate(dataSource);
+    final var transactionManager = new DataSourceTransactionManager(dataSource);
+    claimers = new ArrayList<>(nodes);
+    for (int n = 0; n < nodes; n++) {
+      claimers.add(new TransferClaimer(jdbc, transactionManager, "node-" + n, Duration.ofMinutes(1)));
+    }
+    executor = Executors.newFixedThreadPool(nodes);
+  }
+
+  @Setup(Level.Invocation)
+  public void insertDue() {
+    jdbc.update("DELETE FROM transfers");
+    final var dueAt = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+    final var rows = new ArrayList<Object[]>(TRANSFERS);
+    for (int i = 0; i < TRANSFERS; i++) {
+      rows.add(new Object[] { UUID.randomUUID().toString(), "%010d".formatted(i % 500), dueAt.plusNanos(i * 1_000L),
+          FEE_ID });
+    }
+    jdbc.batchUpdate("""
+        INSERT INTO transfers (id, source_account, destination_account, amount, scheduled_date, transfer_fee_id,
+          status)
+        VALUES (?, ?, '0987654321', 10.00, ?, ?, 'scheduled')
+        """, rows);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+    jdbc.execute("SHUTDOWN");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TRANSFERS)
+  public int drain() throws Exception {
+    final var futures = new ArrayList<Future<Integer>>(nodes);
+    for (TransferClaimer claimer : claimers) {
+      futures.add(executor.submit(() -> {
+        int completed = 0;
+        while (true) {
+          final var batch = claimer.claimDue(Instant.now(), CLAIM_BATCH);
+          if (batch.isEmpty()) {
+            return completed;
+          }
+          completed += claimer.complete(batch.stream().map(due -> due.id()).toList(), "completed", Instant.now())
+              .size();
+        }
+      }));
+    }
+    int completed = 0;
+    for (Future<Integer> future : futures) {
+      completed += future.get();
+    }
+    if (completed != TRANSFERS) {
+      throw new IllegalStateException("completed " + completed + " of " + TRANSFERS + " transfers");
+    }
+    return completed;
+  }
+}
@@ -0,0 +1,114 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.johnnycarreiro.fts.application.transfer.services.TransferPage;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferPresenter;
+
+/**
+ * Serializes a 100-transfer page of `GET /transfers` the way the response
+ * converter does, with the streaming {@link TransferPresenter} and with the
+ * `Map`-based presenter it replaced. Scores are per transfer: run with
+ * `./gradlew jmh -Pjmh.includes=TransferPresenterBenchmark` and read the
+ * time next to `gc.alloc.rate.norm`, the bytes allocated per transfer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransferPresenterBenchmark {
+
+  private static final int TRANSFERS = 100;
+
+  /**
+   * Configured like the application's mapper: dates as ISO-8601 strings.
+   */
+  private final ObjectMapper objectMapper = JsonMapper.builder()
+      .findAndAddModules()
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  private final OutputStream out = OutputStream.nullOutputStream();
+
+  private TransferPage page;
+
+  @Setup
+  public void setup() {
+    final var fees = QuoteTransferFeesBenchmark.Fees.seed();
+    final var random = ThreadLocalRandom.current();
+    final var now = Instant.now();
+    final var transfers = new ArrayList<Transfer>(TRANSFERS);
+    for (int i = 0; i < TRANSFERS; i++) {
+      transfers.add(Transfer.create(
+          Account.from(String.format("%010d", random.nextLong(1_000_000_000L, 10_000_000_000L))),
+          Account.from(String.format("%010d", random.nextLong(1_000_000_000L, 10_000_000_000L))),
+          Money.ofCents(random.nextLong(1, 10_000_000)),
+          now.plusSeconds(random.nextLong(0, 50 * 86_400L)),
+          fees.get(random.nextInt(fees.size()))));
+    }
+    page = new TransferPage(List.copyOf(transfers), "cursor");
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TRANSFERS)
+  public void streaming() throws IOException {
+    objectMapper.writeValue(out, TransferPresenter.present(page));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TRANSFERS)
+  public void maps() throws IOException {
+    objectMapper.writeValue(out, MapPresenter.present(page));
+  }
+
+  /**
+   * The presenter as it was: nested maps per transfer, serialized
+   * reflectively, with the status as its value object.
+   */
+  static final class MapPresenter {
+
+    record Page(List<Map<String, Object>> items, String nextCursor) {
+    }
+
+    static Page present(final TransferPage page) {
+      return new Page(page.items().stream().map(MapPresenter::present).toList(), page.nextCursor());
+    }
+
+    static Map<String, Object> present(final Transfer transfer) {
+      return Map.of(
+          "id", transfer.getId().getValue(),
+          "sourceAccount", transfer.getSourceAccount().getValue(),
+          "destinationAccount", transfer.getDestinationAccount().getValue(),
+          "amount", transfer.getAmount().toBigDecimal(),
+          "scheduledDate", transfer.getScheduledDate(),
+          "transferDate", transfer.getTransferDate(),
+          "status", transfer.getStatus(),
+          "fee", Map.of(
+              "fixedFee", transfer.getFixedFee().toBigDecimal(),
+              "percentageFee", transfer.getPercentageFee()),
+          "createdAt", transfer.getCreatedAt(),
+          "updatedAt", transfer.getUpdatedAt());
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.johnnycarreiro.fts.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.johnnycarreiro.fts.application.transfer.services.TransferCursor;
+import com.johnnycarreiro.fts.application.transfer.services.TransferFilter;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferSearch;
+
+/**
+ * Latency of one 50-row page of the {@link TransferSearch} statement over
+ * `rows` transfers in H2, with the listing indexes of `schema.sql`
+ * (`indexed=true`) and without them. The statement runs through plain JDBC
+ * here; {@link TransferSearch} itself needs a persistence context.
+ *
+ * The data has 100,000 accounts, so each account sends and receives about
+ * 100 transfers per million rows, and 5% of transfers are scheduled. The
+ * plan of every query is logged once per trial, showing which index each
+ * scenario reads and whether H2 still has to sort.
+ *
+ * Ten million rows take several GB of heap; run with
+ * `./gradlew jmh -Pjmh.includes=TransferSearchBenchmark`, and lower `rows`
+ * with `-Pjmh.benchmarkParameters=rows:1000000` on smaller machines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = { "-Xms12g", "-Xmx12g" })
+public class TransferSearchBenchmark {
+
+  private static final Logger log = LoggerFactory.getLogger(TransferSearchBenchmark.class);
+
+  private static final int PAGE = 51;
+
+  private static final String[] INDEXES = {
+      "CREATE INDEX idx_transfers_created_at ON transfers (created_at DESC, id DESC)",
+      "CREATE INDEX idx_transfers_source_created_at ON transfers (source_account, created_at DESC, id DESC)",
+      "CREATE INDEX idx_transfers_destination_created_at ON transfers (destination_account, created_at DESC, id DESC)",
+      "CREATE INDEX idx_transfers_status_created_at ON transfers (status, created_at DESC, id DESC)"
+  };
+
+  @Param({ "10000000" })
+  public int rows;
+
+  @Param({ "true", "false" })
+  public boolean indexed;
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbc;
+
+  private TransferFilter bySource;
+  private TransferFilter byDestinationAndDate;
+  private TransferFilter byStatusAndAmount;
+  private TransferCursor deepCursor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dataSource = new SingleConnectionDataSource("jdbc:h2:mem:transfer-search;DB_CLOSE_DELAY=-1", "sa", "", true);
+    jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("""
+        CREATE TABLE transfer_fees (
+          id CHAR(36) PRIMARY KEY,
+          name VARCHAR(255) NOT NULL,
+          min_days INT NOT NULL,
+          max_days INT,
+          fixed_fee DECIMAL(10, 2) NOT NULL,
+          percentage_fee DECIMAL(5, 3) NOT NULL
+        )
+        """);
+    jdbc.execute("""
+        INSERT INTO transfer_fees VALUES
+          ('00000000-0000-0000-0000-000000000000', 'Mesmo Dia', 0, 0, 3.00, 0.025),
+          ('00000000-0000-0000-0000-000000000001', 'Até 10 dias', 1, 10, 12.00, 0.000),
+          ('00000000-0000-0000-0000-000000000002', 'Após 10 dias', 11, NULL, 0.00, 0.082)
+        """);
+    jdbc.execute("""
+        CREATE TABLE transfers (
+          id CHAR(36) PRIMARY KEY,
+          source_account VARCHAR(255) NOT NULL,
+          destination_account VARCHAR(255) NOT NULL,
+          amount DECIMAL(10, 2) NOT NULL,
+          scheduled_date TIMESTAMP NOT NULL,
+          transfer_date TIMESTAMP,
+          transfer_fee_id CHAR(36) NOT NULL REFERENCES transfer_fees (id),
+          status VARCHAR(20) NOT NULL,
+          created_at TIMESTAMP NOT NULL,
+          updated_at TIMESTAMP NOT NULL,
+          deleted_at TIMESTAMP
+        )
+        """);
+    jdbc.update("""
+        INSERT INTO transfers
+        SELECT CAST(RANDOM_UUID() AS VARCHAR),
+          LPAD(CAST(MOD(X * 7919, 100000) AS VARCHAR), 10, '0'),
+          LPAD(CAST(MOD(X * 104729, 100000) AS VARCHAR), 10, '0'),
+          MOD(X, 100000) / 100.0 + 1,
+          DATEADD(MINUTE, MOD(X * 31, 525600), TIMESTAMP '2025-01-01 00:00:00'),
+          NULL,
+          '00000000-0000-0000-0000-00000000000' || MOD(X, 3),
+          CASE MOD(X, 20) WHEN 0 THEN 'scheduled' WHEN 1 THEN 'failed' ELSE 'completed' END,
+          DATEADD(SECOND, X, TIMESTAMP '2024-01-01 00:00:00'),
+          DATEADD(SECOND, X, TIMESTAMP '2024-01-01 00:00:00'),
+          NULL
+        FROM SYSTEM_RANGE(1, ?)
+        """, rows);
+    if (indexed) {
+      for (String index : INDEXES) {
+        jdbc.execute(index);
+      }
+    }
+    jdbc.execute("ANALYZE");
+
+    bySource = new TransferFilter("0000004242", null, null, null, null, null, null);
+    byDestinationAndDate = new TransferFilter(null, "0000004242", null, Instant.parse("2025-03-01T00:00:00Z"),
+        Instant.parse("2025-09-01T00:00:00Z"), null, null);
+    byStatusAndAmount = new TransferFilter(null, null, "scheduled", null, null, new BigDecimal("100.00"),
+        new BigDecimal("500.00"));
+    deepCursor = jdbc.queryForObject("SELECT id, created_at FROM transfers ORDER BY created_at DESC, id DESC"
+        + " LIMIT 1 OFFSET ?", (rs, row) -> new TransferCursor(rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+            rs.getString("id").trim()), rows / 2);
+
+    explain(jdbc, "first page", TransferFilter.none(), null);
+    explain(jdbc, "deep page", TransferFilter.none(), deepCursor);
+    explain(jdbc, "by source", bySource, null);
+    explain(jdbc, "by destination and date", byDestinationAndDate, null);
+    explain(jdbc, "by status and amount", byStatusAndAmount, null);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+    dataSource.destroy();
+  }
+
+  private static void explain(final JdbcTemplate jdbc, final String scenario, final TransferFilter filter,
+      final TransferCursor after) {
+    final var query = TransferSearch.pageQuery(filter, after, PAGE);
+    final var plan = jdbc.queryForObject("EXPLAIN " + query.sql(), String.class, query.args().toArray());
+    log.info("Plan for {}:\n{}", scenario, plan);
+  }
+
+  private List<Map<String, Object>> page(final TransferFilter filter, final TransferCursor after) {
+    final var query = TransferSearch.pageQuery(filter, after, PAGE);
+    return jdbc.query(query.sql(), new ColumnMapRowMapper(), query.args().toArray());
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> firstPage() {
+    return page(TransferFilter.none(), null);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> deepPage() {
+    return page(TransferFilter.none(), deepCursor);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> bySource() {
+    return page(bySource, null);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> byDestinationAndDate() {
+    return page(byDestinationAndDate, null);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> byStatusAndAmount() {
+    return page(byStatusAndAmount, null);
+  }
+}
@@ -0,0 +1,201 @@
+package com.johnnycarreiro.fts.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test for the transfer API.
+ *
+ * For each concurrency level it opens that many clients, each on its own
+ * virtual thread and keep-alive connection, which send requests back to back
+ * for the configured duration. It then prints throughput and latency
+ * percentiles. Run it once against a server started with virtual threads
+ * (the default) and once with `FTS_VIRTUAL_THREADS=false` to compare the
+ * two modes.
+ *
+ * Going past a few thousand connections usually requires raising the open
+ * file limit (`ulimit -n`) on both the client and the server host.
+ *
+ * Options: `--base-url`, `--concurrency` (comma separated), `--duration` and
+ * `--warmup` in seconds, `--mix` (`create`, `quote` or `mixed`).
+ */
+public final class TransferLoadTest {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private record Level(int concurrency, long requests, long errors, double seconds, long[] latenciesNanos) {
+  }
+
+  private TransferLoadTest() {
+  }
+
+  public static void main(final String[] args) throws Exception {
+    final var options = parse(args);
+    final var baseUrl = options.getOrDefault("base-url", "http://localhost:8080/api/v1");
+    final var levels = Arrays.stream(options.getOrDefault("concurrency", "1000").split(","))
+        .map(String::trim).mapToInt(Integer::parseInt).toArray();
+    final var duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+    final var warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+    final var mix = options.getOrDefault("mix", "mixed");
+
+    System.out.printf("target=%s mix=%s duration=%ss%n", baseUrl, mix, duration.toSeconds());
+    System.out.printf("%12s %12s %10s %12s %10s %10s %10s %10s%n",
+        "connections", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+
+    for (int concurrency : levels) {
+      if (!warmup.isZero()) {
+        run(baseUrl, mix, concurrency, warmup);
+      }
+      print(run(baseUrl, mix, concurrency, duration));
+    }
+  }
+
+  private static Level run(final String baseUrl, final String mix, final int concurrency, final Duration duration)
+      throws InterruptedException {
+    final var requests = new LongAdder();
+    final var errors = new LongAdder();
+    final var perClient = new ArrayList<long[]>(concurrency);
+    final var counts = new int[concurrency];
+    final var ready = new CountDownLatch(concurrency);
+    final var start = new CountDownLatch(1);
+
+    try (var client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(REQUEST_TIMEOUT)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+        var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+
+      for (int i = 0; i < concurrency; i++) {
+        perClient.add(new long[1024]);
+      }
+
+      final long[] window = new long[2];
+      for (int i = 0; i < concurrency; i++) {
+        final int id = i;
+        clients.submit(() -> {
+          ready.countDown();
+          start.await();
+          long[] latencies = perClient.get(id);
+          int count = 0;
+          while (System.nanoTime() < window[1]) {
+            final long sent = System.nanoTime();
+            try {
+              final var response = client.send(nextRequest(baseUrl, mix), HttpResponse.BodyHandlers.discarding());
+              if (response.statusCode() >= 400) {
+                errors.increment();
+              }
+            } catch (Exception e) {
+              errors.increment();
+            }
+            if (count == latencies.length) {
+              latencies = Arrays.copyOf(latencies, count * 2);
+              perClient.set(id, latencies);
+            }
+            latencies[count++] = System.nanoTime() - sent;
+            requests.increment();
+          }
+          counts[id] = count;
+          return null;
+        });
+      }
+
+      ready.await();
+      window[0] = System.nanoTime();
+      window[1] = window[0] + duration.toNanos();
+      start.countDown();
+      clients.shutdown();
+      clients.awaitTermination(duration.toSeconds() + REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+      final double seconds = (System.nanoTime() - window[0]) / 1e9;
+
+      int total = 0;
+      for (int count : counts) {
+        total += count;
+      }
+      final long[] all = new long[total];
+      int offset = 0;
+      for (int i = 0; i < concurrency; i++) {
+        System.arraycopy(perClient.get(i), 0, all, offset, counts[i]);
+        offset += counts[i];
+      }
+      Arrays.sort(all);
+      return new Level(concurrency, requests.sum(), errors.sum(), seconds, all);
+    }
+  }
+
+  private static HttpRequest nextRequest(final String baseUrl, final String mix) {
+    final var random = ThreadLocalRandom.current();
+    final boolean create = switch (mix) {
+      case "create" -> true;
+      case "quote" -> false;
+      default -> random.nextBoolean();
+    };
+    final var scheduledDate = Instant.now().plus(random.nextInt(0, 50), ChronoUnit.DAYS).toString();
+    final var amount = random.nextInt(1, 100_000) + "." + random.nextInt(10, 100);
+
+    final String path;
+    final String body;
+    if (create) {
+      path = "/transfers";
+      body = "{\"sourceAccount\":\"%010d\",\"destinationAccount\":\"%010d\",\"amount\":%s,\"scheduledDate\":\"%s\"}"
+          .formatted(random.nextLong(1, 10_000_000_000L), random.nextLong(1, 10_000_000_000L), amount,
+              scheduledDate);
+    } else {
+      path = "/transfers/quotes";
+      body = "[{\"amount\":%s,\"scheduledDate\":\"%s\"}]".formatted(amount, scheduledDate);
+    }
+
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private static void print(final Level level) {
+    final long[] latencies = level.latenciesNanos();
+    System.out.printf("%12d %12d %10d %12.1f %10.2f %10.2f %10.2f %10.2f%n",
+        level.concurrency(),
+        level.requests(),
+        level.errors(),
+        level.requests() / level.seconds(),
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.90),
+        percentile(latencies, 0.99),
+        latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+  }
+
+  private static double percentile(final long[] sorted, final double p) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    final int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+    return sorted[Math.max(0, index)] / 1e6;
+  }
+
+  private static Map<String, String> parse(final String[] args) {
+    final Map<String, String> options = new HashMap<>();
+    for (String arg : List.of(args)) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        final int eq = arg.indexOf('=');
+        options.put(arg.substring(2, eq), arg.substring(eq + 1));
+      }
+    }
+    return options;
+  }
+}
@@ -0,0 +1,20 @@
+package com.johnnycarreiro.fts.application.transfer.batch;
+
+import java.util.List;
+
+import com.johnnycarreiro.fts.application.transfer.create.CreateTransferCommand;
+
+/**
+ * Command object for creating many Transfers in one request.
+ */
+public record CreateTransfersBatchCommand(List<CreateTransferCommand> items) {
+  /**
+   * Factory method to create a new CreateTransfersBatchCommand.
+   *
+   * @param items The transfers to create, in request order.
+   * @return a new instance of CreateTransfersBatchCommand.
+   */
+  public static CreateTransfersBatchCommand of(final List<CreateTransferCommand> items) {
+    return new CreateTransfersBatchCommand(items);
+  }
+}
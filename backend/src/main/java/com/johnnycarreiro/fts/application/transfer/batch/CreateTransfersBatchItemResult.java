@@ -0,0 +1,27 @@
+package com.johnnycarreiro.fts.application.transfer.batch;
+
+import java.util.List;
+
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+
+/**
+ * Outcome of one item of a batch creation.
+ *
+ * @param index  Position of the item in the request.
+ * @param id     Id of the created transfer, or null when it was not created.
+ * @param errors The reasons the item was not created, if any.
+ */
+public record CreateTransfersBatchItemResult(int index, String id, List<Error> errors) {
+
+  static CreateTransfersBatchItemResult created(final int index, final String id) {
+    return new CreateTransfersBatchItemResult(index, id, List.of());
+  }
+
+  static CreateTransfersBatchItemResult failed(final int index, final List<Error> errors) {
+    return new CreateTransfersBatchItemResult(index, null, errors);
+  }
+
+  public boolean isCreated() {
+    return id != null;
+  }
+}
@@ -0,0 +1,173 @@
+package com.johnnycarreiro.fts.application.transfer.batch;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.johnnycarreiro.fts.application.transfer.create.CreateTransferCommand;
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.core.domain.validation.StackValidationHandler;
+import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+import com.johnnycarreiro.fts.core.utils.Result;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
+import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+import com.johnnycarreiro.fts.domain.services.TransferFeeSchedule;
+import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.domain.value_objects.money.MoneyValidator;
+
+/**
+ * CreateTransfersBatchUseCase
+ *
+ * Creates many transfers in one call. Every item is validated on its own and
+ * priced against the same fee schedule snapshot; the valid ones are then
+ * persisted in chunks of {@link #CHUNK_SIZE}, each chunk in a single
+ * transaction. A failing chunk marks only its own items as failed.
+ */
+public class CreateTransfersBatchUseCase {
+
+  /**
+   * Upper bound on the number of items accepted in a single request.
+   */
+  public static final int MAX_ITEMS = 50_000;
+
+  /**
+   * Number of transfers persisted per transaction. Kept equal to
+   * `hibernate.jdbc.batch_size` so each chunk flushes as full JDBC batches.
+   */
+  public static final int CHUNK_SIZE = 500;
+
+  private final TransferFeeCalculatorService feeCalculatorService;
+  private final TransferRepository transferRepository;
+
+  /**
+   * Constructor to initialize the `CreateTransfersBatchUseCase` with required
+   * services.
+   *
+   * @param feeCalculatorService an instance of the `TransferFeeCalculatorService`
+   *                             to calculate the fees.
+   * @param transferRepository   an instance of the `TransferRepository` to save
+   *                             the transfers.
+   */
+  public CreateTransfersBatchUseCase(TransferFeeCalculatorService feeCalculatorService,
+      TransferRepository transferRepository) {
+    this.feeCalculatorService = feeCalculatorService;
+    this.transferRepository = transferRepository;
+  }
+
+  /**
+   * Executes the use case for creating a batch of transfers.
+   *
+   * @param command a `CreateTransfersBatchCommand` with the transfers to create.
+   * @return a `Result` with one outcome per item, in request order, or the
+   *         errors that prevented processing the batch altogether.
+   */
+  public Result<List<CreateTransfersBatchItemResult>, ValidationHandler> execute(
+      CreateTransfersBatchCommand command) {
+    if (command == null || command.items() == null || command.items().isEmpty()) {
+      return Result.error(StackValidationHandler.create(new Error("At least one transfer must be provided")));
+    }
+    if (command.items().size() > MAX_ITEMS) {
+      return Result.error(StackValidationHandler.create(
+          new Error("A single batch cannot create more than " + MAX_ITEMS + " transfers")));
+    }
+
+    final var transferFees = transferRepository.listAllFees();
+    if (transferFees.isError()) {
+      return Result.error(StackValidationHandler.create(transferFees.getError()));
+    }
+
+    final var schedule = feeCalculatorService.scheduleOf(transferFees.getSuccess());
+    final var now = Instant.now();
+    final var items = command.items();
+    final var results = new CreateTransfersBatchItemResult[items.size()];
+
+    final var chunk = new ArrayList<Transfer>(CHUNK_SIZE);
+    final var chunkIndexes = new int[CHUNK_SIZE];
+
+    for (int index = 0; index < items.size(); index++) {
+      final var transferResult = build(items.get(index), schedule, now);
+      if (transferResult.isError()) {
+        results[index] = CreateTransfersBatchItemResult.failed(index, transferResult.getError().getErrors());
+        continue;
+      }
+
+      chunkIndexes[chunk.size()] = index;
+      chunk.add(transferResult.getSuccess());
+      if (chunk.size() == CHUNK_SIZE) {
+        flush(chunk, chunkIndexes, results);
+      }
+    }
+    flush(chunk, chunkIndexes, results);
+
+    return Result.success(Arrays.asList(results));
+  }
+
+  /**
+   * Prices and validates a single item.
+   */
+  private Result<Transfer, ValidationHandler> build(
+      CreateTransferCommand item,
+      TransferFeeSchedule schedule,
+      Instant now) {
+    if (item == null) {
+      return Result.error(StackValidationHandler.create(new Error("Transfer cannot be null")));
+    }
+
+    if (item.scheduledDate() == null) {
+      return Result.error(StackValidationHandler.create(new Error("Invalid scheduled date")));
+    }
+    final Instant scheduledDate;
+    try {
+      scheduledDate = Instant.parse(item.scheduledDate());
+    } catch (DateTimeParseException e) {
+      return Result.error(StackValidationHandler.create(new Error("Invalid scheduled date")));
+    }
+
+    final var transferFeeResult = feeCalculatorService.calculateFee(schedule, now, scheduledDate);
+    if (transferFeeResult.isError()) {
+      final ValidationHandler feeErrors = StackValidationHandler.create();
+      transferFeeResult.getError().getErrors().forEach(feeErrors::append);
+      return Result.error(feeErrors);
+    }
+
+    final ValidationHandler validationHandler = StackValidationHandler.create();
+    if (!MoneyValidator.validateRange(item.amount(), validationHandler)) {
+      return Result.error(validationHandler);
+    }
+
+    final var transfer = Transfer.create(
+        Account.create(item.sourceAccount()),
+        Account.create(item.destinationAccount()),
+        Money.of(item.amount()),
+        scheduledDate,
+        transferFeeResult.getSuccess());
+
+    transfer.validate(validationHandler);
+
+    return validationHandler.hasErrors()
+        ? Result.error(validationHandler)
+        : Result.success(transfer);
+  }
+
+  /**
+   * Persists the pending chunk and records the outcome of each of its items.
+   */
+  private void flush(List<Transfer> chunk, int[] chunkIndexes, CreateTransfersBatchItemResult[] results) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    final var saveResult = transferRepository.saveAll(chunk);
+    for (int i = 0; i < chunk.size(); i++) {
+      final int index = chunkIndexes[i];
+      results[index] = saveResult.isError()
+          ? CreateTransfersBatchItemResult.failed(index, saveResult.getError().getErrors())
+          : CreateTransfersBatchItemResult.created(index, chunk.get(i).getId().getValue());
+    }
+    chunk.clear();
+  }
+}
@@ -1,7 +1,6 @@
 package com.johnnycarreiro.fts.application.transfer.create;
 
-import java.time.Instant;
-import java.util.UUID;
+import java.math.BigDecimal;
 
 /**
  * Command object for creating a new Transfer.
@@ -9,7 +8,7 @@ import java.util.UUID;
 public record CreateTransferCommand(
     String sourceAccount,
     String destinationAccount,
-    double amount,
+    BigDecimal amount,
     String scheduledDate) {
   /**
    * Factory method to create a new CreateTransferCommand from String IDs for
@@ -26,7 +25,7 @@ public record CreateTransferCommand(
   public static CreateTransferCommand of(
       final String sourceAccountStr,
       final String destinationAccountStr,
-      final double amount,
+      final BigDecimal amount,
       final String scheduledDate) {
     return new CreateTransferCommand(sourceAccountStr, destinationAccountStr, amount, scheduledDate);
   }
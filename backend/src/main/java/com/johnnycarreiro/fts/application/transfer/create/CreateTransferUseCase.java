@@ -1,8 +1,10 @@
 package com.johnnycarreiro.fts.application.transfer.create;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 
 import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.exceptions.UnavailableException;
 import com.johnnycarreiro.fts.core.domain.validation.Error;
 import com.johnnycarreiro.fts.core.domain.validation.StackValidationHandler;
 import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
@@ -11,7 +13,10 @@ import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
 import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
 import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
 import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+import com.johnnycarreiro.fts.domain.services.TransferFeeSchedule;
 import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.domain.value_objects.money.MoneyValidator;
 
 /**
  * CreateTransferUseCase
@@ -24,12 +29,15 @@ import com.johnnycarreiro.fts.domain.value_objects.account.Account;
  * determine the appropriate
  * fee for the transfer, and uses the `TransferRepository` to persist the
  * transfer.
+ *
+ * The use case is a stateless singleton: every execution gets its own
+ * `ValidationHandler` and resolves its fee against an immutable schedule
+ * snapshot, so concurrent requests never share mutable state.
  */
 public class CreateTransferUseCase {
 
   private final TransferFeeCalculatorService feeCalculatorService;
   private final TransferRepository transferRepository;
-  private ValidationHandler validationHandler = StackValidationHandler.create();
 
   /**
    * Constructor to initialize the `CreateTransferUseCase` with required services.
@@ -60,28 +68,43 @@ public class CreateTransferUseCase {
    *         failure of the transfer creation.
    */
   public Result<Transfer, ValidationHandler> execute(CreateTransferCommand transferCommnd) {
+    final ValidationHandler validationHandler = StackValidationHandler.create();
+
     final var transferFees = transferRepository.listAllFees();
     if (transferFees.isError()) {
-      return Result.error(StackValidationHandler.create(transferFees.getError()));
+      return Result.error(validationHandler.append(StackValidationHandler.create(transferFees.getError())));
     }
 
-    this.feeCalculatorService.setTransferFee(transferFees.getSuccess());
+    final TransferFeeSchedule schedule = this.feeCalculatorService.scheduleOf(transferFees.getSuccess());
+
+    if (transferCommnd.scheduledDate() == null) {
+      return Result.error(validationHandler.append(new Error("Invalid scheduled date")));
+    }
+    final Instant scheduledDate;
+    try {
+      scheduledDate = Instant.parse(transferCommnd.scheduledDate());
+    } catch (DateTimeParseException e) {
+      return Result.error(validationHandler.append(new Error("Invalid scheduled date")));
+    }
 
-    var transferFeeResult = this.feeCalculatorService.calculateFee(
-        Instant.now(),
-        Instant.parse(transferCommnd.scheduledDate()));
+    var transferFeeResult = this.feeCalculatorService.calculateFee(schedule, Instant.now(), scheduledDate);
 
     if (transferFeeResult.isError()) {
-      return Result.error(StackValidationHandler.create(transferFees.getError()));
+      transferFeeResult.getError().getErrors().forEach(validationHandler::append);
+      return Result.error(validationHandler);
     }
 
     TransferFee transferFee = transferFeeResult.getSuccess();
 
+    if (!MoneyValidator.validateRange(transferCommnd.amount(), validationHandler)) {
+      return Result.error(validationHandler);
+    }
+
     Transfer transfer = Transfer.create(
-        Account.create(transferCommnd.sourceAccount().toString()),
-        Account.create(transferCommnd.destinationAccount().toString()),
-        transferCommnd.amount(),
-        Instant.parse(transferCommnd.scheduledDate()),
+        Account.create(transferCommnd.sourceAccount()),
+        Account.create(transferCommnd.destinationAccount()),
+        Money.of(transferCommnd.amount()),
+        scheduledDate,
         transferFee);
 
     transfer.validate(validationHandler);
@@ -97,7 +120,9 @@ public class CreateTransferUseCase {
    * This method attempts to persist the transfer to the repository. If the save
    * operation fails, it returns
    * a `Result.error` containing the error message. If successful, it returns the
-   * created transfer.
+   * created transfer. An {@link UnavailableException} is thrown instead: the
+   * transfer was not saved and the same request may succeed later, so it must
+   * not be answered, or replayed, as a rejection of the transfer itself.
    * 
    * @param transfer the `Transfer` object to be saved to the repository.
    * @return a `Result<Transfer, DomainException>` indicating the success or
@@ -107,6 +132,9 @@ public class CreateTransferUseCase {
     Result<Void, DomainException> saveResult = transferRepository.save(transfer);
 
     if (saveResult.isError()) {
+      if (saveResult.getError() instanceof UnavailableException unavailable) {
+        throw unavailable;
+      }
       return Result.error(StackValidationHandler.create(saveResult.getError()));
     }
 
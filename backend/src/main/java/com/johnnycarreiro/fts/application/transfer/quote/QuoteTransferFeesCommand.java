@@ -0,0 +1,29 @@
+package com.johnnycarreiro.fts.application.transfer.quote;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Command object for quoting the fees of many candidate transfers at once.
+ */
+public record QuoteTransferFeesCommand(List<Item> items) {
+
+  /**
+   * A single candidate transfer to quote.
+   *
+   * @param amount        The transfer amount.
+   * @param scheduledDate The scheduled transfer date (ISO-8601 string).
+   */
+  public record Item(BigDecimal amount, String scheduledDate) {
+  }
+
+  /**
+   * Factory method to create a new QuoteTransferFeesCommand.
+   *
+   * @param items The candidate transfers to quote.
+   * @return a new instance of QuoteTransferFeesCommand.
+   */
+  public static QuoteTransferFeesCommand of(final List<Item> items) {
+    return new QuoteTransferFeesCommand(items);
+  }
+}
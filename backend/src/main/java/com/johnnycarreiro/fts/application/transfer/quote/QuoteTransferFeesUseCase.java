@@ -0,0 +1,123 @@
+package com.johnnycarreiro.fts.application.transfer.quote;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.core.domain.validation.StackValidationHandler;
+import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+import com.johnnycarreiro.fts.core.utils.Result;
+import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
+import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.domain.value_objects.money.MoneyValidator;
+
+/**
+ * QuoteTransferFeesUseCase
+ *
+ * Previews the fee of many candidate transfers without creating any of them.
+ * Every item is resolved against the same fee schedule snapshot and the same
+ * reference instant, so the quotes in one response are consistent with each
+ * other. Only the fee rules are read; the transfers table is never touched.
+ */
+public class QuoteTransferFeesUseCase {
+
+  /**
+   * Upper bound on the number of items accepted in a single request.
+   */
+  public static final int MAX_ITEMS = 10_000;
+
+  private final TransferFeeCalculatorService feeCalculatorService;
+  private final TransferRepository transferRepository;
+
+  /**
+   * Constructor to initialize the `QuoteTransferFeesUseCase` with required
+   * services.
+   *
+   * @param feeCalculatorService an instance of the `TransferFeeCalculatorService`
+   *                             to resolve the fee rules.
+   * @param transferRepository   an instance of the `TransferRepository` to read
+   *                             the fee rules from.
+   */
+  public QuoteTransferFeesUseCase(TransferFeeCalculatorService feeCalculatorService,
+      TransferRepository transferRepository) {
+    this.feeCalculatorService = feeCalculatorService;
+    this.transferRepository = transferRepository;
+  }
+
+  /**
+   * Executes the use case for quoting transfer fees.
+   *
+   * Items that cannot be quoted (bad amount, bad date, no matching rule) get
+   * a quote carrying their errors; they do not fail the whole request.
+   *
+   * @param command a `QuoteTransferFeesCommand` with the candidate transfers.
+   * @return a `Result` with one quote per item, in request order, or the
+   *         errors that prevented quoting altogether.
+   */
+  public Result<List<TransferFeeQuote>, ValidationHandler> execute(QuoteTransferFeesCommand command) {
+    if (command == null || command.items() == null || command.items().isEmpty()) {
+      return Result.error(StackValidationHandler.create(new Error("At least one item must be quoted")));
+    }
+    if (command.items().size() > MAX_ITEMS) {
+      return Result.error(StackValidationHandler.create(
+          new Error("A single request cannot quote more than " + MAX_ITEMS + " items")));
+    }
+
+    final var transferFees = transferRepository.listAllFees();
+    if (transferFees.isError()) {
+      return Result.error(StackValidationHandler.create(transferFees.getError()));
+    }
+
+    final var schedule = feeCalculatorService.scheduleOf(transferFees.getSuccess());
+    final var now = Instant.now();
+    final var quotes = new ArrayList<TransferFeeQuote>(command.items().size());
+
+    for (QuoteTransferFeesCommand.Item item : command.items()) {
+      final var amount = item.amount();
+
+      if (item.scheduledDate() == null) {
+        quotes.add(TransferFeeQuote.error(amount, null, List.of(new Error("Invalid scheduled date"))));
+        continue;
+      }
+      final Instant scheduledDate;
+      try {
+        scheduledDate = Instant.parse(item.scheduledDate());
+      } catch (DateTimeParseException e) {
+        quotes.add(TransferFeeQuote.error(amount, null, List.of(new Error("Invalid scheduled date"))));
+        continue;
+      }
+
+      final ValidationHandler amountErrors = StackValidationHandler.create();
+      if (!MoneyValidator.validateRange(amount, amountErrors)) {
+        quotes.add(TransferFeeQuote.error(amount, scheduledDate, amountErrors.getErrors()));
+        continue;
+      }
+
+      final var money = Money.of(amount);
+      if (money == null || !money.isPositive()) {
+        quotes.add(TransferFeeQuote.error(amount, scheduledDate,
+            List.of(new Error("Amount must be greater than zero"))));
+        continue;
+      }
+
+      final var fee = feeCalculatorService.calculateFee(schedule, now, scheduledDate);
+      if (fee.isError()) {
+        quotes.add(TransferFeeQuote.error(amount, scheduledDate, fee.getError().getErrors()));
+        continue;
+      }
+
+      final var rule = fee.getSuccess();
+      quotes.add(TransferFeeQuote.success(
+          money.toBigDecimal(),
+          scheduledDate,
+          rule.getFixedFeeAmount().toBigDecimal(),
+          rule.getPercentageFee(),
+          rule.calculateTotalFee(money).toBigDecimal()));
+    }
+
+    return Result.success(quotes);
+  }
+}
@@ -0,0 +1,42 @@
+package com.johnnycarreiro.fts.application.transfer.quote;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+
+/**
+ * Fee quote for one candidate transfer.
+ *
+ * When the item could not be quoted the fee fields are null and `errors`
+ * explains why.
+ *
+ * @param amount        The quoted amount.
+ * @param scheduledDate The quoted scheduled date.
+ * @param fixedFee      The fixed fee of the matching rule.
+ * @param percentageFee The percentage fee of the matching rule.
+ * @param totalFee      The total fee, as {@code Transfer#getTotalFee} computes it.
+ * @param errors        The reasons the item could not be quoted, if any.
+ */
+public record TransferFeeQuote(
+    BigDecimal amount,
+    Instant scheduledDate,
+    BigDecimal fixedFee,
+    BigDecimal percentageFee,
+    BigDecimal totalFee,
+    List<Error> errors) {
+
+  static TransferFeeQuote success(
+      final BigDecimal amount,
+      final Instant scheduledDate,
+      final BigDecimal fixedFee,
+      final BigDecimal percentageFee,
+      final BigDecimal totalFee) {
+    return new TransferFeeQuote(amount, scheduledDate, fixedFee, percentageFee, totalFee, List.of());
+  }
+
+  static TransferFeeQuote error(final BigDecimal amount, final Instant scheduledDate, final List<Error> errors) {
+    return new TransferFeeQuote(amount, scheduledDate, null, null, null, errors);
+  }
+}
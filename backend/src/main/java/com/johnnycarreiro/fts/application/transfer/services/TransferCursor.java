@@ -0,0 +1,46 @@
+package com.johnnycarreiro.fts.application.transfer.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Position of a page of transfers in `(createdAt, id)` order: the last
+ * transfer already returned. Clients get it as an opaque token and send it
+ * back unchanged to fetch the next page.
+ *
+ * @param createdAt When the last returned transfer was created.
+ * @param id        Its id, which breaks ties between equal timestamps.
+ */
+public record TransferCursor(Instant createdAt, String id) {
+
+  private static final char SEPARATOR = '|';
+
+  /**
+   * @return the token handed to clients.
+   */
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((createdAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the cursor a token stands for, or empty if it was not produced
+   *         by {@link #encode()}.
+   */
+  public static Optional<TransferCursor> decode(final String token) {
+    try {
+      final var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      final int separator = decoded.indexOf(SEPARATOR);
+      if (separator < 0 || separator == decoded.length() - 1) {
+        return Optional.empty();
+      }
+      return Optional.of(new TransferCursor(Instant.parse(decoded.substring(0, separator)),
+          decoded.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      return Optional.empty();
+    }
+  }
+}
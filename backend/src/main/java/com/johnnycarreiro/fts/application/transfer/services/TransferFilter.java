@@ -0,0 +1,35 @@
+package com.johnnycarreiro.fts.application.transfer.services;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Conditions a listed transfer must meet; null fields match everything.
+ * Ranges are inclusive on both ends.
+ *
+ * @param sourceAccount      The account the money leaves from.
+ * @param destinationAccount The account the money goes to.
+ * @param status             The transfer status, as its lowercase value.
+ * @param scheduledFrom      Earliest scheduled date.
+ * @param scheduledTo        Latest scheduled date.
+ * @param minAmount          Smallest amount.
+ * @param maxAmount          Largest amount.
+ */
+public record TransferFilter(
+    String sourceAccount,
+    String destinationAccount,
+    String status,
+    Instant scheduledFrom,
+    Instant scheduledTo,
+    BigDecimal minAmount,
+    BigDecimal maxAmount) {
+
+  private static final TransferFilter NONE = new TransferFilter(null, null, null, null, null, null, null);
+
+  /**
+   * @return a filter that matches every transfer.
+   */
+  public static TransferFilter none() {
+    return NONE;
+  }
+}
@@ -0,0 +1,14 @@
+package com.johnnycarreiro.fts.application.transfer.services;
+
+import java.util.List;
+
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+
+/**
+ * One page of transfers, newest first.
+ *
+ * @param items      The transfers on this page.
+ * @param nextCursor Token for the following page; null on the last one.
+ */
+public record TransferPage(List<Transfer> items, String nextCursor) {
+}
@@ -0,0 +1,26 @@
+package com.johnnycarreiro.fts.application.transfer.services;
+
+import java.util.List;
+
+/**
+ * What a {@link TransferPage} is made of, without its content: the
+ * transfers on it, in order, and whether another page follows.
+ *
+ * Transfers are created with their `createdAt` and never move along the
+ * listing, so these two things decide the whole page, `nextCursor`
+ * included.
+ *
+ * @param items   The versions of the transfers on the page.
+ * @param hasNext Whether the page has a `nextCursor`.
+ */
+public record TransferPageVersion(List<TransferVersion> items, boolean hasNext) {
+
+  /**
+   * @return the version of a page already read.
+   */
+  public static TransferPageVersion of(final TransferPage page) {
+    return new TransferPageVersion(page.items().stream()
+        .map(transfer -> new TransferVersion(transfer.getId().getValue(), transfer.getUpdatedAt()))
+        .toList(), page.nextCursor() != null);
+  }
+}
@@ -1,30 +1,136 @@
 package com.johnnycarreiro.fts.application.transfer.services;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.core.domain.validation.StackValidationHandler;
+import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+import com.johnnycarreiro.fts.core.utils.Result;
 import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
 import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
 import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferRow;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferSearch;
 
 @Service
 public class TransferService {
 
+  /**
+   * Upper bound on the number of transfers returned in a single page.
+   */
+  public static final int MAX_PAGE_SIZE = 500;
+
   private final TransferJpaRepository transferJpaRepository;
+  private final TransferSearch transferSearch;
 
-  public TransferService(TransferJpaRepository transferJpaRepository) {
+  public TransferService(TransferJpaRepository transferJpaRepository, TransferSearch transferSearch) {
     this.transferJpaRepository = transferJpaRepository;
+    this.transferSearch = transferSearch;
   }
 
   public Optional<Transfer> findById(String id) {
     return transferJpaRepository.findById(id).map(TransferEntity::toDomain);
   }
 
-  public List<Transfer> listAll() {
-    return transferJpaRepository.findAll().stream()
-        .map(TransferEntity::toDomain)
-        .toList();
+  /**
+   * Lists transfers matching `filter` newest first, one keyset page at a
+   * time.
+   *
+   * The page is read by {@link TransferSearch} in one query, starting right
+   * after the cursor along `(created_at, id)`, so fetching any page costs
+   * the same however many rows come before it. Transfers and their fees come
+   * back together as flat rows; no entity is loaded.
+   *
+   * @param cursor The `nextCursor` of the previous page, or null for the
+   *               first one.
+   * @param limit  Maximum number of transfers to return.
+   * @param filter What the transfers must match.
+   * @return a `Result` with the page, or the errors in the parameters.
+   */
+  public Result<TransferPage, ValidationHandler> listPage(String cursor, int limit, TransferFilter filter) {
+    final var errors = StackValidationHandler.create();
+    final var after = parse(cursor, limit, filter, errors);
+    if (errors.hasErrors()) {
+      return Result.error(errors);
+    }
+
+    // One row past the limit tells whether another page follows.
+    final var rows = transferSearch.findPage(filter, after, limit + 1);
+    final var page = rows.subList(0, Math.min(limit, rows.size()));
+    final List<Transfer> items = page.stream().map(TransferRow::toDomain).toList();
+    final var nextCursor = rows.size() > limit ? page.get(limit - 1).cursor().encode() : null;
+    return Result.success(new TransferPage(items, nextCursor));
+  }
+
+  /**
+   * @return when the transfer last changed, or empty if it does not exist;
+   *         one primary key lookup of a single column.
+   */
+  public Optional<Instant> findVersion(String id) {
+    return transferSearch.findVersion(id);
+  }
+
+  /**
+   * Tells which transfers {@link #listPage} would return for the same
+   * arguments and when each last changed, without reading their content.
+   *
+   * @return a `Result` with the version of the page, or the errors in the
+   *         parameters.
+   */
+  public Result<TransferPageVersion, ValidationHandler> pageVersion(String cursor, int limit,
+      TransferFilter filter) {
+    final var errors = StackValidationHandler.create();
+    final var after = parse(cursor, limit, filter, errors);
+    if (errors.hasErrors()) {
+      return Result.error(errors);
+    }
+
+    final var versions = transferSearch.findPageVersions(filter, after, limit + 1);
+    return Result.success(new TransferPageVersion(versions.subList(0, Math.min(limit, versions.size())),
+        versions.size() > limit));
+  }
+
+  /**
+   * Checks the parameters of a page, appending what is wrong to `errors`.
+   *
+   * @return the decoded cursor, or null for the first page.
+   */
+  private static TransferCursor parse(final String cursor, final int limit, final TransferFilter filter,
+      final ValidationHandler errors) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      errors.append(new Error("limit must be between 1 and " + MAX_PAGE_SIZE));
+    }
+    TransferCursor after = null;
+    if (cursor != null && !cursor.isBlank()) {
+      after = TransferCursor.decode(cursor).orElse(null);
+      if (after == null) {
+        errors.append(new Error("Invalid cursor"));
+      }
+    }
+    validate(filter, errors);
+    return after;
+  }
+
+  private static void validate(final TransferFilter filter, final ValidationHandler errors) {
+    if (filter.status() != null) {
+      try {
+        Status.fromString(filter.status());
+      } catch (IllegalArgumentException e) {
+        errors.append(new Error(e.getMessage()));
+      }
+    }
+    if (filter.scheduledFrom() != null && filter.scheduledTo() != null
+        && filter.scheduledFrom().isAfter(filter.scheduledTo())) {
+      errors.append(new Error("scheduledFrom must not be after scheduledTo"));
+    }
+    if (filter.minAmount() != null && filter.maxAmount() != null
+        && filter.minAmount().compareTo(filter.maxAmount()) > 0) {
+      errors.append(new Error("minAmount must not be greater than maxAmount"));
+    }
   }
 }
@@ -0,0 +1,13 @@
+package com.johnnycarreiro.fts.application.transfer.services;
+
+import java.time.Instant;
+
+/**
+ * The last time a transfer was written, which is all a conditional request
+ * needs to know about it.
+ *
+ * @param id        The transfer id.
+ * @param updatedAt When its row last changed.
+ */
+public record TransferVersion(String id, Instant updatedAt) {
+}
@@ -0,0 +1,43 @@
+package com.johnnycarreiro.fts.configurations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummaries;
+
+/**
+ * Recomputes the `account_summary` read model from scratch when the
+ * application starts with `--rebuild-account-summary`, e.g.
+ * `./gradlew bootRun --args='--rebuild-account-summary'`.
+ */
+@Configuration
+public class AccountSummaryRebuildConfig {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountSummaryRebuildConfig.class);
+
+  private static final String REBUILD_ARG = "--rebuild-account-summary";
+
+  private final AccountSummaries accountSummaries;
+
+  AccountSummaryRebuildConfig(AccountSummaries accountSummaries) {
+    this.accountSummaries = accountSummaries;
+  }
+
+  @Bean
+  CommandLineRunner rebuildAccountSummary() {
+    return args -> {
+      for (String arg : args) {
+        if (arg.equals(REBUILD_ARG)) {
+          final long started = System.nanoTime();
+          final int accounts = accountSummaries.rebuild();
+          log.info("Rebuilt account_summary for {} accounts in {} ms", accounts,
+              (System.nanoTime() - started) / 1_000_000);
+          return;
+        }
+      }
+    };
+  }
+}
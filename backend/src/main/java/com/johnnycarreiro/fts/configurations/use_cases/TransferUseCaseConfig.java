@@ -1,12 +1,21 @@
 
 package com.johnnycarreiro.fts.configurations.use_cases;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.johnnycarreiro.fts.application.transfer.batch.CreateTransfersBatchUseCase;
 import com.johnnycarreiro.fts.application.transfer.create.CreateTransferUseCase;
+import com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesUseCase;
 import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummaries;
 import com.johnnycarreiro.fts.infra.transfer.JpaTransferRepository;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferCache;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+import com.johnnycarreiro.fts.infra.transfer.persistence.GroupCommitTransferWriter;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferBatchWriter;
 import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
 
 @Configuration
@@ -14,8 +23,12 @@ public class TransferUseCaseConfig {
 
   private final JpaTransferRepository transferRepository;
 
-  TransferUseCaseConfig(TransferJpaRepository jpaRepository) {
-    this.transferRepository = new JpaTransferRepository(jpaRepository);
+  TransferUseCaseConfig(TransferJpaRepository jpaRepository, TransferFeeCache feeCache,
+      TransferBatchWriter batchWriter, GroupCommitTransferWriter groupCommitWriter,
+      ApplicationEventPublisher eventPublisher, AccountSummaries accountSummaries,
+      TransferCache transferCache, PlatformTransactionManager transactionManager) {
+    this.transferRepository = new JpaTransferRepository(jpaRepository, feeCache, batchWriter, groupCommitWriter,
+        eventPublisher, accountSummaries, transferCache, transactionManager);
   }
 
   @Bean
@@ -27,4 +40,14 @@ public class TransferUseCaseConfig {
   public CreateTransferUseCase createTransferUseCase(TransferFeeCalculatorService feeCalculatorService) {
     return new CreateTransferUseCase(feeCalculatorService, transferRepository);
   }
+
+  @Bean
+  public CreateTransfersBatchUseCase createTransfersBatchUseCase(TransferFeeCalculatorService feeCalculatorService) {
+    return new CreateTransfersBatchUseCase(feeCalculatorService, transferRepository);
+  }
+
+  @Bean
+  public QuoteTransferFeesUseCase quoteTransferFeesUseCase(TransferFeeCalculatorService feeCalculatorService) {
+    return new QuoteTransferFeesUseCase(feeCalculatorService, transferRepository);
+  }
 }
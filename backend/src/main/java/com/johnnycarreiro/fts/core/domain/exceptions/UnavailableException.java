@@ -0,0 +1,22 @@
+package com.johnnycarreiro.fts.core.domain.exceptions;
+
+import java.util.List;
+
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+
+/**
+ * The request could not be served right now, e.g. because the write path
+ * is overloaded, and nothing was changed. Answered with
+ * `503 Service Unavailable` and a `Retry-After`; unlike a validation error,
+ * the same request may succeed when retried.
+ */
+public class UnavailableException extends DomainException {
+
+  protected UnavailableException(final String message, final List<Error> errors) {
+    super(message, errors);
+  }
+
+  public static UnavailableException with(final Error error) {
+    return new UnavailableException(error.message(), List.of(error));
+  }
+}
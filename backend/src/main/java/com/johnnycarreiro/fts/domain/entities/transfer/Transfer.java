@@ -4,6 +4,7 @@ import com.johnnycarreiro.fts.core.domain.AggregateRoot;
 import com.johnnycarreiro.fts.core.domain.EntityId;
 import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
 import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
 import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
 import com.johnnycarreiro.fts.domain.value_objects.transfer_status.*;
 import lombok.Getter;
@@ -31,7 +32,7 @@ public class Transfer extends AggregateRoot<String, EntityId> {
   /**
    * The amount of money being transferred.
    */
-  private BigDecimal amount;
+  private Money amount;
 
   /**
    * The date when the transfer is scheduled.
@@ -51,7 +52,7 @@ public class Transfer extends AggregateRoot<String, EntityId> {
   /**
    * The fixed fee for the transfer.
    */
-  private BigDecimal fixedFee;
+  private Money fixedFee;
 
   /**
    * The percentage fee for the transfer.
@@ -85,11 +86,11 @@ public class Transfer extends AggregateRoot<String, EntityId> {
       final EntityId id,
       final Account sourceAccount,
       final Account destinationAccount,
-      final BigDecimal amount,
+      final Money amount,
       final Instant scheduledDate,
       final Instant transdferDate,
       final TransferFee transferFee,
-      final BigDecimal fixedFee,
+      final Money fixedFee,
       final BigDecimal percentageFee,
       final TransferStatus status,
       final Instant createdAt,
@@ -121,18 +122,18 @@ public class Transfer extends AggregateRoot<String, EntityId> {
   public static Transfer create(
       final Account sourceAccount,
       final Account destinationAccount,
-      final double amount,
+      final Money amount,
       final Instant schedluedDate,
       final TransferFee transferFee) {
     return new Transfer(
         EntityId.create(),
         sourceAccount,
         destinationAccount,
-        BigDecimal.valueOf(amount),
+        amount,
         schedluedDate,
         Instant.now(),
         transferFee,
-        transferFee.getFixedFee(),
+        transferFee.getFixedFeeAmount(),
         transferFee.getPercentageFee(),
         TransferStatus.from(Status.SCHEDULED),
         Instant.now(),
@@ -158,11 +159,11 @@ public class Transfer extends AggregateRoot<String, EntityId> {
       String id,
       String sourceAccount,
       String destinationAccount,
-      double amount,
+      Money amount,
       Instant scheduledDate,
       Instant transferDate,
       TransferFee transferFee,
-      BigDecimal fixedFee,
+      Money fixedFee,
       BigDecimal percentageFee,
       String status,
       Instant createdAt,
@@ -172,7 +173,7 @@ public class Transfer extends AggregateRoot<String, EntityId> {
         EntityId.from(id),
         Account.from(sourceAccount),
         Account.from(destinationAccount),
-        BigDecimal.valueOf(amount),
+        amount,
         scheduledDate,
         transferDate,
         transferFee,
@@ -192,12 +193,12 @@ public class Transfer extends AggregateRoot<String, EntityId> {
    * @param transferFee  The new transfer fee.
    * @return The updated Transfer instance.
    */
-  public Transfer update(final BigDecimal amount, final Instant transferDate, final TransferFee transferFee) {
+  public Transfer update(final Money amount, final Instant transferDate, final TransferFee transferFee) {
     this.amount = amount;
     this.transferDate = transferDate;
     this.setUpdatedAt(Instant.now());
     this.transferFee = transferFee;
-    this.fixedFee = transferFee.getFixedFee();
+    this.fixedFee = transferFee.getFixedFeeAmount();
     this.percentageFee = transferFee.getPercentageFee();
     return this;
   }
@@ -239,15 +240,14 @@ public class Transfer extends AggregateRoot<String, EntityId> {
    * 
    * @return the total fee
    */
-  private BigDecimal calculateTotalFee() {
-    BigDecimal percentageFee = this.transferFee.getPercentageFee().multiply(this.amount);
-    return this.transferFee.getFixedFee().add(percentageFee);
+  private Money calculateTotalFee() {
+    return this.transferFee.calculateTotalFee(this.amount);
   }
 
   /**
    * @return the total fee
    */
-  public BigDecimal getTotalFee() {
+  public Money getTotalFee() {
     return calculateTotalFee();
   }
 
@@ -32,6 +32,15 @@ public interface TransferRepository {
    */
   Result<Void, DomainException> save(Transfer transfer);
 
+  /**
+   * Saves many new Transfer entities in one unit of work.
+   * Either all of them are stored or none is.
+   *
+   * @param transfers the new Transfer entities to save.
+   * @return a Result indicating success or an error.
+   */
+  Result<Void, DomainException> saveAll(List<Transfer> transfers);
+
   /**
    * Finds a Transfer by its unique identifier.
    *
@@ -5,7 +5,6 @@ import com.johnnycarreiro.fts.core.domain.validation.Error;
 import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
 import com.johnnycarreiro.fts.core.domain.validation.Validator;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -27,7 +26,7 @@ public class TransferValidator extends Validator {
       return;
     }
 
-    if (transfer.getAmount() == null || transfer.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+    if (transfer.getAmount() == null || !transfer.getAmount().isPositive()) {
       this.validationHandler().append(new Error("Amount must be greater than zero"));
     }
 
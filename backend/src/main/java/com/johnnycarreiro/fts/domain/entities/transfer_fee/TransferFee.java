@@ -7,6 +7,7 @@ import java.util.Objects;
 import com.johnnycarreiro.fts.core.domain.Entity;
 import com.johnnycarreiro.fts.core.domain.EntityId;
 import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
 
 import lombok.Getter;
 
@@ -18,6 +19,17 @@ public class TransferFee extends Entity<String, EntityId> {
   private final BigDecimal fixedFee;
   private final BigDecimal percentageFee;
 
+  /**
+   * The fixed fee in cents, derived from `fixedFee`.
+   */
+  private final Money fixedFeeAmount;
+
+  /**
+   * The percentage fee in millionths, derived from `percentageFee`, or -1 when
+   * it is too precise to be represented that way.
+   */
+  private final long percentageFeeMicros;
+
   private TransferFee(
       final String id,
       final String name,
@@ -34,6 +46,8 @@ public class TransferFee extends Entity<String, EntityId> {
     this.maxDays = maxDays;
     this.fixedFee = fixedFee;
     this.percentageFee = percentageFee;
+    this.fixedFeeAmount = Money.of(fixedFee);
+    this.percentageFeeMicros = Money.rateMicros(percentageFee);
   }
 
   public static TransferFee create(
@@ -76,6 +90,20 @@ public class TransferFee extends Entity<String, EntityId> {
         deletedAt);
   }
 
+  /**
+   * Calculates the total fee this rule charges for the given amount.
+   * The percentage part is rounded to cents with {@link Money#ROUNDING}.
+   *
+   * @param amount the transfer amount.
+   * @return the fixed fee plus the percentage fee applied to the amount.
+   */
+  public Money calculateTotalFee(final Money amount) {
+    final Money percentage = this.percentageFeeMicros >= 0
+        ? amount.percentage(this.percentageFeeMicros)
+        : amount.percentage(this.percentageFee);
+    return this.fixedFeeAmount.plus(percentage);
+  }
+
   @Override
   public void validate(ValidationHandler handler) {
     new TransferFeeValidator(this, handler).validate();
@@ -1,7 +1,7 @@
 package com.johnnycarreiro.fts.domain.services;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
@@ -11,7 +11,11 @@ import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
 
 public class TransferFeeCalculatorService {
 
-  private List<TransferFee> feeRules;
+  /**
+   * The compiled fee rules. Replaced as a whole by
+   * {@link #setTransferFee(List)}, so readers always see a consistent table.
+   */
+  private volatile TransferFeeSchedule schedule = TransferFeeSchedule.empty();
 
   public TransferFeeCalculatorService() {
   }
@@ -25,18 +29,34 @@ public class TransferFeeCalculatorService {
    *         message.
    */
   public Result<TransferFee, DomainException> calculateFee(Instant scheduledDateAt, Instant scheduledDateFor) {
-    if (feeRules == null || feeRules.isEmpty()) {
+    return calculateFee(this.schedule, scheduledDateAt, scheduledDateFor);
+  }
+
+  /**
+   * Calculates the fee for a transfer against the given schedule instead of
+   * the one currently configured on the service.
+   *
+   * @param schedule         The fee schedule to resolve against.
+   * @param scheduledDateAt  The date the transfer was scheduled.
+   * @param scheduledDateFor The date the transfer is intended for.
+   * @return A Result encapsulating either the matched TransferFee or an error
+   *         message.
+   */
+  public Result<TransferFee, DomainException> calculateFee(
+      TransferFeeSchedule schedule,
+      Instant scheduledDateAt,
+      Instant scheduledDateFor) {
+    if (schedule == null || schedule.isEmpty()) {
       return Result.error(DomainException.with(new Error("Fee rules are not configured.")));
     }
 
-    long daysDifference = Duration.between(scheduledDateAt, scheduledDateFor).toDays();
+    long daysDifference = ChronoUnit.DAYS.between(scheduledDateAt, scheduledDateFor);
 
-    return feeRules.stream()
-        .filter(rule -> (rule.getMinDays() <= daysDifference) &&
-            (rule.getMaxDays() == null || rule.getMaxDays() >= daysDifference))
-        .findFirst()
-        .<Result<TransferFee, DomainException>>map(Result::success)
-        .orElseGet(() -> Result.error(DomainException.with(new Error("No fee rule matches the provided dates."))));
+    TransferFee rule = schedule.find(daysDifference);
+    if (rule == null) {
+      return Result.error(DomainException.with(new Error("No fee rule matches the provided dates.")));
+    }
+    return Result.success(rule);
   }
 
   /**
@@ -49,7 +69,38 @@ public class TransferFeeCalculatorService {
     if (feeRules == null || feeRules.isEmpty()) {
       return Result.error("Fee rules cannot be null or empty.");
     }
-    this.feeRules = feeRules;
+    if (feeRules == this.schedule.getRules()) {
+      return Result.success(null); // Same cached list, nothing to recompile
+    }
+    this.schedule = TransferFeeSchedule.compile(feeRules);
     return Result.success(null); // Success without a value
   }
+
+  /**
+   * Returns an immutable schedule for the given rules.
+   * The current schedule is reused when it was compiled from the same list;
+   * otherwise the rules are compiled and the result becomes the current
+   * schedule, so later calls with the same cached list skip compilation.
+   *
+   * @param feeRules The fee rules to resolve against.
+   * @return An immutable fee schedule.
+   */
+  public TransferFeeSchedule scheduleOf(List<TransferFee> feeRules) {
+    final var current = this.schedule;
+    if (feeRules == current.getRules()) {
+      return current;
+    }
+    final var compiled = TransferFeeSchedule.compile(feeRules);
+    if (!compiled.isEmpty()) {
+      this.schedule = compiled;
+    }
+    return compiled;
+  }
+
+  /**
+   * @return the fee schedule currently in use.
+   */
+  public TransferFeeSchedule getSchedule() {
+    return schedule;
+  }
 }
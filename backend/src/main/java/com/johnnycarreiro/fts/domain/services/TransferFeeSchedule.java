@@ -0,0 +1,141 @@
+package com.johnnycarreiro.fts.domain.services;
+
+import java.util.List;
+
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+
+/**
+ * Immutable, day-indexed lookup table compiled from a list of fee rules.
+ *
+ * Every day inside the bounded range points straight at the rule that
+ * matches it, and any day past that range falls back to the first
+ * open-ended rule (`maxDays == null`). The table stops at
+ * {@link #MAX_TABLE_DAYS}; a rule reaching further is found by scanning the
+ * rules for the days past it, so a huge `maxDays` cannot allocate a huge
+ * array. Rules are resolved in list order, so
+ * the table returns exactly what a first-match scan over the list would.
+ * Instances are never mutated after {@link #compile(List)}, which makes them
+ * safe to share across threads without locking.
+ */
+public final class TransferFeeSchedule {
+
+  /**
+   * Days covered by the lookup table: ten years, well past how far ahead
+   * transfers are scheduled in practice.
+   */
+  static final int MAX_TABLE_DAYS = 3_660;
+
+  private static final TransferFeeSchedule EMPTY = new TransferFeeSchedule(new TransferFee[0], -1, null, List.of());
+
+  /**
+   * Rule for each day in `[0, byDay.length)`, or null when no rule covers it.
+   */
+  private final TransferFee[] byDay;
+
+  /**
+   * Last day a bounded rule or an open-ended rule's start covers; days in
+   * `[byDay.length, lastBoundedDay]` are resolved by scanning the rules.
+   */
+  private final long lastBoundedDay;
+
+  /**
+   * First open-ended rule, used for every day past the bounded range.
+   */
+  private final TransferFee tail;
+
+  /**
+   * The rules this schedule was compiled from, in their original order.
+   */
+  private final List<TransferFee> rules;
+
+  private TransferFeeSchedule(final TransferFee[] byDay, final long lastBoundedDay, final TransferFee tail,
+      final List<TransferFee> rules) {
+    this.byDay = byDay;
+    this.lastBoundedDay = lastBoundedDay;
+    this.tail = tail;
+    this.rules = rules;
+  }
+
+  /**
+   * @return a schedule without any rule configured.
+   */
+  public static TransferFeeSchedule empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Compiles the given rules into a lookup table.
+   *
+   * @param feeRules The fee rules, in priority order.
+   * @return A new immutable schedule.
+   */
+  public static TransferFeeSchedule compile(final List<TransferFee> feeRules) {
+    if (feeRules == null || feeRules.isEmpty()) {
+      return EMPTY;
+    }
+
+    long lastBoundedDay = -1;
+    TransferFee tail = null;
+    for (TransferFee rule : feeRules) {
+      if (rule.getMaxDays() == null) {
+        lastBoundedDay = Math.max(lastBoundedDay, rule.getMinDays());
+        if (tail == null) {
+          tail = rule;
+        }
+      } else {
+        lastBoundedDay = Math.max(lastBoundedDay, rule.getMaxDays());
+      }
+    }
+
+    final var rules = List.copyOf(feeRules);
+    final TransferFee[] byDay = new TransferFee[(int) Math.min(lastBoundedDay + 1, MAX_TABLE_DAYS)];
+    for (int day = 0; day < byDay.length; day++) {
+      byDay[day] = scan(rules, day);
+    }
+
+    return new TransferFeeSchedule(byDay, lastBoundedDay, tail, rules);
+  }
+
+  private static TransferFee scan(final List<TransferFee> rules, final long day) {
+    for (TransferFee rule : rules) {
+      if (rule.getMinDays() <= day && (rule.getMaxDays() == null || rule.getMaxDays() >= day)) {
+        return rule;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the rule that applies to a transfer scheduled the given number of
+   * days ahead.
+   *
+   * @param days Days between scheduling and execution.
+   * @return The matching rule, or null when none applies.
+   */
+  public TransferFee find(final long days) {
+    if (days < 0) {
+      return null;
+    }
+    if (days < byDay.length) {
+      return byDay[(int) days];
+    }
+    if (days <= lastBoundedDay) {
+      return scan(rules, days);
+    }
+    return tail;
+  }
+
+  /**
+   * @return true when no rule is configured.
+   */
+  public boolean isEmpty() {
+    return rules.isEmpty();
+  }
+
+  /**
+   * @return the rules this schedule was compiled from.
+   */
+  public List<TransferFee> getRules() {
+    return rules;
+  }
+}
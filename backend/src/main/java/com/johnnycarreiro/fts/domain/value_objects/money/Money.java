@@ -0,0 +1,230 @@
+package com.johnnycarreiro.fts.domain.value_objects.money;
+
+import com.johnnycarreiro.fts.core.domain.ValueObject;
+import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Represents an amount of money as a value object.
+ * Stored as a `long` of minor units (cents), so arithmetic on the fee path
+ * is exact and does not allocate.
+ */
+public final class Money extends ValueObject<Long> implements Comparable<Money> {
+
+  /** Number of decimal places of the minor unit. */
+  public static final int SCALE = 2;
+
+  /**
+   * Rounding applied whenever a value has to be brought back to whole cents,
+   * both when parsing amounts and when applying percentage fees.
+   */
+  public static final RoundingMode ROUNDING = RoundingMode.HALF_EVEN;
+
+  /** Rates are kept as integer millionths, e.g. 0.025 is 25000. */
+  public static final long RATE_ONE = 1_000_000L;
+
+  private static final int RATE_SCALE = 6;
+
+  public static final Money ZERO = new Money(0L);
+
+  /** Largest amount, in major units, whose cents still fit in a `long`. */
+  public static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(Long.MAX_VALUE, SCALE);
+
+  /** The amount in cents. */
+  private final long cents;
+
+  /**
+   * Private constructor to ensure immutability and controlled instantiation.
+   *
+   * @param cents the amount in cents.
+   */
+  private Money(final long cents) {
+    this.cents = cents;
+  }
+
+  /**
+   * Factory method to create a Money instance from cents.
+   *
+   * @param cents the amount in cents.
+   * @return a new instance of {@link Money}.
+   */
+  public static Money ofCents(final long cents) {
+    return cents == 0L ? ZERO : new Money(cents);
+  }
+
+  /**
+   * Factory method to create a Money instance from a decimal amount.
+   * Amounts with more than {@link #SCALE} decimal places are rounded with
+   * {@link #ROUNDING}.
+   *
+   * @param amount the amount in major units, e.g. `100.50`.
+   * @return a new instance of {@link Money}, or null if the amount is null.
+   * @throws ArithmeticException if the amount is not
+   *                             {@link #isRepresentable(BigDecimal)}.
+   */
+  public static Money of(final BigDecimal amount) {
+    if (amount == null) {
+      return null;
+    }
+    return ofCents(amount.setScale(SCALE, ROUNDING).unscaledValue().longValueExact());
+  }
+
+  /**
+   * Tells whether a decimal amount can be turned into {@link Money}, i.e.
+   * whether its cents fit in a `long`. Compares before rescaling, so huge
+   * exponents such as `1E+999999999` are rejected without being expanded.
+   *
+   * @param amount the amount in major units.
+   * @return true when {@link #of(BigDecimal)} accepts the amount.
+   */
+  public static boolean isRepresentable(final BigDecimal amount) {
+    return amount != null && amount.abs().compareTo(MAX_AMOUNT) <= 0;
+  }
+
+  /**
+   * Converts a decimal rate into integer millionths.
+   *
+   * @param rate the rate, e.g. `0.025`.
+   * @return the rate in millionths, or -1 when the rate is null or has more
+   *         precision than millionths can represent.
+   */
+  public static long rateMicros(final BigDecimal rate) {
+    if (rate == null) {
+      return -1L;
+    }
+    try {
+      return rate.setScale(RATE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    } catch (ArithmeticException e) {
+      return -1L;
+    }
+  }
+
+  /**
+   * @return the amount in cents.
+   */
+  public long getCents() {
+    return cents;
+  }
+
+  /**
+   * @return the amount in major units, with {@link #SCALE} decimal places.
+   */
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  public Money plus(final Money other) {
+    return ofCents(Math.addExact(cents, other.cents));
+  }
+
+  public Money minus(final Money other) {
+    return ofCents(Math.subtractExact(cents, other.cents));
+  }
+
+  /**
+   * Applies a rate given in millionths, rounding the result to cents with
+   * {@link #ROUNDING}.
+   *
+   * @param rateMicros the rate in millionths, see {@link #rateMicros}.
+   * @return the resulting amount.
+   */
+  public Money percentage(final long rateMicros) {
+    final long product;
+    try {
+      product = Math.multiplyExact(cents, rateMicros);
+    } catch (ArithmeticException e) {
+      return percentage(BigDecimal.valueOf(rateMicros, RATE_SCALE));
+    }
+    return ofCents(divideRounded(product, RATE_ONE));
+  }
+
+  /**
+   * Applies an arbitrary decimal rate, rounding the result to cents with
+   * {@link #ROUNDING}. Slower than {@link #percentage(long)}; only used for
+   * rates that do not fit in millionths.
+   *
+   * @param rate the rate, e.g. `0.025`.
+   * @return the resulting amount.
+   */
+  public Money percentage(final BigDecimal rate) {
+    return of(toBigDecimal().multiply(rate));
+  }
+
+  public boolean isPositive() {
+    return cents > 0L;
+  }
+
+  public boolean isNegative() {
+    return cents < 0L;
+  }
+
+  /**
+   * Divides two longs rounding half to even, without going through
+   * BigDecimal.
+   */
+  private static long divideRounded(final long dividend, final long divisor) {
+    final long quotient = dividend / divisor;
+    final long remainder = dividend % divisor;
+    if (remainder == 0L) {
+      return quotient;
+    }
+    final int half = Long.compare(Math.abs(remainder) * 2, divisor);
+    if (half > 0 || (half == 0 && (quotient & 1L) != 0L)) {
+      return quotient + Long.signum(dividend);
+    }
+    return quotient;
+  }
+
+  /**
+   * Validates the money object.
+   * Uses {@link MoneyValidator} for validation rules.
+   *
+   * @param handler the {@link ValidationHandler} to collect validation errors.
+   */
+  @Override
+  public void validate(final ValidationHandler handler) {
+    new MoneyValidator(this, handler).validate();
+  }
+
+  /**
+   * Retrieves the amount in cents.
+   *
+   * @return the amount in cents as a {@link Long}.
+   */
+  @Override
+  public Long getValue() {
+    return cents;
+  }
+
+  @Override
+  public int compareTo(final Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+    Money money = (Money) o;
+    return cents == money.cents;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(cents);
+  }
+
+  /**
+   * Converts the money object to a string representation.
+   *
+   * @return the amount in major units, e.g. `100.50`.
+   */
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
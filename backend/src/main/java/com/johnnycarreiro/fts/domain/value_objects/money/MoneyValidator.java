@@ -0,0 +1,47 @@
+package com.johnnycarreiro.fts.domain.value_objects.money;
+
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+import com.johnnycarreiro.fts.core.domain.validation.Validator;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+public class MoneyValidator extends Validator {
+  private final Money money;
+
+  public MoneyValidator(final Money money, final ValidationHandler handler) {
+    super(handler);
+    this.money = money;
+  }
+
+  /**
+   * Checks a raw amount before it is turned into {@link Money}, which would
+   * otherwise throw for amounts whose cents do not fit in a `long`.
+   *
+   * @param amount  the amount in major units; null is left to
+   *                {@link #validate()}.
+   * @param handler collects the error.
+   * @return true when the amount can be passed to
+   *         {@link Money#of(BigDecimal)}.
+   */
+  public static boolean validateRange(final BigDecimal amount, final ValidationHandler handler) {
+    if (amount == null || Money.isRepresentable(amount)) {
+      return true;
+    }
+    handler.append(new Error("Amount cannot exceed " + Money.MAX_AMOUNT.toPlainString()));
+    return false;
+  }
+
+  @Override
+  public void validate() {
+    if (Objects.isNull(money)) {
+      this.validationHandler().append(new Error("Money cannot be null"));
+      return;
+    }
+
+    if (money.isNegative()) {
+      this.validationHandler().append(new Error("Money cannot be negative"));
+    }
+  }
+}
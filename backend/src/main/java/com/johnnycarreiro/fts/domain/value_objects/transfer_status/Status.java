@@ -4,7 +4,8 @@ public enum Status {
   SCHEDULED("scheduled"),
   COMPLETED("completed"),
   CANCELLED("cancelled"),
-  FAILED("failed");
+  FAILED("failed"),
+  DEAD_LETTER("dead_letter");
 
   private final String value;
 
@@ -24,6 +25,6 @@ public enum Status {
     }
     throw new IllegalArgumentException("Invalid TransferStatus value: " + value + " valid values are: "
         + Status.SCHEDULED.getValue() + ", " + Status.COMPLETED.getValue() + ", " + Status.CANCELLED.getValue() + ", "
-        + Status.FAILED.getValue());
+        + Status.FAILED.getValue() + ", " + Status.DEAD_LETTER.getValue());
   }
 }
@@ -0,0 +1,24 @@
+package com.johnnycarreiro.fts.infra.account.models;
+
+import java.util.Map;
+
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummary;
+
+public class AccountSummaryPresenter {
+
+  public static Map<String, Object> present(AccountSummary summary) {
+    return Map.of(
+        "account", summary.account(),
+        "scheduled", totals(summary.scheduledCount(), summary.scheduledCents()),
+        "completed", totals(summary.completedCount(), summary.completedCents()),
+        "failed", totals(summary.failedCount(), summary.failedCents()),
+        "feesPaid", Money.ofCents(summary.feesCents()).toBigDecimal());
+  }
+
+  private static Map<String, Object> totals(long count, long cents) {
+    return Map.of(
+        "count", count,
+        "amount", Money.ofCents(cents).toBigDecimal());
+  }
+}
@@ -0,0 +1,327 @@
+package com.johnnycarreiro.fts.infra.account.summary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferStatusListener;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
+
+/**
+ * The `account_summary` read model: per sending account, how many transfers
+ * are scheduled, completed and failed, for how much, and the fees paid.
+ *
+ * The table is never recomputed on the write path. Each write that creates
+ * a transfer or changes its status adds the difference it makes to the rows
+ * of the accounts involved, with one `MERGE` per account, inside the
+ * transaction of the write itself; the read model therefore commits or rolls
+ * back together with the transfers.
+ *
+ * Reads are one primary key lookup, served from memory when possible.
+ * Cached entries of the accounts a transaction touched are dropped once it
+ * commits, and entries older than `cache-ttl` are reloaded, which bounds
+ * how stale a summary changed by another node can be. {@link #rebuild()}
+ * recomputes the whole table from `transfers` when it has drifted.
+ *
+ * Completed transfers count their fee, looked up in the shared
+ * {@link TransferFeeCache} rather than read from `transfer_fees` per batch.
+ */
+@Component
+public class AccountSummaries implements TransferStatusListener {
+
+  private static final String SELECT_ALL = """
+      SELECT account, scheduled_count, scheduled_cents, completed_count, completed_cents,
+        failed_count, failed_cents, fees_cents
+      FROM account_summary
+      """;
+
+  private static final String SELECT = SELECT_ALL + "WHERE account = ?";
+
+  private static final String MERGE = """
+      MERGE INTO account_summary s
+      USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT),
+        CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT),
+        CAST(? AS TIMESTAMP WITH TIME ZONE)))
+        AS d (account, scheduled_count, scheduled_cents, completed_count, completed_cents,
+          failed_count, failed_cents, fees_cents, updated_at)
+      ON s.account = d.account
+      WHEN MATCHED THEN UPDATE SET
+        scheduled_count = s.scheduled_count + d.scheduled_count,
+        scheduled_cents = s.scheduled_cents + d.scheduled_cents,
+        completed_count = s.completed_count + d.completed_count,
+        completed_cents = s.completed_cents + d.completed_cents,
+        failed_count = s.failed_count + d.failed_count,
+        failed_cents = s.failed_cents + d.failed_cents,
+        fees_cents = s.fees_cents + d.fees_cents,
+        updated_at = d.updated_at
+      WHEN NOT MATCHED THEN INSERT (account, scheduled_count, scheduled_cents, completed_count,
+          completed_cents, failed_count, failed_cents, fees_cents, updated_at)
+        VALUES (d.account, d.scheduled_count, d.scheduled_cents, d.completed_count,
+          d.completed_cents, d.failed_count, d.failed_cents, d.fees_cents, d.updated_at)
+      """;
+
+  private static final String SELECT_TRANSFERS = """
+      SELECT source_account, status, amount, transfer_fee_id
+      FROM transfers
+      """;
+
+  private static final RowMapper<AccountSummary> SUMMARY = (rs, row) -> new AccountSummary(
+      rs.getString("account"),
+      rs.getLong("scheduled_count"),
+      rs.getLong("scheduled_cents"),
+      rs.getLong("completed_count"),
+      rs.getLong("completed_cents"),
+      rs.getLong("failed_count"),
+      rs.getLong("failed_cents"),
+      rs.getLong("fees_cents"));
+
+  private record Cached(AccountSummary summary, long loadedAt) {
+  }
+
+  /**
+   * @param accounts    How many accounts have transfers.
+   * @param corrections Per account, what to add to the stored row to make
+   *                    it match `transfers`.
+   */
+  private record Drift(int accounts, Collection<AccountSummary> corrections) {
+  }
+
+  private final JdbcTemplate jdbc;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Read-only and serializable, so `transfers` and `account_summary` are
+   * read from one snapshot of the database.
+   */
+  private final TransactionTemplate snapshotTemplate;
+  private final TransferFeeCache feeCache;
+  private final long ttlNanos;
+  private final int maxEntries;
+
+  private final ConcurrentHashMap<String, Cached> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Bumped whenever cached entries are dropped. A load only caches its
+   * result if nothing was dropped while it was reading from the database.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  public AccountSummaries(
+      JdbcTemplate jdbc,
+      PlatformTransactionManager transactionManager,
+      TransferFeeCache feeCache,
+      @Value("${fts.account-summary.cache-ttl:PT5S}") Duration ttl,
+      @Value("${fts.account-summary.cache-max-entries:100000}") int maxEntries) {
+    this.jdbc = jdbc;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.snapshotTemplate = new TransactionTemplate(transactionManager);
+    this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+    this.snapshotTemplate.setReadOnly(true);
+    this.feeCache = feeCache;
+    this.ttlNanos = ttl.toNanos();
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * @param account The sending account.
+   * @return its summary; all zero when it never sent a transfer.
+   */
+  public AccountSummary get(final String account) {
+    final long now = System.nanoTime();
+    final var cached = cache.get(account);
+    if (cached != null && now - cached.loadedAt() < ttlNanos) {
+      return cached.summary();
+    }
+
+    final long loadGeneration = generation.get();
+    final var rows = jdbc.query(SELECT, SUMMARY, account);
+    final var summary = rows.isEmpty() ? AccountSummary.empty(account) : rows.get(0);
+    if (generation.get() == loadGeneration) {
+      if (cache.size() >= maxEntries) {
+        cache.clear();
+      }
+      cache.put(account, new Cached(summary, now));
+    }
+    return summary;
+  }
+
+  /**
+   * Counts newly inserted transfers. Call inside the inserting transaction.
+   */
+  public void created(final Collection<TransferEntity> transfers) {
+    final var deltas = new HashMap<String, AccountSummary>();
+    transfers.forEach(transfer -> add(deltas, contribution(transfer)));
+    apply(deltas.values());
+  }
+
+  /**
+   * Replaces what `before` counted with what `after` counts, for a transfer
+   * rewritten in place. Call inside the updating transaction.
+   */
+  public void replaced(final TransferEntity before, final TransferEntity after) {
+    final var deltas = new HashMap<String, AccountSummary>();
+    add(deltas, contribution(before).negate());
+    add(deltas, contribution(after));
+    apply(deltas.values());
+  }
+
+  /**
+   * Stops counting a deleted transfer. Call inside the deleting transaction.
+   */
+  public void removed(final TransferEntity transfer) {
+    apply(List.of(contribution(transfer).negate()));
+  }
+
+  /**
+   * Moves transfers from one status bucket to another, reading their
+   * amounts and fees back from the rows the caller just updated.
+   */
+  @Override
+  public void transitioned(final Collection<String> ids, final String from, final String to) {
+    final var fromStatus = Status.fromString(from);
+    final var toStatus = Status.fromString(to);
+    final var fees = fromStatus == Status.COMPLETED || toStatus == Status.COMPLETED
+        ? byId(feeCache.get(this::readFees))
+        : Map.<String, TransferFee>of();
+    final var deltas = new HashMap<String, AccountSummary>();
+    jdbc.query(SELECT_TRANSFERS + " WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")",
+        rs -> {
+          final var account = rs.getString("source_account");
+          final long amount = Money.of(rs.getBigDecimal("amount")).getCents();
+          final long fee = feeCents(fees.get(rs.getString("transfer_fee_id").trim()), amount);
+          add(deltas, AccountSummary.of(account, fromStatus, amount, fee).negate());
+          add(deltas, AccountSummary.of(account, toStatus, amount, fee));
+        }, ids.toArray());
+    apply(deltas.values());
+  }
+
+  /**
+   * Recomputes every summary from `transfers`, for recovery.
+   *
+   * Both tables are read in one snapshot, so the difference between them is
+   * exactly the drift as of that snapshot. The difference is then added to
+   * the stored rows with the same `MERGE` the write path uses, never by
+   * deleting and re-inserting them: writes that commit while the rebuild
+   * runs only ever add their own deltas, so they are neither lost nor
+   * raced on the primary key.
+   *
+   * @return how many accounts have a summary.
+   */
+  public int rebuild() {
+    final Drift drift = snapshotTemplate.execute(tx -> {
+      final var fees = byId(readFees());
+      final var corrections = new HashMap<String, AccountSummary>();
+      jdbc.query(SELECT_TRANSFERS, rs -> {
+        final long amount = Money.of(rs.getBigDecimal("amount")).getCents();
+        add(corrections, AccountSummary.of(rs.getString("source_account"),
+            Status.fromString(rs.getString("status")), amount,
+            feeCents(fees.get(rs.getString("transfer_fee_id").trim()), amount)));
+      });
+      final int accounts = corrections.size();
+      jdbc.query(SELECT_ALL, SUMMARY).forEach(stored -> add(corrections, stored.negate()));
+      return new Drift(accounts, corrections.values());
+    });
+    if (drift == null) {
+      return 0;
+    }
+
+    final var changed = drift.corrections().stream().filter(correction -> !correction.isZero()).toList();
+    if (!changed.isEmpty()) {
+      transactionTemplate.executeWithoutResult(tx -> write(changed));
+    }
+    generation.incrementAndGet();
+    cache.clear();
+    return drift.accounts();
+  }
+
+  private void apply(final Collection<AccountSummary> deltas) {
+    final var changed = deltas.stream().filter(delta -> !delta.isZero()).toList();
+    if (changed.isEmpty()) {
+      return;
+    }
+    write(changed);
+
+    final var accounts = changed.stream().map(AccountSummary::account).toList();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict(accounts);
+        }
+      });
+    } else {
+      evict(accounts);
+    }
+  }
+
+  private void write(final Collection<AccountSummary> deltas) {
+    final var now = OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+    jdbc.batchUpdate(MERGE, deltas.stream()
+        .map(delta -> new Object[] { delta.account(), delta.scheduledCount(), delta.scheduledCents(),
+            delta.completedCount(), delta.completedCents(), delta.failedCount(), delta.failedCents(),
+            delta.feesCents(), now })
+        .toList());
+  }
+
+  /**
+   * Drops rather than patches the cached entries: a load racing with the
+   * commit may already have read the new row, and adding the delta to it
+   * would count the change twice.
+   */
+  private void evict(final Collection<String> accounts) {
+    generation.incrementAndGet();
+    accounts.forEach(cache::remove);
+  }
+
+  private List<TransferFee> readFees() {
+    return jdbc.query("SELECT id, name, min_days, max_days, fixed_fee, percentage_fee FROM transfer_fees",
+        (rs, row) -> TransferFee.from(rs.getString("id").trim(), rs.getString("name"), rs.getInt("min_days"),
+            rs.getObject("max_days", Integer.class), rs.getBigDecimal("fixed_fee"),
+            rs.getBigDecimal("percentage_fee"), null, null, null));
+  }
+
+  private static Map<String, TransferFee> byId(final List<TransferFee> fees) {
+    final var byId = new HashMap<String, TransferFee>(fees.size() * 2);
+    fees.forEach(fee -> byId.put(fee.getId().getValue().trim(), fee));
+    return byId;
+  }
+
+  private static AccountSummary contribution(final TransferEntity transfer) {
+    final var status = Status.fromString(transfer.getStatus());
+    final long amount = Money.of(transfer.getAmount()).getCents();
+    final long fee = status == Status.COMPLETED && transfer.getTransferFee() != null
+        ? feeCents(transfer.getTransferFee().toDomain(), amount)
+        : 0;
+    return AccountSummary.of(transfer.getSourceAccount(), status, amount, fee);
+  }
+
+  private static long feeCents(final TransferFee fee, final long amountCents) {
+    return fee == null ? 0 : fee.calculateTotalFee(Money.ofCents(amountCents)).getCents();
+  }
+
+  private static void add(final Map<String, AccountSummary> deltas, final AccountSummary delta) {
+    deltas.merge(delta.account(), delta, AccountSummary::plus);
+  }
+}
@@ -0,0 +1,68 @@
+package com.johnnycarreiro.fts.infra.account.summary;
+
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
+
+/**
+ * Totals of the transfers an account sent, by status, in cents.
+ *
+ * Failed transfers include those waiting for a retry and those that ran out
+ * of attempts. Fees are only counted once a transfer completes, since that
+ * is when they are charged. The same record carries changes: a delta is a
+ * summary whose fields are added to the stored ones.
+ */
+public record AccountSummary(
+    String account,
+    long scheduledCount,
+    long scheduledCents,
+    long completedCount,
+    long completedCents,
+    long failedCount,
+    long failedCents,
+    long feesCents) {
+
+  public static AccountSummary empty(final String account) {
+    return new AccountSummary(account, 0, 0, 0, 0, 0, 0, 0);
+  }
+
+  /**
+   * @param account     The account that sent the transfer.
+   * @param status      The status of the transfer.
+   * @param amountCents The transfer amount.
+   * @param feeCents    The fee it is charged once completed.
+   * @return what one transfer adds to its account's summary.
+   */
+  public static AccountSummary of(final String account, final Status status, final long amountCents,
+      final long feeCents) {
+    return switch (status) {
+      case SCHEDULED -> new AccountSummary(account, 1, amountCents, 0, 0, 0, 0, 0);
+      case COMPLETED -> new AccountSummary(account, 0, 0, 1, amountCents, 0, 0, feeCents);
+      case FAILED, DEAD_LETTER -> new AccountSummary(account, 0, 0, 0, 0, 1, amountCents, 0);
+      case CANCELLED -> empty(account);
+    };
+  }
+
+  public AccountSummary plus(final AccountSummary other) {
+    return new AccountSummary(
+        account,
+        Math.addExact(scheduledCount, other.scheduledCount),
+        Math.addExact(scheduledCents, other.scheduledCents),
+        Math.addExact(completedCount, other.completedCount),
+        Math.addExact(completedCents, other.completedCents),
+        Math.addExact(failedCount, other.failedCount),
+        Math.addExact(failedCents, other.failedCents),
+        Math.addExact(feesCents, other.feesCents));
+  }
+
+  public AccountSummary negate() {
+    return new AccountSummary(account, -scheduledCount, -scheduledCents, -completedCount, -completedCents,
+        -failedCount, -failedCents, -feesCents);
+  }
+
+  /**
+   * @return true when adding this summary changes nothing.
+   */
+  public boolean isZero() {
+    return scheduledCount == 0 && scheduledCents == 0 && completedCount == 0 && completedCents == 0
+        && failedCount == 0 && failedCents == 0 && feesCents == 0;
+  }
+}
@@ -0,0 +1,52 @@
+package com.johnnycarreiro.fts.infra.account.summary.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the `account_summary` read model. Rows are only written
+ * through {@link com.johnnycarreiro.fts.infra.account.summary.AccountSummaries};
+ * the entity exists so the table is part of the generated schema.
+ */
+@Entity
+@Table(name = "account_summary")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AccountSummaryEntity {
+
+  @Id
+  @Column(name = "account", nullable = false)
+  private String account;
+
+  @Column(name = "scheduled_count", nullable = false)
+  private long scheduledCount;
+
+  @Column(name = "scheduled_cents", nullable = false)
+  private long scheduledCents;
+
+  @Column(name = "completed_count", nullable = false)
+  private long completedCount;
+
+  @Column(name = "completed_cents", nullable = false)
+  private long completedCents;
+
+  @Column(name = "failed_count", nullable = false)
+  private long failedCount;
+
+  @Column(name = "failed_cents", nullable = false)
+  private long failedCents;
+
+  @Column(name = "fees_cents", nullable = false)
+  private long feesCents;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+}
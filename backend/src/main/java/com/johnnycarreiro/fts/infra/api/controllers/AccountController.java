@@ -0,0 +1,33 @@
+package com.johnnycarreiro.fts.infra.api.controllers;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.johnnycarreiro.fts.core.domain.validation.StackValidationHandler;
+import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.infra.account.models.AccountSummaryPresenter;
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummaries;
+
+@RestController
+@RequestMapping("/accounts")
+public class AccountController {
+
+  private final AccountSummaries accountSummaries;
+
+  public AccountController(AccountSummaries accountSummaries) {
+    this.accountSummaries = accountSummaries;
+  }
+
+  @GetMapping("/{account}/summary")
+  public ResponseEntity<?> summary(@PathVariable String account) {
+    final var errors = StackValidationHandler.create();
+    Account.from(account).validate(errors);
+    if (errors.hasErrors()) {
+      return ResponseEntity.badRequest().body(errors);
+    }
+    return ResponseEntity.ok(AccountSummaryPresenter.present(accountSummaries.get(account)));
+  }
+}
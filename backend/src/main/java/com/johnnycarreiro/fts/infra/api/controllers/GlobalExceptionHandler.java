@@ -1,12 +1,15 @@
 package com.johnnycarreiro.fts.infra.api.controllers;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
 import com.johnnycarreiro.fts.core.domain.exceptions.NotFoundException;
+import com.johnnycarreiro.fts.core.domain.exceptions.UnavailableException;
 import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.infra.idempotency.RequestInFlightException;
 
 import java.util.List;
 
@@ -22,6 +25,20 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
   }
 
+  @ExceptionHandler(value = RequestInFlightException.class)
+  public ResponseEntity<?> handleRequestInFlightException(final RequestInFlightException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ApiError.from(ex));
+  }
+
+  @ExceptionHandler(value = UnavailableException.class)
+  public ResponseEntity<?> handleUnavailableException(final UnavailableException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ApiError.from(ex));
+  }
+
   record ApiError(String message, List<Error> errors) {
     static ApiError from(final DomainException ex) {
       return new ApiError(ex.getMessage(), ex.getErrors());
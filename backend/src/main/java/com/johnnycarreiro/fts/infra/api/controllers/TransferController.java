@@ -1,20 +1,44 @@
 package com.johnnycarreiro.fts.infra.api.controllers;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.johnnycarreiro.fts.application.transfer.batch.CreateTransfersBatchItemResult;
+import com.johnnycarreiro.fts.application.transfer.batch.CreateTransfersBatchUseCase;
 import com.johnnycarreiro.fts.application.transfer.create.CreateTransferUseCase;
+import com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesUseCase;
+import com.johnnycarreiro.fts.application.transfer.quote.TransferFeeQuote;
+import com.johnnycarreiro.fts.application.transfer.services.TransferFilter;
+import com.johnnycarreiro.fts.application.transfer.services.TransferPage;
+import com.johnnycarreiro.fts.application.transfer.services.TransferPageVersion;
 import com.johnnycarreiro.fts.application.transfer.services.TransferService;
 import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.infra.idempotency.IdempotencyStore;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferCache;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+import com.johnnycarreiro.fts.infra.transfer.export.TransferExporter;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferBatchRequest;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferETag;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferJson;
 import com.johnnycarreiro.fts.infra.transfer.models.TransferPresenter;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferQuoteRequest;
 import com.johnnycarreiro.fts.infra.transfer.models.TransferRequest;
 import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
 
@@ -24,16 +48,43 @@ public class TransferController {
 
   private final CreateTransferUseCase createTransferUseCase;
   // private final UpdateTransferUseCase updateTransferUseCase;
+  private final CreateTransfersBatchUseCase createTransfersBatchUseCase;
+  private final QuoteTransferFeesUseCase quoteTransferFeesUseCase;
   private final TransferService transferService;
+  private final IdempotencyStore idempotencyStore;
+  private final TransferExporter transferExporter;
+  private final TransferCache transferCache;
+  private final TransferFeeCache feeCache;
 
   public TransferController(CreateTransferUseCase createTransferUseCase,
-      TransferService transferService) {
+      CreateTransfersBatchUseCase createTransfersBatchUseCase,
+      QuoteTransferFeesUseCase quoteTransferFeesUseCase,
+      TransferService transferService,
+      IdempotencyStore idempotencyStore,
+      TransferExporter transferExporter,
+      TransferCache transferCache,
+      TransferFeeCache feeCache) {
     this.createTransferUseCase = createTransferUseCase;
+    this.createTransfersBatchUseCase = createTransfersBatchUseCase;
+    this.quoteTransferFeesUseCase = quoteTransferFeesUseCase;
     this.transferService = transferService;
+    this.idempotencyStore = idempotencyStore;
+    this.transferExporter = transferExporter;
+    this.transferCache = transferCache;
+    this.feeCache = feeCache;
   }
 
   @PostMapping
-  public ResponseEntity<?> create(@RequestBody TransferRequest request) {
+  public ResponseEntity<?> create(
+      @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+      @RequestBody TransferRequest request) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return create(request);
+    }
+    return idempotencyStore.execute(idempotencyKey, request.fingerprint(), () -> create(request));
+  }
+
+  private ResponseEntity<?> create(TransferRequest request) {
     var result = createTransferUseCase.execute(request.toCommand());
 
     final Function<Transfer, ResponseEntity<?>> onSuccess = success -> ResponseEntity
@@ -46,6 +97,45 @@ public class TransferController {
     return result.fold(onSuccess, onError);
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<?> createBatch(@RequestBody List<TransferRequest> request) {
+    var result = createTransfersBatchUseCase.execute(TransferBatchRequest.toCommand(request));
+
+    final Function<List<CreateTransfersBatchItemResult>, ResponseEntity<?>> onSuccess = items -> ResponseEntity
+        .ok(items);
+
+    final Function<ValidationHandler, ResponseEntity<?>> onError = validationHandler -> ResponseEntity
+        .unprocessableEntity().body(validationHandler);
+
+    return result.fold(onSuccess, onError);
+  }
+
+  /**
+   * Tags the quotes with the `ETag` of the fee schedule that priced them, so
+   * a client can tell whether quotes it holds still reflect the current
+   * rules. The tag is only sent when the same cached schedule was in place
+   * for the whole request; a cold or reloaded cache leaves it out rather
+   * than name a schedule the quotes may not have used.
+   */
+  @PostMapping("/quotes")
+  public ResponseEntity<?> quote(@RequestBody List<TransferQuoteRequest> request) {
+    final var schedule = feeCache.peek();
+    var result = quoteTransferFeesUseCase.execute(TransferQuoteRequest.toCommand(request));
+
+    final Function<List<TransferFeeQuote>, ResponseEntity<?>> onSuccess = quotes -> {
+      final var response = ResponseEntity.ok();
+      if (schedule != null && schedule == feeCache.peek()) {
+        response.eTag(schedule.etag());
+      }
+      return response.body(quotes);
+    };
+
+    final Function<ValidationHandler, ResponseEntity<?>> onError = validationHandler -> ResponseEntity
+        .unprocessableEntity().body(validationHandler);
+
+    return result.fold(onSuccess, onError);
+  }
+
   // @PutMapping("/{id}")
   // public ResponseEntity<?> update(@PathVariable String id, @Valid @RequestBody
   // TransferRequest request) {
@@ -55,17 +145,79 @@ public class TransferController {
   // : ResponseEntity.badRequest().body(result.getError());
   // }
 
+  @GetMapping(value = "/export", produces = TransferExporter.MEDIA_TYPE)
+  public ResponseEntity<StreamingResponseBody> export() {
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transfers.ndjson\"")
+        .body(out -> transferExporter.writeTo(out));
+  }
+
+  /**
+   * Answers `If-None-Match` and `If-Modified-Since` from the transfer's
+   * `updatedAt` alone, with a 304 and no body when the client's copy is
+   * current. The validators sent with a 200 are always those of the body
+   * sent with them.
+   */
   @GetMapping("/{id}")
-  public ResponseEntity<?> getById(@PathVariable String id) {
-    return transferService.findById(id)
-        .map(transfer -> ResponseEntity.ok(TransferPresenter.present(transfer)))
+  public ResponseEntity<?> getById(@PathVariable String id, @RequestHeader HttpHeaders headers) {
+    final Optional<TransferJson> transfer;
+    if (TransferETag.isConditional(headers)) {
+      final var version = transferService.findVersion(id);
+      if (version.isEmpty()) {
+        return ResponseEntity.notFound().build();
+      }
+      final var tag = TransferETag.of(version.get());
+      if (tag.notModified(headers)) {
+        return tag.notModifiedResponse();
+      }
+      transfer = transferCache.get(id, version.get());
+    } else {
+      transfer = transferCache.get(id);
+    }
+    return transfer
+        .<ResponseEntity<?>>map(json -> TransferETag.of(json.updatedAt()).ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json.json()))
         .orElse(ResponseEntity.notFound().build());
   }
 
   @GetMapping
-  public ResponseEntity<?> listAll() {
-    return ResponseEntity.ok(transferService.listAll().stream()
-        .map(TransferPresenter::present)
-        .toList());
+  public ResponseEntity<?> list(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int limit,
+      @RequestParam(required = false) String sourceAccount,
+      @RequestParam(required = false) String destinationAccount,
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) Instant scheduledFrom,
+      @RequestParam(required = false) Instant scheduledTo,
+      @RequestParam(required = false) BigDecimal minAmount,
+      @RequestParam(required = false) BigDecimal maxAmount,
+      @RequestHeader HttpHeaders headers) {
+    final var filter = new TransferFilter(sourceAccount, destinationAccount, status, scheduledFrom, scheduledTo,
+        minAmount, maxAmount);
+
+    final Function<ValidationHandler, ResponseEntity<?>> onError = validationHandler -> ResponseEntity
+        .badRequest().body(validationHandler);
+
+    // A 304 is decided on versions read just now; a 200 carries the
+    // validators of the page it sends.
+    if (TransferETag.isConditional(headers)) {
+      var version = transferService.pageVersion(cursor, limit, filter);
+      if (version.isError()) {
+        return onError.apply(version.getError());
+      }
+      final var tag = TransferETag.of(version.getSuccess());
+      if (tag.notModified(headers)) {
+        return tag.notModifiedResponse();
+      }
+    }
+
+    var result = transferService.listPage(cursor, limit, filter);
+
+    final Function<TransferPage, ResponseEntity<?>> onSuccess = page -> TransferETag
+        .of(TransferPageVersion.of(page)).ok()
+        .body(TransferPresenter.present(page));
+
+    return result.fold(onSuccess, onError);
   }
 }
@@ -0,0 +1,231 @@
+package com.johnnycarreiro.fts.infra.idempotency;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.infra.idempotency.persistence.IdempotencyKeyEntity;
+import com.johnnycarreiro.fts.infra.idempotency.persistence.IdempotencyKeyJpaRepository;
+
+/**
+ * Remembers the response produced for each `Idempotency-Key` so retries get
+ * the original answer instead of running the request again.
+ *
+ * Recent keys live in a bounded in-memory map with a TTL; completed
+ * responses are also written to the `idempotency_keys` table, which is
+ * consulted when a key is no longer in memory (eviction, restart, another
+ * node). A duplicate that arrives while the first request is still running
+ * waits for its outcome instead of racing it, for up to `in-flight-wait`;
+ * after that it is turned away with a {@link RequestInFlightException}.
+ *
+ * Only outcomes that a retry would reproduce are remembered: successes and
+ * client errors. A 5xx, or an action that throws, releases the key so the
+ * next attempt runs the request again.
+ */
+@Component
+public class IdempotencyStore {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+  /** Expired rows are purged from the table once every this many writes. */
+  private static final long PURGE_EVERY_WRITES = 1_000;
+
+  private record Entry(String fingerprint, CompletableFuture<IdempotentResponse> response, Instant expiresAt) {
+    boolean isExpired(final Instant now) {
+      return expiresAt.isBefore(now);
+    }
+  }
+
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+  private final AtomicLong writes = new AtomicLong();
+
+  private final IdempotencyKeyJpaRepository repository;
+  private final ObjectMapper objectMapper;
+  private final int maxEntries;
+  private final Duration ttl;
+  private final Duration inFlightWait;
+
+  public IdempotencyStore(
+      IdempotencyKeyJpaRepository repository,
+      ObjectMapper objectMapper,
+      @Value("${fts.idempotency.max-entries:10000}") int maxEntries,
+      @Value("${fts.idempotency.ttl:PT24H}") Duration ttl,
+      @Value("${fts.idempotency.in-flight-wait:PT30S}") Duration inFlightWait) {
+    this.repository = repository;
+    this.objectMapper = objectMapper;
+    this.maxEntries = maxEntries;
+    this.ttl = ttl;
+    this.inFlightWait = inFlightWait;
+  }
+
+  /**
+   * Runs the action once per key and replays its response afterwards.
+   *
+   * @param key         The client supplied idempotency key.
+   * @param fingerprint Hash of the request payload; a key reused with a
+   *                    different payload is rejected.
+   * @param action      Produces the response the first time the key is seen.
+   * @return The original or replayed response.
+   */
+  public ResponseEntity<?> execute(final String key, final String fingerprint,
+      final Supplier<ResponseEntity<?>> action) {
+    while (true) {
+      final var now = Instant.now();
+      final var mine = new Entry(fingerprint, new CompletableFuture<>(), now.plus(ttl));
+      final var existing = entries.putIfAbsent(key, mine);
+
+      if (existing != null) {
+        if (existing.isExpired(now)) {
+          entries.remove(key, existing);
+          continue;
+        }
+        assertSameRequest(existing.fingerprint(), fingerprint);
+        final var replay = await(existing);
+        if (replay == null) {
+          continue; // the original attempt failed, try again
+        }
+        return replay(replay);
+      }
+
+      insertionOrder.add(key);
+      evictIfNeeded(now);
+      return runOwned(key, mine, action, now);
+    }
+  }
+
+  private ResponseEntity<?> runOwned(final String key, final Entry mine,
+      final Supplier<ResponseEntity<?>> action, final Instant now) {
+    try {
+      final var stored = repository.findById(key)
+          .filter(entity -> entity.getExpiresAt().isAfter(now))
+          .orElse(null);
+      if (stored != null) {
+        assertSameRequest(stored.getFingerprint(), mine.fingerprint());
+        final var response = new IdempotentResponse(stored.getFingerprint(), stored.getStatusCode(),
+            stored.getLocation(), stored.getBody());
+        mine.response().complete(response);
+        return replay(response);
+      }
+
+      final ResponseEntity<?> result = action.get();
+      if (!isFinal(result)) {
+        entries.remove(key, mine);
+        mine.response().complete(null);
+        return result;
+      }
+      final var response = new IdempotentResponse(
+          mine.fingerprint(),
+          result.getStatusCode().value(),
+          result.getHeaders().getLocation() == null ? null : result.getHeaders().getLocation().toString(),
+          toJson(result.getBody()));
+      mine.response().complete(response);
+      persist(key, response, now, mine.expiresAt());
+      return result;
+    } catch (RuntimeException e) {
+      entries.remove(key, mine);
+      mine.response().complete(null);
+      throw e;
+    }
+  }
+
+  private IdempotentResponse await(final Entry entry) {
+    try {
+      return entry.response().get(inFlightWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw RequestInFlightException.with(new Error("A request with this Idempotency-Key is still being processed"));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw DomainException.with(new Error("Interrupted while waiting for the original request"));
+    } catch (ExecutionException e) {
+      return null;
+    }
+  }
+
+  private void persist(final String key, final IdempotentResponse response, final Instant createdAt,
+      final Instant expiresAt) {
+    try {
+      repository.save(new IdempotencyKeyEntity(key, response.fingerprint(), response.statusCode(),
+          response.location(), response.body(), createdAt, expiresAt));
+      if (writes.incrementAndGet() % PURGE_EVERY_WRITES == 0) {
+        repository.deleteExpired(createdAt);
+      }
+    } catch (RuntimeException e) {
+      // The in-memory entry still protects this node; losing the fallback row
+      // only matters after eviction or restart.
+      log.warn("Could not store the response for an Idempotency-Key; replays rely on memory only", e);
+    }
+  }
+
+  private void evictIfNeeded(final Instant now) {
+    if (entries.size() <= maxEntries) {
+      return;
+    }
+    int budget = insertionOrder.size();
+    while (entries.size() > maxEntries && budget-- > 0) {
+      final var oldest = insertionOrder.poll();
+      if (oldest == null) {
+        return;
+      }
+      final var entry = entries.get(oldest);
+      if (entry != null && !entry.response().isDone() && !entry.isExpired(now)) {
+        insertionOrder.add(oldest); // still running, keep it
+        continue;
+      }
+      if (entry != null) {
+        entries.remove(oldest, entry);
+      }
+    }
+  }
+
+  /** A 2xx or 4xx is what the same request gets again; a 5xx may not be. */
+  private static boolean isFinal(final ResponseEntity<?> result) {
+    return result.getStatusCode().is2xxSuccessful() || result.getStatusCode().is4xxClientError();
+  }
+
+  private static void assertSameRequest(final String expected, final String actual) {
+    if (!expected.equals(actual)) {
+      throw DomainException.with(new Error("Idempotency-Key was already used with a different request"));
+    }
+  }
+
+  private static ResponseEntity<?> replay(final IdempotentResponse response) {
+    final var builder = ResponseEntity.status(response.statusCode())
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(REPLAYED_HEADER, "true");
+    if (response.location() != null) {
+      builder.location(URI.create(response.location()));
+    }
+    return builder.body(response.body());
+  }
+
+  private String toJson(final Object body) {
+    try {
+      return objectMapper.writeValueAsString(body);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize response for idempotent replay", e);
+    }
+  }
+}
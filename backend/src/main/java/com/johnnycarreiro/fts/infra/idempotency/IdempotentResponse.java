@@ -0,0 +1,12 @@
+package com.johnnycarreiro.fts.infra.idempotency;
+
+/**
+ * A response recorded for an idempotency key, replayed on retries.
+ *
+ * @param fingerprint Hash of the request that produced the response.
+ * @param statusCode  HTTP status of the original response.
+ * @param location    `Location` header of the original response, if any.
+ * @param body        Original response body, serialized as JSON.
+ */
+public record IdempotentResponse(String fingerprint, int statusCode, String location, String body) {
+}
@@ -0,0 +1,21 @@
+package com.johnnycarreiro.fts.infra.idempotency;
+
+import java.util.List;
+
+import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+
+/**
+ * A request reused an `Idempotency-Key` whose original request is still
+ * running. Answered with `409 Conflict`; the client should retry later.
+ */
+public class RequestInFlightException extends DomainException {
+
+  protected RequestInFlightException(final String message, final List<Error> errors) {
+    super(message, errors);
+  }
+
+  public static RequestInFlightException with(final Error error) {
+    return new RequestInFlightException(error.message(), List.of(error));
+  }
+}
@@ -0,0 +1,41 @@
+package com.johnnycarreiro.fts.infra.idempotency.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "idempotency_keys")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class IdempotencyKeyEntity {
+
+  @Id
+  @Column(name = "idempotency_key", nullable = false, length = 255)
+  private String key;
+
+  @Column(name = "fingerprint", nullable = false, length = 64)
+  private String fingerprint;
+
+  @Column(name = "status_code", nullable = false)
+  private int statusCode;
+
+  @Column(name = "location")
+  private String location;
+
+  @Column(name = "body", columnDefinition = "CLOB")
+  private String body;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.johnnycarreiro.fts.infra.idempotency.persistence;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
+}
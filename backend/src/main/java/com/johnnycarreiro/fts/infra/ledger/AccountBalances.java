@@ -0,0 +1,142 @@
+package com.johnnycarreiro.fts.infra.ledger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Account balances in cents, updated without locks.
+ *
+ * Every account has its own cell, so postings to different accounts never
+ * touch shared state. Inside a cell, money coming in and money going out
+ * take different paths:
+ * - credits are added to a {@link LongAdder}, which stripes concurrent
+ *   additions over several counters; an account everyone pays into, like
+ *   the fee account, takes credits from all lanes without them retrying
+ *   against each other;
+ * - debits compare-and-set a single base value, checking the funds first.
+ *
+ * A debit reads the credits after the base. Credits only ever grow, so the
+ * funds it saw are still there when its compare-and-set succeeds, and two
+ * debits racing for the last cents cannot both win: the balance never goes
+ * below zero.
+ */
+public final class AccountBalances {
+
+  private static final class Cell {
+    final AtomicLong base;
+    final LongAdder credits = new LongAdder();
+
+    Cell(final long opening) {
+      this.base = new AtomicLong(opening);
+    }
+
+    long balance() {
+      return base.get() + credits.sum();
+    }
+  }
+
+  private final ConcurrentHashMap<String, Cell> cells = new ConcurrentHashMap<>();
+  private final ToLongFunction<String> loader;
+
+  /**
+   * @param loader Supplies the balance of an account the first time it is
+   *               touched, e.g. from the persisted ledger.
+   */
+  public AccountBalances(final ToLongFunction<String> loader) {
+    this.loader = loader;
+  }
+
+  /**
+   * @return the current balance of the account, in cents.
+   */
+  public long balance(final String account) {
+    return cell(account).balance();
+  }
+
+  /**
+   * Adds money to an account.
+   */
+  public void credit(final String account, final long cents) {
+    cell(account).credits.add(cents);
+  }
+
+  /**
+   * Takes money out of an account if it has enough.
+   *
+   * @return false, leaving the balance untouched, when funds are
+   *         insufficient.
+   */
+  public boolean debit(final String account, final long cents) {
+    final var cell = cell(account);
+    while (true) {
+      final long base = cell.base.get();
+      if (base + cell.credits.sum() < cents) {
+        return false;
+      }
+      if (cell.base.compareAndSet(base, base - cents)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Moves `amount` from `source` to `destination` and `fee` from `source`
+   * to `feeAccount`. Nothing moves unless the source covers both.
+   *
+   * @return false when the source has insufficient funds.
+   */
+  public boolean transfer(final String source, final String destination, final long amount,
+      final String feeAccount, final long fee) {
+    if (!debit(source, Math.addExact(amount, fee))) {
+      return false;
+    }
+    credit(destination, amount);
+    if (fee != 0) {
+      credit(feeAccount, fee);
+    }
+    return true;
+  }
+
+  /**
+   * Undoes a {@link #transfer} that succeeded but could not be recorded.
+   * The credited accounts are charged back even if they spent the money in
+   * between, which can leave them briefly negative.
+   */
+  public void reverse(final String source, final String destination, final long amount,
+      final String feeAccount, final long fee) {
+    cell(destination).base.addAndGet(-amount);
+    if (fee != 0) {
+      cell(feeAccount).base.addAndGet(-fee);
+    }
+    cell(source).base.addAndGet(Math.addExact(amount, fee));
+  }
+
+  /**
+   * Changes a balance without checking funds, to undo postings that could
+   * not be recorded.
+   */
+  public void adjust(final String account, final long cents) {
+    cell(account).base.addAndGet(cents);
+  }
+
+  /**
+   * @return the number of accounts held in memory.
+   */
+  public int size() {
+    return cells.size();
+  }
+
+  private Cell cell(final String account) {
+    final var cell = cells.get(account);
+    if (cell != null) {
+      return cell;
+    }
+    // Loaded outside the map so a slow load does not block other accounts;
+    // nothing can post to the account before its cell is in the map.
+    final var loaded = new Cell(loader.applyAsLong(account));
+    final var raced = cells.putIfAbsent(account, loaded);
+    return raced != null ? raced : loaded;
+  }
+}
@@ -0,0 +1,233 @@
+package com.johnnycarreiro.fts.infra.ledger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.ledger.journal.Posting;
+import com.johnnycarreiro.fts.infra.ledger.journal.PostingJournal;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Account balances and the journal that makes them durable.
+ *
+ * Money moves in memory through {@link AccountBalances} first and is then
+ * appended to the {@link PostingJournal} under a posting id, which is the
+ * transfer id for single transfers. On start the journal is replayed to
+ * rebuild every balance, after two checks:
+ * - replayed transfers the database does not have as completed were
+ *   posted but never recorded (the node stopped between the two writes, or
+ *   the completion failed and the transfer was marked failed or
+ *   dead-lettered instead); they are remembered so they are not posted
+ *   again;
+ * - postings staged in `ledger_pending_postings` were committed to the
+ *   database together with their transfers but may have missed the
+ *   journal; a staged posting counts as journaled once every one of its
+ *   legs was replayed, and whatever is left of it is appended now.
+ *
+ * The journal only replays postings whose legs all made it to disk, so a
+ * crash halfway through a posting never shows up as half a transfer.
+ *
+ * Balances are kept in memory, so the ledger expects to be the only writer
+ * of the accounts it serves.
+ */
+@Component
+@ConditionalOnProperty(name = "fts.ledger.enabled", havingValue = "true")
+public class Ledger {
+
+  private static final Logger log = LoggerFactory.getLogger(Ledger.class);
+
+  private static final int RECONCILE_CHUNK = 1_000;
+
+  private static final String INSERT_PENDING = """
+      INSERT INTO ledger_pending_postings (posting_id, leg, account, amount_cents, created_at)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbc;
+  private final PostingJournal journal;
+  private final AccountBalances balances;
+  private final String feeAccount;
+  /** Transfers posted, but not yet recorded as completed. */
+  private final Set<String> uncompleted = ConcurrentHashMap.newKeySet();
+
+  public Ledger(
+      JdbcTemplate jdbc,
+      MeterRegistry meterRegistry,
+      @Value("${fts.ledger.fee-account:0000000000}") String feeAccount,
+      @Value("${fts.ledger.opening-balance:0}") BigDecimal openingBalance,
+      @Value("${fts.ledger.journal.directory:data/ledger}") Path journalDirectory,
+      @Value("${fts.ledger.journal.segment-records:1048576}") int segmentRecords) {
+    this.jdbc = jdbc;
+    this.feeAccount = feeAccount;
+
+    final var pending = loadPending();
+    final var recovered = new HashMap<String, Long>();
+    final var replayed = new LinkedHashSet<String>();
+    try {
+      this.journal = PostingJournal.open(journalDirectory, segmentRecords, posting -> {
+        recovered.merge(posting.account(), posting.amountCents(), Long::sum);
+        final var staged = pending.get(posting.transferId());
+        if (staged == null) {
+          replayed.add(posting.transferId().toString());
+          if (replayed.size() >= RECONCILE_CHUNK) {
+            reconcile(replayed);
+          }
+        } else if (staged.remove(new Posting.Entry(posting.leg(), posting.account(), posting.amountCents()))
+            && staged.isEmpty()) {
+          pending.remove(posting.transferId());
+        }
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open the ledger journal in " + journalDirectory, e);
+    }
+    reconcile(replayed);
+    journal.commit(pending, System.currentTimeMillis());
+    pending.values().forEach(entries -> entries.forEach(entry -> recovered.merge(entry.account(),
+        entry.amountCents(), Long::sum)));
+    jdbc.update("DELETE FROM ledger_pending_postings");
+    log.info("Ledger journal replayed: {} accounts, {} transfers awaiting completion, {} staged postings applied",
+        recovered.size(), uncompleted.size(), pending.size());
+
+    final long opening = Money.of(openingBalance).getCents();
+    this.balances = new AccountBalances(account -> opening + recovered.getOrDefault(account, 0L));
+
+    Gauge.builder("fts.ledger.accounts", balances, AccountBalances::size)
+        .description("Accounts whose balance is held in memory")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+    journal.close();
+  }
+
+  /**
+   * @return the account that collects transfer fees.
+   */
+  public String feeAccount() {
+    return feeAccount;
+  }
+
+  /**
+   * @return the in-memory balances.
+   */
+  public AccountBalances balances() {
+    return balances;
+  }
+
+  /**
+   * @return the current balance of an account, in cents.
+   */
+  public long balance(final String account) {
+    return balances.balance(account);
+  }
+
+  /**
+   * Appends postings to the journal and forces them to disk. When this
+   * throws, none of them is in the journal.
+   */
+  public void journal(final Map<UUID, List<Posting.Entry>> postings) {
+    journal.commit(postings, System.currentTimeMillis());
+  }
+
+  /**
+   * Stages postings in the database, inside the caller's transaction, so
+   * they are journaled on the next start if this node stops before
+   * {@link #journal} and {@link #unstage} ran.
+   */
+  public void stage(final Map<UUID, List<Posting.Entry>> postings) {
+    final var now = OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+    final var rows = new ArrayList<Object[]>();
+    postings.forEach((postingId, entries) -> entries.forEach(entry -> rows.add(new Object[] {
+        postingId.toString(), entry.leg().name(), entry.account(), entry.amountCents(), now })));
+    if (!rows.isEmpty()) {
+      jdbc.batchUpdate(INSERT_PENDING, rows);
+    }
+  }
+
+  /**
+   * Drops staged postings once they are in the journal.
+   */
+  public void unstage(final Collection<UUID> postingIds) {
+    if (postingIds.isEmpty()) {
+      return;
+    }
+    jdbc.update("DELETE FROM ledger_pending_postings WHERE posting_id IN ("
+        + String.join(", ", Collections.nCopies(postingIds.size(), "?")) + ")",
+        postingIds.stream().map(UUID::toString).toArray());
+  }
+
+  /**
+   * @return whether the transfer was posted by an attempt that has not been
+   *         recorded as completed yet.
+   */
+  public boolean isPosted(final String transferId) {
+    return uncompleted.contains(transferId);
+  }
+
+  /**
+   * Remembers that the transfer's postings are journaled.
+   */
+  public void posted(final String transferId) {
+    uncompleted.add(transferId);
+  }
+
+  /**
+   * Forgets transfers recorded as completed.
+   */
+  public void completed(final Collection<String> transferIds) {
+    transferIds.forEach(uncompleted::remove);
+  }
+
+  private Map<UUID, List<Posting.Entry>> loadPending() {
+    final var pending = new LinkedHashMap<UUID, List<Posting.Entry>>();
+    jdbc.query("SELECT posting_id, leg, account, amount_cents FROM ledger_pending_postings ORDER BY id", rs -> {
+      pending.computeIfAbsent(UUID.fromString(rs.getString("posting_id").trim()), id -> new ArrayList<>())
+          .add(new Posting.Entry(Posting.Leg.valueOf(rs.getString("leg")), rs.getString("account"),
+              rs.getLong("amount_cents")));
+    });
+    return pending;
+  }
+
+  /**
+   * Keeps the replayed transfers that the database has in any status but
+   * completed: scheduled, failed and dead-lettered ones alike were posted.
+   */
+  private void reconcile(final Set<String> transferIds) {
+    if (transferIds.isEmpty()) {
+      return;
+    }
+    final var ids = new ArrayList<Object>(transferIds);
+    jdbc.queryForList("SELECT id FROM transfers WHERE status <> 'completed' AND id IN ("
+        + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", String.class, ids.toArray())
+        .forEach(id -> uncompleted.add(id.trim()));
+    transferIds.clear();
+  }
+}
@@ -0,0 +1,134 @@
+package com.johnnycarreiro.fts.infra.ledger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.johnnycarreiro.fts.infra.ledger.journal.Posting;
+import com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferExecutor;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Executes transfers by moving money between accounts: the source pays the
+ * amount plus {@link com.johnnycarreiro.fts.domain.entities.transfer.Transfer#getTotalFee()},
+ * the destination receives the amount and the fee account the fee.
+ *
+ * A transfer the source cannot cover is rejected and goes to the retry
+ * schedule. The debit, credit and fee legs of every accepted transfer are
+ * journaled by the {@link Ledger}, which is synced once per lane batch; if
+ * that fails the journal is rolled back to where the batch started and the
+ * in-memory postings are reversed, so a retry posts each transfer once. Transfers the ledger
+ * already posted, on an attempt that was not recorded as completed, are
+ * not posted again.
+ */
+@Component
+@ConditionalOnProperty(name = "fts.ledger.enabled", havingValue = "true")
+public class LedgerTransferExecutor implements TransferExecutor {
+
+  /** The money one accepted transfer moved. */
+  private record Movement(String transferId, String source, String destination, long amount, long fee) {
+  }
+
+  private final TransferJpaRepository jpaRepository;
+  private final Ledger ledger;
+
+  private final Counter posted;
+  private final Counter insufficientFunds;
+
+  public LedgerTransferExecutor(TransferJpaRepository jpaRepository, Ledger ledger, MeterRegistry meterRegistry) {
+    this.jpaRepository = jpaRepository;
+    this.ledger = ledger;
+
+    this.posted = Counter.builder("fts.ledger.posted")
+        .description("Transfers whose money was moved")
+        .register(meterRegistry);
+    this.insufficientFunds = Counter.builder("fts.ledger.insufficient_funds")
+        .description("Transfers rejected because the source could not cover amount and fee")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Set<String> execute(final List<DueTransfer> transfers) {
+    final var ids = transfers.stream().map(DueTransfer::id).toList();
+    final var entities = jpaRepository.findAllWithFeeByIdIn(ids).stream()
+        .collect(Collectors.toMap(TransferEntity::getId, Function.identity()));
+    final var balances = ledger.balances();
+    final var feeAccount = ledger.feeAccount();
+
+    final var rejected = new HashSet<String>();
+    final var movements = new ArrayList<Movement>(transfers.size());
+    for (DueTransfer due : transfers) {
+      if (ledger.isPosted(due.id())) {
+        continue; // posted by an earlier attempt
+      }
+      final var entity = entities.get(due.id());
+      if (entity == null) {
+        rejected.add(due.id());
+        continue;
+      }
+      final var transfer = entity.toDomain();
+      final var movement = new Movement(due.id(), transfer.getSourceAccount().getValue(),
+          transfer.getDestinationAccount().getValue(), transfer.getAmount().getCents(),
+          transfer.getTotalFee().getCents());
+      if (balances.transfer(movement.source(), movement.destination(), movement.amount(), feeAccount,
+          movement.fee())) {
+        movements.add(movement);
+      } else {
+        rejected.add(due.id());
+        insufficientFunds.increment();
+      }
+    }
+
+    final var postings = new LinkedHashMap<UUID, List<Posting.Entry>>();
+    for (Movement movement : movements) {
+      postings.put(UUID.fromString(movement.transferId()), entries(movement, feeAccount));
+    }
+    try {
+      if (!postings.isEmpty()) {
+        ledger.journal(postings);
+      }
+    } catch (RuntimeException e) {
+      for (Movement movement : movements) {
+        balances.reverse(movement.source(), movement.destination(), movement.amount(), feeAccount,
+            movement.fee());
+      }
+      throw e;
+    }
+    movements.forEach(movement -> ledger.posted(movement.transferId()));
+    posted.increment(movements.size());
+    return rejected;
+  }
+
+  @Override
+  public boolean isExecuted(final String id) {
+    return ledger.isPosted(id);
+  }
+
+  @Override
+  public void completed(final Collection<String> ids) {
+    ledger.completed(ids);
+  }
+
+  private static List<Posting.Entry> entries(final Movement movement, final String feeAccount) {
+    final var debit = new Posting.Entry(Posting.Leg.DEBIT, movement.source(),
+        -Math.addExact(movement.amount(), movement.fee()));
+    final var credit = new Posting.Entry(Posting.Leg.CREDIT, movement.destination(), movement.amount());
+    return movement.fee() == 0
+        ? List.of(debit, credit)
+        : List.of(debit, credit, new Posting.Entry(Posting.Leg.FEE, feeAccount, movement.fee()));
+  }
+}
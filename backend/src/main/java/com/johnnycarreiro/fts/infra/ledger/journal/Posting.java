@@ -0,0 +1,40 @@
+package com.johnnycarreiro.fts.infra.ledger.journal;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One immutable movement of money, as read back from the
+ * {@link PostingJournal}.
+ *
+ * @param sequence    Position in the journal, starting at 1.
+ * @param transferId  The transfer that caused it.
+ * @param leg         Which side of the transfer it is.
+ * @param account     The account whose balance changes.
+ * @param amountCents Signed change, in cents; debits are negative.
+ * @param at          When it was posted.
+ */
+public record Posting(long sequence, UUID transferId, Leg leg, String account, long amountCents, Instant at) {
+
+  /**
+   * One leg of a posting, as appended.
+   *
+   * @param leg         Which side it is.
+   * @param account     The account whose balance changes.
+   * @param amountCents Signed change, negative for money leaving.
+   */
+  public record Entry(Leg leg, String account, long amountCents) {
+  }
+
+  public enum Leg {
+    DEBIT, CREDIT, FEE;
+
+    byte code() {
+      return (byte) (ordinal() + 1);
+    }
+
+    static Leg of(final byte code) {
+      return values()[code - 1];
+    }
+  }
+}
@@ -0,0 +1,433 @@
+package com.johnnycarreiro.fts.infra.ledger.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of {@link Posting}s on memory-mapped segment files.
+ *
+ * Records have a fixed size of {@value #RECORD_SIZE} bytes, so the record
+ * with sequence `s` sits at a known offset of the segment named after its
+ * first sequence:
+ *
+ * | offset | size | field                                      |
+ * |--------|------|--------------------------------------------|
+ * | 0      | 8    | sequence, from 1; 0 marks an empty slot    |
+ * | 8      | 16   | transfer id (UUID, most significant first) |
+ * | 24     | 16   | account number, ASCII, zero padded         |
+ * | 40     | 8    | amount in cents, negative for debits       |
+ * | 48     | 8    | posted at, epoch milliseconds              |
+ * | 56     | 1    | leg                                        |
+ * | 57     | 1    | legs in the posting                        |
+ * | 58     | 1    | index of this leg in the posting, from 0   |
+ * | 60     | 4    | CRC-32C of bytes 0 to 59                   |
+ *
+ * The legs of a posting are contiguous and never span two segments: a
+ * posting that does not fit in what is left of a segment starts the next
+ * one, and the slots left over stay empty.
+ *
+ * Appending only copies the records into the mapping; {@link #sync()}
+ * forces everything written since the previous sync to disk at once, so
+ * callers pay for one `force()` per batch rather than per posting.
+ * {@link #commit} appends and syncs a batch as a unit, rolling the journal
+ * back to where the batch started if either step fails. A segment is
+ * forced in full before the next one is started.
+ *
+ * {@link #open} scans the journal, hands the legs of every complete posting
+ * to the caller and resumes after the last one. A record that fails its
+ * checksum or breaks the sequence ends the journal: everything from there
+ * on was never synced, and is zeroed so it cannot resurface later, together
+ * with the legs already read of a posting it cut short. {@link #replay}
+ * runs the same scan read-only, to verify a journal or rebuild state from
+ * it.
+ *
+ * Appends are serialised by a lock; one writer thread is the fast path.
+ */
+public final class PostingJournal implements AutoCloseable {
+
+  public static final int RECORD_SIZE = 64;
+
+  private static final int ACCOUNT_OFFSET = 24;
+  private static final int ACCOUNT_SIZE = 16;
+  private static final int LEGS_OFFSET = 57;
+  private static final int INDEX_OFFSET = 58;
+  private static final int CRC_OFFSET = 60;
+  private static final String SUFFIX = ".postings";
+
+  /**
+   * Where a scan stopped.
+   *
+   * @param records      Records of complete postings found.
+   * @param lastSequence Sequence of the last of those records, 0 when
+   *                     empty.
+   * @param tail         Segment the next record belongs in; null when the
+   *                     journal is empty or its last segment is full.
+   * @param tailSlot     Slot of the next record in that segment.
+   */
+  public record Scan(long records, long lastSequence, Path tail, int tailSlot) {
+  }
+
+  private final Path directory;
+  private final int segmentRecords;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final byte[] scratch = new byte[RECORD_SIZE];
+  private final ByteBuffer record = ByteBuffer.wrap(scratch);
+  private final CRC32C crc = new CRC32C();
+
+  private FileChannel channel;
+  private MappedByteBuffer segment;
+  private int position;
+  private int synced;
+  private long nextSequence;
+
+  private PostingJournal(final Path directory, final int segmentRecords) {
+    this.directory = directory;
+    this.segmentRecords = segmentRecords;
+  }
+
+  /**
+   * Opens the journal in `directory`, creating it if needed, and replays
+   * the legs of every complete posting into `recovered` before accepting
+   * new ones.
+   *
+   * @param directory      Holds the segment files.
+   * @param segmentRecords Records per segment file.
+   * @param recovered      Receives the existing legs, in order.
+   */
+  public static PostingJournal open(final Path directory, final int segmentRecords,
+      final Consumer<Posting> recovered) throws IOException {
+    if (segmentRecords <= 0 || (long) segmentRecords * RECORD_SIZE > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("segmentRecords must be between 1 and "
+          + Integer.MAX_VALUE / RECORD_SIZE);
+    }
+    Files.createDirectories(directory);
+    final var scan = replay(directory, recovered);
+    final var journal = new PostingJournal(directory, segmentRecords);
+    journal.nextSequence = scan.lastSequence() + 1;
+    if (scan.tail() == null || scan.tailSlot() >= segmentRecords) {
+      journal.map(segmentPath(directory, journal.nextSequence));
+    } else {
+      journal.map(scan.tail());
+      journal.truncate(scan.tailSlot());
+    }
+    return journal;
+  }
+
+  /**
+   * Reads the legs of every complete posting in `directory` without
+   * changing anything.
+   *
+   * @param directory Holds the segment files.
+   * @param visitor   Receives the legs, in order; all legs of a posting
+   *                  are read before the first is handed over.
+   * @return where the valid part of the journal ends.
+   * @throws IllegalStateException when a segment other than the last is
+   *                               damaged, i.e. postings that had been
+   *                               synced are lost.
+   */
+  public static Scan replay(final Path directory, final Consumer<Posting> visitor) throws IOException {
+    final var segments = segments(directory);
+    final var scratch = new byte[RECORD_SIZE];
+    final var record = ByteBuffer.wrap(scratch);
+    final var crc = new CRC32C();
+    final var legs = new ArrayList<Posting>(3);
+    long expected = 1;
+    long records = 0;
+
+    for (int i = 0; i < segments.size(); i++) {
+      final var path = segments.get(i);
+      final boolean last = i == segments.size() - 1;
+      if (firstSequence(path) != expected) {
+        throw new IllegalStateException("Journal segment " + path + " does not continue at sequence " + expected);
+      }
+      try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        final int slots = (int) (channel.size() / RECORD_SIZE);
+        final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) slots * RECORD_SIZE);
+        int postingSlot = 0;
+        for (int slot = 0; slot < slots; slot++) {
+          mapped.get(slot * RECORD_SIZE, scratch);
+          if (record.getLong(0) != expected || !checksumMatches(crc, record)) {
+            if (!last && legs.isEmpty() && isZero(scratch)) {
+              break; // the rest of the segment could not hold the next posting
+            }
+            if (!last) {
+              throw new IllegalStateException("Journal segment " + path + " is damaged at sequence " + expected);
+            }
+            return new Scan(records, expected - 1 - legs.size(), path, legs.isEmpty() ? slot : postingSlot);
+          }
+          final var leg = decode(record);
+          if (record.get(INDEX_OFFSET) != legs.size()
+              || !legs.isEmpty() && !legs.get(0).transferId().equals(leg.transferId())) {
+            throw new IllegalStateException("Journal segment " + path + " breaks off a posting at sequence "
+                + expected);
+          }
+          if (legs.isEmpty()) {
+            postingSlot = slot;
+          }
+          legs.add(leg);
+          expected++;
+          if (legs.size() >= record.get(LEGS_OFFSET)) {
+            legs.forEach(visitor);
+            records += legs.size();
+            legs.clear();
+          }
+        }
+        if (last) {
+          return legs.isEmpty()
+              ? new Scan(records, expected - 1, slots == 0 ? path : null, 0)
+              : new Scan(records, expected - 1 - legs.size(), path, postingSlot);
+        }
+        if (!legs.isEmpty()) {
+          throw new IllegalStateException("Journal segment " + path + " ends inside a posting at sequence "
+              + expected);
+        }
+      }
+    }
+    return new Scan(records, expected - 1, null, 0);
+  }
+
+  /**
+   * Appends the legs of one posting. They are durable once {@link #sync()}
+   * returns.
+   *
+   * @return the sequence given to the first leg.
+   */
+  public long append(final UUID postingId, final List<Posting.Entry> legs, final long atMillis) {
+    if (legs.isEmpty() || legs.size() > Math.min(segmentRecords, Byte.MAX_VALUE)) {
+      throw new IllegalArgumentException("A posting needs between 1 and "
+          + Math.min(segmentRecords, Byte.MAX_VALUE) + " legs: " + legs.size());
+    }
+    for (Posting.Entry leg : legs) {
+      if (leg.account().length() > ACCOUNT_SIZE) {
+        throw new IllegalArgumentException("Account numbers longer than " + ACCOUNT_SIZE + " characters: "
+            + leg.account());
+      }
+    }
+    lock.lock();
+    try {
+      if (position + legs.size() > segmentRecords) {
+        roll();
+      }
+      final long first = nextSequence;
+      for (int index = 0; index < legs.size(); index++) {
+        final var leg = legs.get(index);
+        record.putLong(0, nextSequence);
+        record.putLong(8, postingId.getMostSignificantBits());
+        record.putLong(16, postingId.getLeastSignificantBits());
+        for (int i = 0; i < ACCOUNT_SIZE; i++) {
+          scratch[ACCOUNT_OFFSET + i] = i < leg.account().length() ? (byte) leg.account().charAt(i) : 0;
+        }
+        record.putLong(40, leg.amountCents());
+        record.putLong(48, atMillis);
+        record.putInt(56, leg.leg().code() << 24 | legs.size() << 16 | index << 8);
+        crc.reset();
+        crc.update(scratch, 0, CRC_OFFSET);
+        record.putInt(CRC_OFFSET, (int) crc.getValue());
+
+        segment.put(position * RECORD_SIZE, scratch);
+        position++;
+        nextSequence++;
+      }
+      return first;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not start a new journal segment", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Appends a batch of postings and forces it to disk. When this throws,
+   * the journal is back where it was before the batch, so none of its
+   * postings is replayed later and the batch can be retried as a whole.
+   *
+   * The lock is held throughout, so a rollback never takes another
+   * writer's records with it.
+   */
+  public void commit(final Map<UUID, List<Posting.Entry>> postings, final long atMillis) {
+    lock.lock();
+    try {
+      final long markSequence = nextSequence;
+      final int markSlot = position;
+      try {
+        postings.forEach((postingId, legs) -> append(postingId, legs, atMillis));
+        sync();
+      } catch (RuntimeException e) {
+        try {
+          rollback(markSequence, markSlot);
+        } catch (IOException | RuntimeException rollbackFailure) {
+          e.addSuppressed(rollbackFailure);
+        }
+        throw e;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Forces everything appended since the last sync to disk.
+   */
+  public void sync() {
+    lock.lock();
+    try {
+      if (position > synced) {
+        segment.force(synced * RECORD_SIZE, (position - synced) * RECORD_SIZE);
+        synced = position;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the sequence the next posting will get.
+   */
+  public long nextSequence() {
+    lock.lock();
+    try {
+      return nextSequence;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      if (channel != null) {
+        sync();
+        channel.close();
+        channel = null;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void roll() throws IOException {
+    sync();
+    channel.close();
+    map(segmentPath(directory, nextSequence));
+  }
+
+  /**
+   * Discards everything appended since `sequence` was next, at `slot` of
+   * its segment: segments started since are deleted and the rest of that
+   * segment is zeroed.
+   */
+  private void rollback(final long sequence, final int slot) throws IOException {
+    final long firstOfMark = sequence - slot;
+    if (nextSequence - position != firstOfMark) {
+      channel.close();
+      for (Path path : segments(directory)) {
+        if (firstSequence(path) > firstOfMark) {
+          Files.delete(path);
+        }
+      }
+      map(segmentPath(directory, firstOfMark));
+    }
+    truncate(slot);
+    nextSequence = sequence;
+  }
+
+  private void map(final Path path) throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+    position = 0;
+    synced = 0;
+  }
+
+  /**
+   * Zeroes the unsynced leftovers from `slot` on.
+   */
+  private void truncate(final int slot) {
+    final var zeros = new byte[RECORD_SIZE];
+    for (int i = slot; i < segmentRecords; i++) {
+      if (!isEmpty(i)) {
+        segment.put(i * RECORD_SIZE, zeros);
+      }
+    }
+    segment.force();
+    position = slot;
+    synced = slot;
+  }
+
+  private boolean isEmpty(final int slot) {
+    for (int offset = 0; offset < RECORD_SIZE; offset += Long.BYTES) {
+      if (segment.getLong(slot * RECORD_SIZE + offset) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isZero(final byte[] record) {
+    for (byte b : record) {
+      if (b != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean checksumMatches(final CRC32C crc, final ByteBuffer record) {
+    crc.reset();
+    crc.update(record.array(), 0, CRC_OFFSET);
+    return (int) crc.getValue() == record.getInt(CRC_OFFSET);
+  }
+
+  private static Posting decode(final ByteBuffer record) {
+    final var account = new StringBuilder(ACCOUNT_SIZE);
+    for (int i = 0; i < ACCOUNT_SIZE; i++) {
+      final byte c = record.get(ACCOUNT_OFFSET + i);
+      if (c == 0) {
+        break;
+      }
+      account.append((char) c);
+    }
+    return new Posting(
+        record.getLong(0),
+        new UUID(record.getLong(8), record.getLong(16)),
+        Posting.Leg.of(record.get(56)),
+        account.toString(),
+        record.getLong(40),
+        Instant.ofEpochMilli(record.getLong(48)));
+  }
+
+  private static List<Path> segments(final Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+          .sorted()
+          .toList();
+    }
+  }
+
+  private static long firstSequence(final Path segment) {
+    final var name = segment.getFileName().toString();
+    return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+  }
+
+  private static Path segmentPath(final Path directory, final long firstSequence) {
+    return directory.resolve("%020d%s".formatted(firstSequence, SUFFIX));
+  }
+}
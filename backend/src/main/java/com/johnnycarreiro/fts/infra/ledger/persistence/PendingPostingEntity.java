@@ -0,0 +1,48 @@
+package com.johnnycarreiro.fts.infra.ledger.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One leg of a posting committed to the database but possibly not yet
+ * journaled; rows only live between the two writes.
+ */
+@Entity
+@Table(name = "ledger_pending_postings", indexes = {
+    @Index(name = "idx_ledger_pending_postings_posting_id", columnList = "posting_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class PendingPostingEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Long id;
+
+  @Column(name = "posting_id", nullable = false, length = 36)
+  private String postingId;
+
+  @Column(name = "leg", nullable = false, length = 8)
+  private String leg;
+
+  @Column(name = "account", nullable = false)
+  private String account;
+
+  @Column(name = "amount_cents", nullable = false)
+  private long amountCents;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+}
@@ -0,0 +1,100 @@
+package com.johnnycarreiro.fts.infra.ledger.settlement;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from `long` keys to `int` values, without boxing.
+ * Linear probing over power-of-two tables kept at most half full.
+ * {@link Long#MIN_VALUE} marks free slots and cannot be used as a key.
+ */
+public final class LongIntHashMap {
+
+  private static final long FREE = Long.MIN_VALUE;
+
+  private long[] keys;
+  private int[] values;
+  private int mask;
+  private int size;
+
+  /**
+   * @param expected Number of keys to size the table for.
+   */
+  public LongIntHashMap(final int expected) {
+    final int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+    allocate(capacity);
+  }
+
+  /**
+   * @return the value of `key`, or `missing` when it is absent.
+   */
+  public int get(final long key, final int missing) {
+    int slot = slot(key);
+    while (true) {
+      final long current = keys[slot];
+      if (current == key) {
+        return values[slot];
+      }
+      if (current == FREE) {
+        return missing;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /**
+   * @return the value of `key`, storing `value` first if it was absent.
+   */
+  public int putIfAbsent(final long key, final int value) {
+    if (key == FREE) {
+      throw new IllegalArgumentException("Long.MIN_VALUE cannot be used as a key");
+    }
+    int slot = slot(key);
+    while (true) {
+      final long current = keys[slot];
+      if (current == key) {
+        return values[slot];
+      }
+      if (current == FREE) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+          grow();
+        }
+        return value;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private int slot(final long key) {
+    final long mixed = key * 0x9E3779B97F4A7C15L;
+    return (int) (mixed ^ (mixed >>> 32)) & mask;
+  }
+
+  private void grow() {
+    final long[] oldKeys = keys;
+    final int[] oldValues = values;
+    allocate(oldKeys.length << 1);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        int slot = slot(oldKeys[i]);
+        while (keys[slot] != FREE) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    keys = new long[capacity];
+    Arrays.fill(keys, FREE);
+    values = new int[capacity];
+    mask = capacity - 1;
+  }
+}
@@ -0,0 +1,192 @@
+package com.johnnycarreiro.fts.infra.ledger.settlement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.johnnycarreiro.fts.infra.ledger.journal.Posting;
+
+/**
+ * Nets transfers between the same two accounts into one movement per pair.
+ *
+ * Accounts are numbered as they are first seen and a pair is keyed by its
+ * two numbers packed into a `long`, lower first, so transfers in both
+ * directions land on the same key. Per pair only primitives are summed:
+ * the amount the lower account owes the higher one and the fee each of
+ * them pays. A batch is not thread-safe; the settlement fills one per
+ * partition.
+ */
+public final class NettingBatch {
+
+  /**
+   * The money a pair of accounts exchanges once its transfers are netted.
+   *
+   * @param low            The account numbered first.
+   * @param high           The other account.
+   * @param net            What `low` owes `high`, negative when `high` owes.
+   * @param lowFee         Fees of the transfers `low` sent.
+   * @param highFee        Fees of the transfers `high` sent.
+   * @param transferIds    The transfers netted into this movement.
+   * @param postingsBefore Postings those transfers would take executed one
+   *                       by one.
+   */
+  public record NetMovement(String low, String high, long net, long lowFee, long highFee,
+      List<String> transferIds, long postingsBefore) {
+
+    /**
+     * @return how much `low`'s balance changes, in cents.
+     */
+    public long lowDelta() {
+      return -net - lowFee;
+    }
+
+    /**
+     * @return how much `high`'s balance changes, in cents.
+     */
+    public long highDelta() {
+      return net - highFee;
+    }
+
+    /**
+     * @return the postings that record this movement; legs that do not move
+     *         money are left out.
+     */
+    public List<Posting.Entry> entries(final String feeAccount) {
+      final var entries = new ArrayList<Posting.Entry>(3);
+      addLeg(entries, low, lowDelta());
+      addLeg(entries, high, highDelta());
+      final long fee = Math.addExact(lowFee, highFee);
+      if (fee != 0) {
+        entries.add(new Posting.Entry(Posting.Leg.FEE, feeAccount, fee));
+      }
+      return entries;
+    }
+
+    private static void addLeg(final List<Posting.Entry> entries, final String account, final long delta) {
+      if (delta != 0) {
+        entries.add(new Posting.Entry(delta < 0 ? Posting.Leg.DEBIT : Posting.Leg.CREDIT, account, delta));
+      }
+    }
+  }
+
+  private final Map<String, Integer> accountNumbers = new HashMap<>();
+  private final List<String> accounts = new ArrayList<>();
+  private final LongIntHashMap pairs;
+
+  private int[] pairLow;
+  private int[] pairHigh;
+  private long[] net;
+  private long[] lowFee;
+  private long[] highFee;
+  private long[] postings;
+  private final List<List<String>> transferIds = new ArrayList<>();
+  private int pairCount;
+
+  private int transfers;
+  private long postingsBefore;
+
+  /**
+   * @param expectedPairs Number of pairs to size the tables for.
+   */
+  public NettingBatch(final int expectedPairs) {
+    final int capacity = Math.max(16, expectedPairs);
+    this.pairs = new LongIntHashMap(capacity);
+    this.pairLow = new int[capacity];
+    this.pairHigh = new int[capacity];
+    this.net = new long[capacity];
+    this.lowFee = new long[capacity];
+    this.highFee = new long[capacity];
+    this.postings = new long[capacity];
+  }
+
+  /**
+   * Adds a transfer of `amount` from `source` to `destination`, with `fee`
+   * charged to the source.
+   */
+  public void add(final String transferId, final String source, final String destination, final long amount,
+      final long fee) {
+    final int from = number(source);
+    final int to = number(destination);
+    final boolean sourceIsLow = from <= to;
+    final int low = sourceIsLow ? from : to;
+    final int high = sourceIsLow ? to : from;
+
+    final int pair = pairs.putIfAbsent(((long) low << 32) | high, pairCount);
+    if (pair == pairCount) {
+      newPair(low, high);
+    }
+    if (sourceIsLow) {
+      net[pair] = Math.addExact(net[pair], amount);
+      lowFee[pair] = Math.addExact(lowFee[pair], fee);
+    } else {
+      net[pair] = Math.subtractExact(net[pair], amount);
+      highFee[pair] = Math.addExact(highFee[pair], fee);
+    }
+    transferIds.get(pair).add(transferId);
+
+    final int transferPostings = fee == 0 ? 2 : 3;
+    postings[pair] += transferPostings;
+    transfers++;
+    postingsBefore += transferPostings;
+  }
+
+  /**
+   * @return one movement per pair, in the order pairs were first seen.
+   */
+  public List<NetMovement> movements() {
+    final var movements = new ArrayList<NetMovement>(pairCount);
+    for (int pair = 0; pair < pairCount; pair++) {
+      movements.add(new NetMovement(accounts.get(pairLow[pair]), accounts.get(pairHigh[pair]), net[pair],
+          lowFee[pair], highFee[pair], transferIds.get(pair), postings[pair]));
+    }
+    return movements;
+  }
+
+  /**
+   * @return how many transfers were added.
+   */
+  public int transfers() {
+    return transfers;
+  }
+
+  /**
+   * @return how many distinct pairs they were between.
+   */
+  public int pairs() {
+    return pairCount;
+  }
+
+  /**
+   * @return how many postings the transfers would take executed one by one.
+   */
+  public long postingsBefore() {
+    return postingsBefore;
+  }
+
+  private int number(final String account) {
+    final var known = accountNumbers.putIfAbsent(account, accounts.size());
+    if (known != null) {
+      return known;
+    }
+    accounts.add(account);
+    return accounts.size() - 1;
+  }
+
+  private void newPair(final int low, final int high) {
+    if (pairCount == net.length) {
+      final int capacity = net.length << 1;
+      pairLow = Arrays.copyOf(pairLow, capacity);
+      pairHigh = Arrays.copyOf(pairHigh, capacity);
+      net = Arrays.copyOf(net, capacity);
+      lowFee = Arrays.copyOf(lowFee, capacity);
+      highFee = Arrays.copyOf(highFee, capacity);
+      postings = Arrays.copyOf(postings, capacity);
+    }
+    pairLow[pairCount] = low;
+    pairHigh[pairCount] = high;
+    transferIds.add(new ArrayList<>());
+    pairCount++;
+  }
+}
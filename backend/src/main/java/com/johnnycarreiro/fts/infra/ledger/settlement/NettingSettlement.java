@@ -0,0 +1,305 @@
+package com.johnnycarreiro.fts.infra.ledger.settlement;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
+import com.johnnycarreiro.fts.infra.ledger.Ledger;
+import com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferClaimer;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Settles a day's scheduled transfers as one net movement per account pair.
+ *
+ * Once a day, at `run-at` UTC, the transfers due that day are leased under
+ * this node's id suffixed with `/settlement`, for `lease`, so the execution
+ * engine leaves them alone; the ones it already holds are left to it. They
+ * are split into partitions by the lower account of their pair, so both
+ * directions of a pair meet in the same partition, and the partitions are
+ * netted in parallel by a {@link NettingBatch} each.
+ *
+ * Every net movement is first applied to the in-memory balances. A pair
+ * whose paying side cannot cover it is released back to the engine, which
+ * then executes its transfers one by one. The partition's transfers are
+ * marked completed in the same database transaction that stages its
+ * movements in `ledger_pending_postings`; only then are the movements
+ * journaled and unstaged, so a node that stops in between journals them on
+ * its next start. If the transaction fails, the balances are put back and
+ * the transfers released.
+ *
+ * Transfers are settled at the start of the day they are due, as if it were
+ * their value date, rather than at the time of day they were scheduled for.
+ */
+@Component
+@ConditionalOnProperty(name = "fts.settlement.enabled", havingValue = "true")
+public class NettingSettlement {
+
+  private static final Logger log = LoggerFactory.getLogger(NettingSettlement.class);
+
+  /** One claimed transfer, reduced to the money it moves. */
+  private record Item(String transferId, String source, String destination, long amount, long fee) {
+
+    String lowAccount() {
+      return source.compareTo(destination) <= 0 ? source : destination;
+    }
+  }
+
+  /** What one partition settled. */
+  private record Outcome(int transfers, int pairs, long postingsBefore, long postingsAfter, int released) {
+  }
+
+  private final TransferJpaRepository jpaRepository;
+  private final Ledger ledger;
+  private final TransferClaimer claimer;
+  private final TransactionTemplate transactionTemplate;
+
+  private final LocalTime runAt;
+  private final int partitions;
+  private final int pageSize;
+
+  private final Counter settledTransfers;
+  private final Counter journaledPostings;
+  private final Counter savedPostings;
+
+  private ScheduledExecutorService scheduler;
+
+  public NettingSettlement(
+      TransferJpaRepository jpaRepository,
+      Ledger ledger,
+      TransferClaimer engineClaimer,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${fts.settlement.run-at:00:00}") LocalTime runAt,
+      @Value("${fts.settlement.partitions:0}") int partitions,
+      @Value("${fts.settlement.lease:PT30M}") Duration lease,
+      @Value("${fts.settlement.page-size:5000}") int pageSize) {
+    this.jpaRepository = jpaRepository;
+    this.ledger = ledger;
+    this.claimer = engineClaimer.forNode(engineClaimer.nodeId() + "/settlement", lease);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.runAt = runAt;
+    this.partitions = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+    this.pageSize = pageSize;
+
+    this.settledTransfers = Counter.builder("fts.settlement.transfers")
+        .description("Transfers completed through a net movement")
+        .register(meterRegistry);
+    this.journaledPostings = Counter.builder("fts.settlement.postings")
+        .description("Postings journaled for net movements")
+        .register(meterRegistry);
+    this.savedPostings = Counter.builder("fts.settlement.postings_saved")
+        .description("Postings netting avoided compared to executing each transfer")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("ledger-settlement").daemon().factory());
+    final var now = ZonedDateTime.now(ZoneOffset.UTC);
+    var next = now.with(runAt);
+    if (!next.isAfter(now)) {
+      next = next.plusDays(1);
+    }
+    scheduler.scheduleAtFixedRate(this::settleToday, Duration.between(now, next).toMillis(),
+        TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * Nets and settles the scheduled transfers due on `day`, UTC.
+   *
+   * @return what was settled.
+   */
+  public SettlementReport settle(final LocalDate day) {
+    final long started = System.nanoTime();
+    final var from = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    final var until = from.plus(1, ChronoUnit.DAYS).minus(1, ChronoUnit.MICROS);
+
+    final var byPartition = new ArrayList<List<Item>>(partitions);
+    for (int i = 0; i < partitions; i++) {
+      byPartition.add(new ArrayList<>());
+    }
+    List<DueTransfer> page;
+    while (!(page = claimer.claimDue(from, until, pageSize)).isEmpty()) {
+      for (Item item : load(page)) {
+        byPartition.get(Math.floorMod(item.lowAccount().hashCode(), partitions)).add(item);
+      }
+    }
+
+    final var outcomes = new ArrayList<Outcome>(partitions);
+    try (var workers = Executors.newFixedThreadPool(partitions,
+        Thread.ofPlatform().name("ledger-settlement-", 0).daemon().factory())) {
+      final var tasks = new ArrayList<Callable<Outcome>>(partitions);
+      byPartition.stream().filter(items -> !items.isEmpty()).forEach(items -> tasks.add(() -> settlePartition(items)));
+      for (Future<Outcome> future : workers.invokeAll(tasks)) {
+        outcomes.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Settlement of " + day + " was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Settlement of " + day + " failed", e.getCause());
+    }
+
+    final var report = new SettlementReport(day,
+        outcomes.stream().mapToInt(Outcome::transfers).sum(),
+        outcomes.stream().mapToInt(Outcome::pairs).sum(),
+        outcomes.stream().mapToLong(Outcome::postingsBefore).sum(),
+        outcomes.stream().mapToLong(Outcome::postingsAfter).sum(),
+        outcomes.stream().mapToInt(Outcome::released).sum(),
+        Duration.ofNanos(System.nanoTime() - started));
+    settledTransfers.increment(report.transfers());
+    journaledPostings.increment(report.postingsAfter());
+    savedPostings.increment(report.postingsBefore() - report.postingsAfter());
+    log.info("Settled {}: {} transfers netted into {} movements, {} postings instead of {} ({}x), {} released in {}",
+        day, report.transfers(), report.pairs(), report.postingsAfter(), report.postingsBefore(),
+        "%.1f".formatted(report.compressionRatio()), report.released(), report.took());
+    return report;
+  }
+
+  private void settleToday() {
+    try {
+      settle(LocalDate.now(ZoneOffset.UTC));
+    } catch (RuntimeException e) {
+      log.error("Settlement failed; its transfers go back to the execution engine when their lease expires", e);
+    }
+  }
+
+  private List<Item> load(final List<DueTransfer> page) {
+    final var ids = page.stream().map(DueTransfer::id).toList();
+    final var items = new ArrayList<Item>(ids.size());
+    final var found = new ArrayList<String>(ids.size());
+    for (var entity : jpaRepository.findAllWithFeeByIdIn(ids)) {
+      final var transfer = entity.toDomain();
+      items.add(new Item(entity.getId(), transfer.getSourceAccount().getValue(),
+          transfer.getDestinationAccount().getValue(), transfer.getAmount().getCents(),
+          transfer.getTotalFee().getCents()));
+      found.add(entity.getId());
+    }
+    if (found.size() < ids.size()) {
+      claimer.release(ids.stream().filter(id -> !found.contains(id)).toList());
+    }
+    return items;
+  }
+
+  private Outcome settlePartition(final List<Item> items) {
+    final var batch = new NettingBatch(items.size());
+    items.forEach(item -> batch.add(item.transferId(), item.source(), item.destination(), item.amount(),
+        item.fee()));
+
+    final var feeAccount = ledger.feeAccount();
+    final var postings = new LinkedHashMap<UUID, List<Posting.Entry>>();
+    final var settled = new ArrayList<String>(items.size());
+    final var released = new ArrayList<String>();
+    long postingsBefore = 0;
+    for (NettingBatch.NetMovement movement : batch.movements()) {
+      final var entries = movement.entries(feeAccount);
+      if (reserve(entries)) {
+        postings.put(UUID.randomUUID(), entries);
+        settled.addAll(movement.transferIds());
+        postingsBefore += movement.postingsBefore();
+      } else {
+        released.addAll(movement.transferIds());
+      }
+    }
+    claimer.release(released);
+    if (postings.isEmpty()) {
+      return new Outcome(0, 0, 0, 0, released.size());
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        final var now = Instant.now();
+        int completed = 0;
+        for (int i = 0; i < settled.size(); i += pageSize) {
+          completed += claimer.complete(settled.subList(i, Math.min(settled.size(), i + pageSize)),
+              Status.COMPLETED.getValue(), now).size();
+        }
+        if (completed != settled.size()) {
+          throw new IllegalStateException("Lost the lease on " + (settled.size() - completed) + " transfers");
+        }
+        ledger.stage(postings);
+      });
+    } catch (RuntimeException e) {
+      postings.values().forEach(this::undo);
+      claimer.release(settled);
+      log.warn("Could not settle {} transfers; released to the execution engine", settled.size(), e);
+      return new Outcome(0, 0, 0, 0, released.size() + settled.size());
+    }
+
+    try {
+      ledger.journal(postings);
+      ledger.unstage(postings.keySet());
+    } catch (RuntimeException e) {
+      log.error("Net movements are staged but not journaled; they are journaled on the next start", e);
+    }
+    final long postingsAfter = postings.values().stream().mapToLong(List::size).sum();
+    return new Outcome(settled.size(), postings.size(), postingsBefore, postingsAfter, released.size());
+  }
+
+  /**
+   * Applies a movement to the balances, debits first; nothing moves unless
+   * every paying side covers its part.
+   */
+  private boolean reserve(final List<Posting.Entry> entries) {
+    final var balances = ledger.balances();
+    for (int i = 0; i < entries.size(); i++) {
+      final var entry = entries.get(i);
+      if (entry.amountCents() < 0 && !balances.debit(entry.account(), -entry.amountCents())) {
+        for (int j = 0; j < i; j++) {
+          final var debited = entries.get(j);
+          if (debited.amountCents() < 0) {
+            balances.credit(debited.account(), -debited.amountCents());
+          }
+        }
+        return false;
+      }
+    }
+    for (Posting.Entry entry : entries) {
+      if (entry.amountCents() > 0) {
+        balances.credit(entry.account(), entry.amountCents());
+      }
+    }
+    return true;
+  }
+
+  private void undo(final List<Posting.Entry> entries) {
+    entries.forEach(entry -> ledger.balances().adjust(entry.account(), -entry.amountCents()));
+  }
+}
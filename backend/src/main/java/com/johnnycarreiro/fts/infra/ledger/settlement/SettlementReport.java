@@ -0,0 +1,30 @@
+package com.johnnycarreiro.fts.infra.ledger.settlement;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * What one netting run settled.
+ *
+ * @param day            The UTC day whose transfers were netted.
+ * @param transfers      Transfers completed through a net movement.
+ * @param pairs          Net movements posted.
+ * @param postingsBefore Postings the completed transfers would take
+ *                       executed one by one.
+ * @param postingsAfter  Postings actually journaled.
+ * @param released       Transfers handed back to the execution engine,
+ *                       because their pair could not be settled.
+ * @param took           How long the run took.
+ */
+public record SettlementReport(LocalDate day, int transfers, int pairs, long postingsBefore, long postingsAfter,
+    int released, Duration took) {
+
+  /**
+   * @return how many postings were saved per posting written, e.g. 12.5
+   *         for 250 transfers netted into 20 postings; 1 when nothing was
+   *         settled.
+   */
+  public double compressionRatio() {
+    return postingsAfter == 0 ? 1 : (double) postingsBefore / postingsAfter;
+  }
+}
@@ -1,17 +1,32 @@
 package com.johnnycarreiro.fts.infra.transfer;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.exceptions.UnavailableException;
 import com.johnnycarreiro.fts.core.domain.validation.Error;
 import com.johnnycarreiro.fts.core.utils.Result;
 import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
 import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
 import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummaries;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferCache;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+import com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferScheduledEvent;
+import com.johnnycarreiro.fts.infra.transfer.persistence.GroupCommitTransferWriter;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferBatchWriter;
 import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
 import com.johnnycarreiro.fts.infra.transfer.persistence.TransferFeeEntity;
 import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
@@ -20,9 +35,26 @@ import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
 public class JpaTransferRepository implements TransferRepository {
 
   private final TransferJpaRepository jpaRepository;
-
-  public JpaTransferRepository(TransferJpaRepository jpaRepository) {
+  private final TransferFeeCache feeCache;
+  private final TransferBatchWriter batchWriter;
+  private final GroupCommitTransferWriter groupCommitWriter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final AccountSummaries accountSummaries;
+  private final TransferCache transferCache;
+  private final TransactionTemplate transactionTemplate;
+
+  public JpaTransferRepository(TransferJpaRepository jpaRepository, TransferFeeCache feeCache,
+      TransferBatchWriter batchWriter, GroupCommitTransferWriter groupCommitWriter,
+      ApplicationEventPublisher eventPublisher, AccountSummaries accountSummaries,
+      TransferCache transferCache, PlatformTransactionManager transactionManager) {
     this.jpaRepository = jpaRepository;
+    this.feeCache = feeCache;
+    this.batchWriter = batchWriter;
+    this.groupCommitWriter = groupCommitWriter;
+    this.eventPublisher = eventPublisher;
+    this.accountSummaries = accountSummaries;
+    this.transferCache = transferCache;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
   @Override
@@ -38,11 +70,67 @@ public class JpaTransferRepository implements TransferRepository {
         return Result.error(DomainException.with(new Error("Invalid TransferFee associated")));
       }
 
+      final var result = groupCommitWriter.isEnabled() ? saveGrouped(entity) : saveDirect(entity);
+      if (result.isSuccess()) {
+        transferCache.invalidateAfterCommit(List.of(entity.getId()));
+        publishScheduled(List.of(transfer));
+      }
+      return result;
+    } catch (Exception e) {
+      // log.error("Error saving transfer: ", e);
+      return Result.error(UnavailableException.with(new Error("Error saving transfer: " + e.getMessage())));
+    }
+  }
+
+  private Result<Void, DomainException> saveDirect(TransferEntity entity) {
+    transactionTemplate.executeWithoutResult(status -> {
       jpaRepository.save(entity);
+      accountSummaries.created(List.of(entity));
+    });
+    return Result.success(null);
+  }
+
+  /**
+   * Hands the transfer to the group-commit writer and waits until the group
+   * holding it is committed. The writer completes every future, so there is
+   * no timeout here: giving up early would report a failure for a row that
+   * may still commit. A transfer turned away by a full or stopping queue, or
+   * whose group failed to commit, was never written, so it fails as
+   * {@link UnavailableException} for the client to retry.
+   */
+  private Result<Void, DomainException> saveGrouped(TransferEntity entity) {
+    try {
+      groupCommitWriter.submit(entity).get();
+      return Result.success(null);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RejectedExecutionException) {
+        return Result.error(UnavailableException.with(new Error(e.getCause().getMessage())));
+      }
+      return Result.error(UnavailableException.with(new Error("Error saving transfer: " + e.getCause().getMessage())));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Result.error(DomainException.with(new Error(
+          "Interrupted before the transfer was confirmed; it may still have been saved")));
+    }
+  }
+
+  @Override
+  public Result<Void, DomainException> saveAll(List<Transfer> transfers) {
+    try {
+      final var entities = new ArrayList<TransferEntity>(transfers.size());
+      for (Transfer transfer : transfers) {
+        if (transfer.getTransferFee() == null) {
+          return Result.error(DomainException.with(new Error("Transfer must have a TransferFee associated")));
+        }
+        entities.add(TransferEntity.fromDomain(transfer));
+      }
+
+      batchWriter.insertAll(entities);
+      transferCache.invalidateAfterCommit(entities.stream().map(TransferEntity::getId).toList());
+      publishScheduled(transfers);
       return Result.success(null);
     } catch (Exception e) {
-      // log.error("Error saving transfer: ", e);
-      return Result.error(DomainException.with(new Error("Error saving transfer: " + e.getMessage())));
+      return Result.error(DomainException.with(new Error("Error saving transfers: " + e.getMessage())));
     }
   }
 
@@ -67,17 +155,16 @@ public class JpaTransferRepository implements TransferRepository {
   }
 
   public void deleteById(String id) {
-    jpaRepository.deleteById(id);
+    transactionTemplate.executeWithoutResult(status -> jpaRepository.findById(id).ifPresent(entity -> {
+      accountSummaries.removed(entity);
+      jpaRepository.delete(entity);
+      transferCache.invalidateAfterCommit(List.of(id));
+    }));
   }
 
   @Override
   public Result<Void, DomainException> update(Transfer transfer) {
     try {
-      var existingTransfer = jpaRepository.findById(transfer.getId().getValue());
-      if (existingTransfer.isEmpty()) {
-        return Result.error(DomainException.with(new Error("Transfer not found")));
-      }
-
       // Verificar se TransferFee está associada corretamente
       if (transfer.getTransferFee() == null) {
         return Result.error(DomainException.with(new Error("Transfer must have a TransferFee associated")));
@@ -90,10 +177,21 @@ public class JpaTransferRepository implements TransferRepository {
         return Result.error(DomainException.with(new Error("Invalid TransferFee associated")));
       }
 
-      // Atualiza a Transfer
-      jpaRepository.save(entity);
+      return transactionTemplate.execute(status -> {
+        var existingTransfer = jpaRepository.findById(transfer.getId().getValue());
+        if (existingTransfer.isEmpty()) {
+          return Result.<Void, DomainException>error(DomainException.with(new Error("Transfer not found")));
+        }
 
-      return Result.success(null);
+        // The merge below overwrites the managed row, so count it first
+        accountSummaries.replaced(existingTransfer.get(), entity);
+
+        // Atualiza a Transfer
+        jpaRepository.save(entity);
+        transferCache.invalidateAfterCommit(List.of(entity.getId()));
+
+        return Result.<Void, DomainException>success(null);
+      });
     } catch (Exception e) {
       return Result.error(DomainException.with(new Error("Error updating transfer: " + e.getMessage())));
     }
@@ -102,13 +200,29 @@ public class JpaTransferRepository implements TransferRepository {
   @Override
   public Result<List<TransferFee>, DomainException> listAllFees() {
     try {
-      var feeEntities = jpaRepository.findAllFees();
-      var fees = feeEntities.stream()
-          .map(TransferFeeEntity::toDomain)
-          .collect(Collectors.toList());
-      return Result.success(fees);
+      return Result.success(feeCache.get(this::loadAllFees));
     } catch (Exception e) {
       return Result.error(DomainException.with(new Error("Error listing all fees: " + e.getMessage())));
     }
   }
+
+  /**
+   * Tells the execution engine about transfers that were just committed.
+   */
+  private void publishScheduled(List<Transfer> transfers) {
+    final var due = transfers.stream()
+        .filter(transfer -> transfer.getStatus() == null || transfer.getStatus().getValue() == Status.SCHEDULED)
+        .map(transfer -> new DueTransfer(transfer.getId().getValue(), transfer.getSourceAccount().getValue(),
+            transfer.getScheduledDate()))
+        .toList();
+    if (!due.isEmpty()) {
+      eventPublisher.publishEvent(new TransferScheduledEvent(due));
+    }
+  }
+
+  private List<TransferFee> loadAllFees() {
+    return jpaRepository.findAllFees().stream()
+        .map(TransferFeeEntity::toDomain)
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,146 @@
+package com.johnnycarreiro.fts.infra.transfer.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.johnnycarreiro.fts.application.transfer.services.TransferService;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferStatusListener;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferJson;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferPresenter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Read-through cache of transfers serialized to JSON, keyed by id, for
+ * clients that poll a transfer until its status changes. A hit sends the
+ * stored bytes as they are.
+ *
+ * Caffeine bounds it by `max-size` with W-TinyLFU: a small LRU window admits
+ * new ids, and an id only displaces one from the main area if a frequency
+ * sketch says it is requested more often, so a burst of one-off lookups
+ * cannot flush the transfers being polled. Entries also expire `ttl` after
+ * they were loaded, which bounds how stale a transfer changed by another
+ * node can be.
+ *
+ * Loads run on their own threads and concurrent misses for one id share a
+ * single future, so each id costs at most one query at a time and no lock
+ * is held while the database is read. Unknown ids are not cached.
+ *
+ * Every write this node makes drops the ids it touched once its transaction
+ * commits: {@link com.johnnycarreiro.fts.infra.transfer.JpaTransferRepository}
+ * calls {@link #invalidateAfterCommit(Collection)}, and status changes made
+ * by the claimer arrive through {@link TransferStatusListener}.
+ */
+@Component
+public class TransferCache implements TransferStatusListener {
+
+  private final TransferService transferService;
+  private final JsonFactory jsonFactory;
+  private final ExecutorService loader;
+  private final AsyncLoadingCache<String, TransferJson> cache;
+  private final Timer loadTimer;
+
+  public TransferCache(
+      TransferService transferService,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${fts.transfer-cache.max-size:100000}") long maxSize,
+      @Value("${fts.transfer-cache.ttl:PT5S}") Duration ttl,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.transferService = transferService;
+    this.jsonFactory = objectMapper.getFactory();
+    this.loader = virtualThreads
+        ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("transfer-cache-load-", 0).factory())
+        : Executors.newCachedThreadPool(Thread.ofPlatform().name("transfer-cache-load-", 0).daemon().factory());
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .executor(loader)
+        .recordStats()
+        .buildAsync(this::load);
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "transfers");
+    Gauge.builder("fts.transfers.cache.hit_rate", cache, c -> c.synchronous().stats().hitRate())
+        .description("Share of GET /transfers/{id} lookups served from memory")
+        .register(meterRegistry);
+    this.loadTimer = Timer.builder("fts.transfers.cache.load")
+        .description("Time spent loading a transfer on a cache miss")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param id The transfer id.
+   * @return the serialized transfer, or empty when it does not exist.
+   */
+  public Optional<TransferJson> get(final String id) {
+    return Optional.ofNullable(cache.get(id).join());
+  }
+
+  /**
+   * Like {@link #get(String)}, but reloads a cached transfer older than
+   * `updatedAt`, for callers that just read the current version from the
+   * database and must not answer with an earlier one.
+   *
+   * @param id        The transfer id.
+   * @param updatedAt The oldest version acceptable.
+   */
+  public Optional<TransferJson> get(final String id, final Instant updatedAt) {
+    final var cached = get(id);
+    if (cached.isEmpty() || !cached.get().updatedAt().isBefore(updatedAt)) {
+      return cached;
+    }
+    cache.synchronous().invalidate(id);
+    return get(id);
+  }
+
+  /**
+   * Drops the given transfers once the surrounding transaction commits, or
+   * right away outside of one.
+   */
+  public void invalidateAfterCommit(final Collection<String> ids) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.synchronous().invalidateAll(ids);
+        }
+      });
+    } else {
+      cache.synchronous().invalidateAll(ids);
+    }
+  }
+
+  @Override
+  public void transitioned(final Collection<String> ids, final String from, final String to) {
+    invalidateAfterCommit(ids);
+  }
+
+  @PreDestroy
+  public void stop() {
+    loader.shutdownNow();
+  }
+
+  private TransferJson load(final String id) {
+    return loadTimer.record(() -> transferService.findById(id)
+        .map(transfer -> TransferPresenter.toJson(jsonFactory, transfer))
+        .orElse(null));
+  }
+}
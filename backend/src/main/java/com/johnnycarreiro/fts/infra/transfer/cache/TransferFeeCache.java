@@ -0,0 +1,118 @@
+package com.johnnycarreiro.fts.infra.transfer.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import org.springframework.stereotype.Component;
+
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+
+/**
+ * In-memory copy of the fee schedule.
+ *
+ * The fee table is tiny and changes rarely, so it is loaded once and served
+ * from memory until a write to `transfer_fees` calls {@link #invalidate()}.
+ * Each load gets a new version number and an etag derived from the rule
+ * contents, which callers can use to tell whether the schedule changed.
+ */
+@Component
+public class TransferFeeCache {
+
+  /**
+   * An immutable view of the fee schedule as of one load.
+   *
+   * @param fees    The fee rules, in the order they were loaded.
+   * @param version Monotonic version, incremented on every reload.
+   * @param etag    Strong etag computed from the rule contents.
+   */
+  public record Snapshot(List<TransferFee> fees, long version, String etag) {
+  }
+
+  /**
+   * A lock rather than a monitor: the load runs a JDBC query, and blocking
+   * inside `synchronized` would pin a virtual thread to its carrier.
+   */
+  private final ReentrantLock loadLock = new ReentrantLock();
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Bumped on every invalidation. A load only publishes its result if no
+   * invalidation happened while it was reading from the database.
+   */
+  private final AtomicLong generation = new AtomicLong();
+
+  /** Guarded by {@link #loadLock}. */
+  private long version;
+
+  /**
+   * Returns the cached fee schedule, loading it with the given supplier when
+   * the cache is empty.
+   *
+   * @param loader Reads the fee rules from the persistent store.
+   * @return The fee rules, in the order they were loaded.
+   */
+  public List<TransferFee> get(final Supplier<List<TransferFee>> loader) {
+    return snapshot(loader).fees();
+  }
+
+  /**
+   * Same as {@link #get(Supplier)}, with the version and etag of the load.
+   *
+   * @param loader Reads the fee rules from the persistent store.
+   * @return The current snapshot.
+   */
+  public Snapshot snapshot(final Supplier<List<TransferFee>> loader) {
+    final var current = this.snapshot;
+    if (current != null) {
+      return current;
+    }
+
+    loadLock.lock();
+    try {
+      if (this.snapshot != null) {
+        return this.snapshot;
+      }
+
+      final long loadGeneration = this.generation.get();
+      final var fees = List.copyOf(loader.get());
+      final var loaded = new Snapshot(fees, ++version, etagOf(fees));
+
+      if (loadGeneration == this.generation.get()) {
+        this.snapshot = loaded;
+      }
+      return loaded;
+    } finally {
+      loadLock.unlock();
+    }
+  }
+
+  /**
+   * @return the cached snapshot, or null when nothing is loaded yet.
+   */
+  public Snapshot peek() {
+    return this.snapshot;
+  }
+
+  /**
+   * Drops the cached schedule so the next read goes back to the database.
+   */
+  public void invalidate() {
+    this.generation.incrementAndGet();
+    this.snapshot = null;
+  }
+
+  private static String etagOf(final List<TransferFee> fees) {
+    final var crc = new CRC32();
+    for (TransferFee fee : fees) {
+      final var row = fee.getId().getValue() + '|' + fee.getMinDays() + '|' + fee.getMaxDays() + '|'
+          + fee.getFixedFee().toPlainString() + '|' + fee.getPercentageFee().toPlainString() + ';';
+      crc.update(row.getBytes(StandardCharsets.UTF_8));
+    }
+    return "\"" + Long.toHexString(crc.getValue()) + "-" + fees.size() + "\"";
+  }
+}
@@ -0,0 +1,191 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs work in a fixed set of single-consumer lanes, keyed by account.
+ *
+ * Items of one account always go to the lane already holding that
+ * account's pending items, so they are handled in the order they were
+ * submitted; items of different accounts run in parallel on different
+ * lanes, without any shared lock.
+ *
+ * An account normally lives on the lane its hash points to. When that lane
+ * is backed up past `hotLaneDepth` (typically because a hot account is
+ * flooding it), accounts with nothing pending are routed to the least loaded
+ * lane instead, so they don't wait behind the hot one. Moving an idle
+ * account cannot reorder it, since none of its items are still queued.
+ *
+ * Ordering holds per submitting thread; the execution engine submits from
+ * a single dispatcher.
+ *
+ * @param <T> The work item type.
+ */
+public final class AccountLanes<T> implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountLanes.class);
+
+  private static final long IDLE_POLL_MILLIS = 100;
+
+  private record Entry<T>(String account, T item) {
+  }
+
+  /** Lane an account is bound to while it has items pending. */
+  private record Route(int lane, int pending) {
+  }
+
+  private final List<BlockingQueue<Entry<T>>> lanes;
+  private final List<Thread> consumers;
+  private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+  private final LongAdder rebalanced = new LongAdder();
+  private final int batchSize;
+  private final int hotLaneDepth;
+  private final Consumer<List<T>> handler;
+
+  private volatile boolean running = true;
+
+  /**
+   * @param laneCount    Number of lanes, usually the number of cores.
+   * @param capacity     Items each lane can hold before submitters block.
+   * @param batchSize    Maximum items handed to the handler at once.
+   * @param hotLaneDepth Lane depth past which idle accounts are moved away.
+   * @param threads      Creates one consumer thread per lane.
+   * @param handler      Handles a batch of items from one lane, in order.
+   */
+  public AccountLanes(final int laneCount, final int capacity, final int batchSize, final int hotLaneDepth,
+      final ThreadFactory threads, final Consumer<List<T>> handler) {
+    this.batchSize = batchSize;
+    this.hotLaneDepth = hotLaneDepth;
+    this.handler = handler;
+    this.lanes = new ArrayList<>(laneCount);
+    this.consumers = new ArrayList<>(laneCount);
+    for (int i = 0; i < laneCount; i++) {
+      lanes.add(new ArrayBlockingQueue<>(capacity));
+    }
+    for (int i = 0; i < laneCount; i++) {
+      final var lane = lanes.get(i);
+      final var consumer = threads.newThread(() -> consume(lane));
+      consumers.add(consumer);
+      consumer.start();
+    }
+  }
+
+  /**
+   * Queues an item on the account's lane, blocking while that lane is full.
+   *
+   * @param account The ordering key, usually the source account number.
+   * @param item    The work item.
+   */
+  public void submit(final String account, final T item) throws InterruptedException {
+    final int lane = routes.compute(account,
+        (key, route) -> route == null ? new Route(choose(key), 1) : new Route(route.lane(), route.pending() + 1))
+        .lane();
+    try {
+      lanes.get(lane).put(new Entry<>(account, item));
+    } catch (InterruptedException e) {
+      release(account);
+      throw e;
+    }
+  }
+
+  /**
+   * @return the number of items waiting on each lane.
+   */
+  public int[] depths() {
+    final int[] depths = new int[lanes.size()];
+    for (int i = 0; i < depths.length; i++) {
+      depths[i] = lanes.get(i).size();
+    }
+    return depths;
+  }
+
+  /**
+   * @return how many times an account was routed away from its home lane.
+   */
+  public long rebalanced() {
+    return rebalanced.sum();
+  }
+
+  /**
+   * Stops accepting work and waits for the lanes to drain.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    running = false;
+    for (Thread consumer : consumers) {
+      consumer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+  }
+
+  private int choose(final String account) {
+    final int home = Math.floorMod(spread(account.hashCode()), lanes.size());
+    if (lanes.get(home).size() < hotLaneDepth) {
+      return home;
+    }
+    int best = home;
+    int bestDepth = Integer.MAX_VALUE;
+    for (int i = 0; i < lanes.size(); i++) {
+      final int depth = lanes.get(i).size();
+      if (depth < bestDepth) {
+        best = i;
+        bestDepth = depth;
+      }
+    }
+    if (best != home) {
+      rebalanced.increment();
+    }
+    return best;
+  }
+
+  private void release(final String account) {
+    routes.computeIfPresent(account,
+        (key, route) -> route.pending() == 1 ? null : new Route(route.lane(), route.pending() - 1));
+  }
+
+  private void consume(final BlockingQueue<Entry<T>> lane) {
+    final var entries = new ArrayList<Entry<T>>(batchSize);
+    final var items = new ArrayList<T>(batchSize);
+    while (running || !lane.isEmpty()) {
+      try {
+        final var first = lane.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        entries.add(first);
+        lane.drainTo(entries, batchSize - 1);
+        for (Entry<T> entry : entries) {
+          items.add(entry.item());
+        }
+        handler.accept(items);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        // The handler owns error handling; a lane must never die.
+        log.error("Lane handler failed on a batch of {} items", items.size(), e);
+      } finally {
+        for (Entry<T> entry : entries) {
+          release(entry.account());
+        }
+        entries.clear();
+        items.clear();
+      }
+    }
+  }
+
+  /** Mixes the high bits in so similar account numbers spread across lanes. */
+  private static int spread(final int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,14 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.time.Instant;
+
+/**
+ * The slice of a scheduled transfer the execution engine needs to know when
+ * to run it.
+ *
+ * @param id            The transfer id.
+ * @param sourceAccount The account the money leaves from.
+ * @param scheduledDate When the transfer is due.
+ */
+public record DueTransfer(String id, String sourceAccount, Instant scheduledDate) {
+}
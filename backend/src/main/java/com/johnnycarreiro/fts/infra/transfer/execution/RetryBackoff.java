@@ -0,0 +1,63 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides when a failed transfer is tried again.
+ *
+ * The delay doubles with every attempt, starting at `base-delay` and capped
+ * at `max-delay`, and only its first half is fixed: the second half is
+ * random ("equal jitter"). Transfers that failed together, e.g. during a
+ * database outage, therefore come back spread over a window instead of all
+ * at the same instant. After `max-attempts` failures a transfer is given up
+ * and moved to the dead-letter status.
+ */
+@Component
+public class RetryBackoff {
+
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final int maxAttempts;
+
+  public RetryBackoff(
+      @Value("${fts.execution.retry.base-delay:PT30S}") Duration baseDelay,
+      @Value("${fts.execution.retry.max-delay:PT1H}") Duration maxDelay,
+      @Value("${fts.execution.retry.max-attempts:8}") int maxAttempts) {
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * @param attempts Failed attempts so far, including the one just made.
+   * @return whether the transfer should not be retried any more.
+   */
+  public boolean exhausted(final int attempts) {
+    return attempts >= maxAttempts;
+  }
+
+  /**
+   * @param attempts Failed attempts so far, including the one just made.
+   * @param now      When the last attempt failed.
+   * @return when to try again.
+   */
+  public Instant nextAttempt(final int attempts, final Instant now) {
+    final long ceiling = delayCeiling(attempts).toMillis();
+    final long half = ceiling / 2;
+    return now.plusMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+  }
+
+  /**
+   * @return the longest delay the given attempt can get, before jitter.
+   */
+  public Duration delayCeiling(final int attempts) {
+    final int shift = Math.min(Math.max(attempts - 1, 0), 30);
+    final long millis = baseDelay.toMillis() << shift;
+    return millis <= 0 || millis > maxDelay.toMillis() ? maxDelay : Duration.ofMillis(millis);
+  }
+}
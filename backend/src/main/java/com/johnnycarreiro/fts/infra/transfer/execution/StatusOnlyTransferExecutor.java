@@ -0,0 +1,21 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executing a transfer is only its status change when the ledger is turned
+ * off (`fts.ledger.enabled`), so nothing here can fail.
+ */
+@Component
+@ConditionalOnProperty(name = "fts.ledger.enabled", havingValue = "false", matchIfMissing = true)
+public class StatusOnlyTransferExecutor implements TransferExecutor {
+
+  @Override
+  public Set<String> execute(final List<DueTransfer> transfers) {
+    return Set.of();
+  }
+}
@@ -0,0 +1,244 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.persistence.CatchUpCheckpointEntity;
+import com.johnnycarreiro.fts.infra.transfer.execution.persistence.CatchUpCheckpointJpaRepository;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Works through the transfers that became due while the service was down.
+ *
+ * Overdue transfers are read in keyset pages on `(scheduled_date, id)`; a
+ * reader thread keeps at most `prefetch` pages ahead of execution, so memory
+ * stays bounded however large the backlog is. Every transfer is handed to
+ * the engine's lanes, which execute the pages in parallel.
+ *
+ * Progress is checkpointed as a low-watermark: the checkpoint only moves
+ * past a page once every transfer in it and before it was executed, so a
+ * restart resumes from the checkpoint without skipping anything. Throughput
+ * and remaining backlog are logged every `report-interval` and exposed as
+ * the `fts.transfers.catch_up.*` metrics.
+ */
+@Component
+public class TransferCatchUp {
+
+  public static final String CHECKPOINT = "overdue-transfers";
+
+  private static final Logger log = LoggerFactory.getLogger(TransferCatchUp.class);
+
+  private static final List<DueTransfer> END = List.of();
+
+  /**
+   * Receives overdue transfers; `onDone` must run once the transfer has been
+   * executed.
+   */
+  @FunctionalInterface
+  public interface Sink {
+    void accept(DueTransfer transfer, Runnable onDone) throws InterruptedException;
+  }
+
+  /** One page handed to the sink, and how many of its transfers are pending. */
+  private record Page(DueTransfer last, AtomicInteger pending) {
+  }
+
+  private final TransferJpaRepository jpaRepository;
+  private final CatchUpCheckpointJpaRepository checkpoints;
+  private final boolean enabled;
+  private final int pageSize;
+  private final int prefetch;
+  private final Duration reportInterval;
+
+  private final AtomicLong backlog = new AtomicLong();
+  private final LongAdder completed = new LongAdder();
+  private final ConcurrentLinkedQueue<Page> open = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock checkpointLock = new ReentrantLock();
+  private volatile boolean readerDone;
+  private boolean finished;
+
+  public TransferCatchUp(
+      TransferJpaRepository jpaRepository,
+      CatchUpCheckpointJpaRepository checkpoints,
+      MeterRegistry meterRegistry,
+      @Value("${fts.execution.catch-up.enabled:true}") boolean enabled,
+      @Value("${fts.execution.catch-up.page-size:5000}") int pageSize,
+      @Value("${fts.execution.catch-up.prefetch:4}") int prefetch,
+      @Value("${fts.execution.catch-up.report-interval:PT10S}") Duration reportInterval) {
+    this.jpaRepository = jpaRepository;
+    this.checkpoints = checkpoints;
+    this.enabled = enabled;
+    this.pageSize = pageSize;
+    this.prefetch = prefetch;
+    this.reportInterval = reportInterval;
+
+    Gauge.builder("fts.transfers.catch_up.remaining", this, TransferCatchUp::remaining)
+        .description("Overdue transfers still waiting for catch-up")
+        .register(meterRegistry);
+    FunctionCounter.builder("fts.transfers.catch_up.completed", completed, LongAdder::sum)
+        .description("Overdue transfers executed by catch-up")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Streams every scheduled transfer due before `boundary` into the sink,
+   * resuming from the last checkpoint. Returns once all of them were handed
+   * over; execution and checkpointing continue in the background.
+   *
+   * @param boundary Transfers due at or after this instant are left to the
+   *                 regular schedule.
+   * @param sink     Executes the transfers.
+   */
+  public void run(final Instant boundary, final Sink sink) throws InterruptedException {
+    if (!enabled) {
+      return;
+    }
+    final var checkpoint = checkpoints.findById(CHECKPOINT).orElse(null);
+    final long total = jpaRepository.countScheduledBefore(boundary);
+    if (total == 0) {
+      if (checkpoint != null) {
+        checkpoints.deleteById(CHECKPOINT);
+      }
+      return;
+    }
+
+    backlog.set(total);
+    completed.reset();
+    open.clear();
+    readerDone = false;
+    finished = false;
+    log.info("Catching up {} overdue transfers due before {}{}", total, boundary,
+        checkpoint == null ? "" : ", resuming after " + checkpoint.getCursorDate());
+
+    final BlockingQueue<List<DueTransfer>> pages = new ArrayBlockingQueue<>(prefetch);
+    final var reader = Thread.ofPlatform().name("transfer-catch-up-reader").daemon().start(() -> read(
+        checkpoint == null ? Instant.EPOCH : checkpoint.getCursorDate(),
+        checkpoint == null ? "" : checkpoint.getCursorId(),
+        boundary, pages));
+    final var reporter = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("transfer-catch-up-report").daemon().factory());
+    final var lastReported = new AtomicLong();
+    reporter.scheduleAtFixedRate(() -> report(lastReported), reportInterval.toMillis(), reportInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+
+    try {
+      while (true) {
+        final var page = pages.take();
+        if (page == END) {
+          break;
+        }
+        final var tracker = new Page(page.get(page.size() - 1), new AtomicInteger(page.size()));
+        open.add(tracker);
+        for (DueTransfer transfer : page) {
+          sink.accept(transfer, () -> onDone(tracker));
+        }
+      }
+      readerDone = true;
+    } finally {
+      reader.interrupt();
+      reporter.shutdownNow();
+    }
+    advanceCheckpoint();
+  }
+
+  /**
+   * @return overdue transfers not executed yet.
+   */
+  public long remaining() {
+    return Math.max(0, backlog.get() - completed.sum());
+  }
+
+  private void read(Instant afterDate, String afterId, final Instant boundary,
+      final BlockingQueue<List<DueTransfer>> pages) {
+    try {
+      while (true) {
+        final var page = jpaRepository.findScheduledBefore(afterDate, afterId, boundary, Limit.of(pageSize));
+        if (!page.isEmpty()) {
+          pages.put(page);
+          afterDate = page.get(page.size() - 1).scheduledDate();
+          afterId = page.get(page.size() - 1).id();
+        }
+        if (page.size() < pageSize) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (RuntimeException e) {
+      // Whatever was not read stays scheduled; the engine's rewind picks it up.
+      log.warn("Catch-up stopped reading overdue transfers; the rest stays scheduled", e);
+    }
+    try {
+      pages.put(END);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void onDone(final Page page) {
+    completed.increment();
+    if (page.pending().decrementAndGet() == 0) {
+      advanceCheckpoint();
+    }
+  }
+
+  /**
+   * Moves the checkpoint past every leading page that is fully executed.
+   */
+  private void advanceCheckpoint() {
+    checkpointLock.lock();
+    try {
+      Page reached = null;
+      Page head;
+      while ((head = open.peek()) != null && head.pending().get() == 0) {
+        open.poll();
+        reached = head;
+      }
+      if (readerDone && open.isEmpty()) {
+        if (!finished) {
+          finished = true;
+          checkpoints.deleteById(CHECKPOINT);
+          log.info("Catch-up finished: {} overdue transfers executed", completed.sum());
+        }
+        return;
+      }
+      if (reached != null) {
+        checkpoints.save(new CatchUpCheckpointEntity(CHECKPOINT, reached.last().scheduledDate(),
+            reached.last().id(), completed.sum(), Instant.now()));
+      }
+    } catch (RuntimeException e) {
+      // A stale checkpoint only means some pages are read again on restart.
+      log.warn("Could not save the catch-up checkpoint; some pages are read again on restart", e);
+    } finally {
+      checkpointLock.unlock();
+    }
+  }
+
+  private void report(final AtomicLong lastReported) {
+    final long done = completed.sum();
+    final long delta = done - lastReported.getAndSet(done);
+    log.info("Catch-up: {} executed, {} remaining, {} rows/s", done, remaining(),
+        Math.round(delta / (reportInterval.toMillis() / 1000.0)));
+  }
+}
@@ -0,0 +1,363 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Leases due transfers to this node so that several instances sharing one
+ * database never execute the same transfer twice.
+ *
+ * A transfer belongs to a node while `lease_owner` names it and
+ * `lease_until` is in the future. Claims are atomic conditional updates, so
+ * two nodes racing for the same rows cannot both win; a lease that expires
+ * (the node crashed or stalled) can be claimed by anyone. Completion only
+ * touches rows this node still owns.
+ *
+ * Failed transfers leave `scheduled` with their attempt count raised and a
+ * `next_attempt_at`; {@link #requeue(Collection, Instant)} puts them back,
+ * leased, when that time comes.
+ *
+ * Every status change is reported to the {@link TransferStatusListener}s
+ * within the transaction that makes it, with exactly the rows it changed.
+ *
+ * Two ways to claim:
+ * - {@link #claim(Collection, Instant)} for transfers this node already has
+ *   in memory and wants to run now;
+ * - {@link #claimDue(Instant, int)} for polling: it locks a batch of due,
+ *   unleased rows with `FOR UPDATE SKIP LOCKED`, so concurrent pollers get
+ *   disjoint batches without waiting on each other.
+ */
+@Component
+public class TransferClaimer {
+
+  private static final String SELECT_DUE = """
+      SELECT id, source_account, scheduled_date
+      FROM transfers
+      WHERE status = 'scheduled'
+        AND scheduled_date >= ?
+        AND scheduled_date <= ?
+        AND (lease_until IS NULL OR lease_until < ?)
+      ORDER BY scheduled_date, id
+      FETCH FIRST ? ROWS ONLY
+      FOR UPDATE SKIP LOCKED
+      """;
+
+  private static final String SELECT_RETRIES = """
+      SELECT id, source_account, scheduled_date, next_attempt_at
+      FROM transfers
+      WHERE status = 'failed'
+        AND next_attempt_at <= ?
+        AND (next_attempt_at > ? OR (next_attempt_at = ? AND id > ?))
+      ORDER BY next_attempt_at, id
+      FETCH FIRST ? ROWS ONLY
+      """;
+
+  private static final String FAIL = """
+      UPDATE transfers
+      SET status = ?, attempts = attempts + 1, next_attempt_at = ?, updated_at = ?,
+          lease_owner = NULL, lease_until = NULL
+      WHERE id = ? AND status = 'scheduled' AND lease_owner = ?
+      """;
+
+  /**
+   * A failed transfer waiting for its next attempt.
+   *
+   * @param transfer      The transfer.
+   * @param nextAttemptAt When it may run again.
+   */
+  public record FailedTransfer(DueTransfer transfer, Instant nextAttemptAt) {
+  }
+
+  private static final RowMapper<DueTransfer> DUE_TRANSFER = (rs, row) -> new DueTransfer(
+      rs.getString("id").trim(),
+      rs.getString("source_account"),
+      rs.getObject("scheduled_date", OffsetDateTime.class).toInstant());
+
+  private final JdbcTemplate jdbc;
+  private final PlatformTransactionManager transactionManager;
+  private final TransactionTemplate transactionTemplate;
+  private final String nodeId;
+  private final Duration lease;
+  private final TransferStatusListener listener;
+
+  @Autowired
+  public TransferClaimer(
+      JdbcTemplate jdbc,
+      PlatformTransactionManager transactionManager,
+      @Value("${fts.execution.node-id:}") String nodeId,
+      @Value("${fts.execution.lease:PT1M}") Duration lease,
+      List<TransferStatusListener> listeners) {
+    this.jdbc = jdbc;
+    this.transactionManager = transactionManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.nodeId = nodeId == null || nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+    this.lease = lease;
+    this.listener = TransferStatusListener.all(listeners);
+  }
+
+  public TransferClaimer(JdbcTemplate jdbc, PlatformTransactionManager transactionManager, String nodeId,
+      Duration lease) {
+    this(jdbc, transactionManager, nodeId, lease, List.of());
+  }
+
+  /**
+   * @return a claimer on the same database and listener that leases under
+   *         another name, for work that must not mix with this node's claims.
+   */
+  public TransferClaimer forNode(final String nodeId, final Duration lease) {
+    return new TransferClaimer(jdbc, transactionManager, nodeId, lease, List.of(listener));
+  }
+
+  /**
+   * @return the name this node writes into `lease_owner`.
+   */
+  public String nodeId() {
+    return nodeId;
+  }
+
+  /**
+   * @return how long a claim stays valid.
+   */
+  public Duration lease() {
+    return lease;
+  }
+
+  /**
+   * Leases the given transfers to this node, skipping any that are no longer
+   * scheduled or are leased to another node.
+   *
+   * @param ids The transfers to claim.
+   * @param now The current time.
+   * @return the ids now leased to this node, with the number of times each
+   *         already failed.
+   */
+  public Map<String, Integer> claim(final Collection<String> ids, final Instant now) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return transactionTemplate.execute(status -> {
+      final var in = placeholders(ids.size());
+      final var args = new ArrayList<Object>(ids.size() + 4);
+      args.add(nodeId);
+      args.add(utc(now.plus(lease)));
+      args.addAll(ids);
+      args.add(utc(now));
+      args.add(nodeId);
+      jdbc.update("UPDATE transfers SET lease_owner = ?, lease_until = ? WHERE id IN (" + in + ")"
+          + " AND status = 'scheduled' AND (lease_until IS NULL OR lease_until < ? OR lease_owner = ?)",
+          args.toArray());
+
+      final var owned = new ArrayList<Object>(ids);
+      owned.add(nodeId);
+      final var attempts = new HashMap<String, Integer>();
+      jdbc.query("SELECT id, attempts FROM transfers WHERE id IN (" + in + ")"
+          + " AND status = 'scheduled' AND lease_owner = ?",
+          rs -> {
+            attempts.put(rs.getString("id").trim(), rs.getInt("attempts"));
+          }, owned.toArray());
+      return attempts;
+    });
+  }
+
+  /**
+   * Locks and leases up to `limit` due transfers that nobody holds, skipping
+   * rows other nodes are claiming at the same moment.
+   *
+   * @param dueBy Only transfers due at or before this instant are claimed.
+   * @param limit Maximum number of transfers to claim.
+   * @return the claimed transfers, in due order.
+   */
+  public List<DueTransfer> claimDue(final Instant dueBy, final int limit) {
+    return claimDue(Instant.EPOCH, dueBy, limit);
+  }
+
+  /**
+   * Like {@link #claimDue(Instant, int)}, for transfers due within
+   * `[dueFrom, dueBy]` only.
+   */
+  public List<DueTransfer> claimDue(final Instant dueFrom, final Instant dueBy, final int limit) {
+    final var now = Instant.now();
+    final var claimed = transactionTemplate.execute(status -> {
+      final var rows = jdbc.query(SELECT_DUE, DUE_TRANSFER, utc(dueFrom), utc(dueBy), utc(now), limit);
+      if (rows.isEmpty()) {
+        return rows;
+      }
+      final var args = new ArrayList<Object>(rows.size() + 2);
+      args.add(nodeId);
+      args.add(utc(now.plus(lease)));
+      rows.forEach(row -> args.add(row.id()));
+      jdbc.update("UPDATE transfers SET lease_owner = ?, lease_until = ? WHERE id IN ("
+          + placeholders(rows.size()) + ")", args.toArray());
+      return rows;
+    });
+    return claimed == null ? Collections.emptyList() : claimed;
+  }
+
+  /**
+   * Moves transfers leased to this node out of `scheduled` and releases the
+   * lease.
+   *
+   * @param ids    Transfers previously claimed by this node.
+   * @param status The new status value.
+   * @param at     When the transition happened.
+   * @return the ids whose rows changed; transfers no longer scheduled or
+   *         leased to this node are left out.
+   */
+  public List<String> complete(final Collection<String> ids, final String status, final Instant at) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    final List<String> changed = transactionTemplate.execute(tx -> {
+      final var owned = new ArrayList<Object>(ids);
+      owned.add(nodeId);
+      final var locked = jdbc.queryForList("SELECT id FROM transfers WHERE id IN (" + placeholders(ids.size())
+          + ") AND status = 'scheduled' AND lease_owner = ? FOR UPDATE", String.class, owned.toArray())
+          .stream().map(String::trim).toList();
+      if (locked.isEmpty()) {
+        return List.of();
+      }
+      final var args = new ArrayList<Object>(locked.size() + 3);
+      args.add(status);
+      args.add(utc(at));
+      args.add(utc(at));
+      args.addAll(locked);
+      jdbc.update("UPDATE transfers SET status = ?, transfer_date = ?, updated_at = ?,"
+          + " lease_owner = NULL, lease_until = NULL WHERE id IN (" + placeholders(locked.size()) + ")",
+          args.toArray());
+      listener.transitioned(locked, "scheduled", status);
+      return locked;
+    });
+    return changed == null ? List.of() : changed;
+  }
+
+  /**
+   * Gives up this node's lease on transfers it will not execute, so others
+   * can claim them straight away.
+   *
+   * @return how many rows changed.
+   */
+  public int release(final Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    final var args = new ArrayList<Object>(ids);
+    args.add(nodeId);
+    return jdbc.update("UPDATE transfers SET lease_owner = NULL, lease_until = NULL WHERE id IN ("
+        + placeholders(ids.size()) + ") AND status = 'scheduled' AND lease_owner = ?", args.toArray());
+  }
+
+  /**
+   * Records a failed attempt for transfers leased to this node and releases
+   * the lease.
+   *
+   * @param retryAt      Transfers to retry, with when to try next.
+   * @param deadLettered Transfers that ran out of attempts.
+   * @param at           When the attempt failed.
+   * @return how many rows changed.
+   */
+  public int fail(final Map<String, Instant> retryAt, final Collection<String> deadLettered, final Instant at) {
+    final var rows = new ArrayList<Object[]>(retryAt.size() + deadLettered.size());
+    retryAt.forEach((id, next) -> rows.add(new Object[] { "failed", utc(next), utc(at), id, nodeId }));
+    deadLettered.forEach(id -> rows.add(new Object[] { "dead_letter", null, utc(at), id, nodeId }));
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    final Integer changed = transactionTemplate.execute(tx -> {
+      final var counts = jdbc.batchUpdate(FAIL, rows);
+      final var failed = new ArrayList<String>();
+      final var dead = new ArrayList<String>();
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          (i < retryAt.size() ? failed : dead).add((String) rows.get(i)[3]);
+        }
+      }
+      if (!failed.isEmpty()) {
+        listener.transitioned(failed, "scheduled", "failed");
+      }
+      if (!dead.isEmpty()) {
+        listener.transitioned(dead, "scheduled", "dead_letter");
+      }
+      return failed.size() + dead.size();
+    });
+    return changed == null ? 0 : changed;
+  }
+
+  /**
+   * Keyset page of failed transfers waiting to be retried, ordered by
+   * `(next_attempt_at, id)` and starting after the given position.
+   *
+   * @param afterDate `next_attempt_at` of the last row already read.
+   * @param afterId   Id of the last row already read.
+   * @param until     Only transfers retried at or before this instant.
+   * @param limit     Maximum number of rows.
+   * @return the next page, earliest first.
+   */
+  public List<FailedTransfer> findRetriesAfter(final Instant afterDate, final String afterId, final Instant until,
+      final int limit) {
+    return jdbc.query(SELECT_RETRIES, (rs, row) -> new FailedTransfer(
+        DUE_TRANSFER.mapRow(rs, row),
+        rs.getObject("next_attempt_at", OffsetDateTime.class).toInstant()),
+        utc(until), utc(afterDate), utc(afterDate), afterId, limit);
+  }
+
+  /**
+   * Moves failed transfers whose next attempt has come back to `scheduled`,
+   * leased to this node so it can execute them straight away. Transfers
+   * another node requeued first are skipped.
+   *
+   * @param ids The failed transfers.
+   * @param now The current time.
+   * @return the transfers now scheduled and leased to this node.
+   */
+  public List<DueTransfer> requeue(final Collection<String> ids, final Instant now) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    final var requeued = transactionTemplate.execute(status -> {
+      final var due = new ArrayList<Object>(ids);
+      due.add(utc(now));
+      final var rows = jdbc.query("SELECT id, source_account, scheduled_date FROM transfers WHERE id IN ("
+          + placeholders(ids.size()) + ") AND status = 'failed' AND next_attempt_at <= ?"
+          + " ORDER BY scheduled_date, id FOR UPDATE", DUE_TRANSFER, due.toArray());
+      if (rows.isEmpty()) {
+        return rows;
+      }
+      final var locked = rows.stream().map(DueTransfer::id).toList();
+      final var args = new ArrayList<Object>(locked.size() + 3);
+      args.add(utc(now));
+      args.add(nodeId);
+      args.add(utc(now.plus(lease)));
+      args.addAll(locked);
+      jdbc.update("UPDATE transfers SET status = 'scheduled', next_attempt_at = NULL, updated_at = ?,"
+          + " lease_owner = ?, lease_until = ? WHERE id IN (" + placeholders(locked.size()) + ")", args.toArray());
+      listener.transitioned(locked, "failed", "scheduled");
+      return rows;
+    });
+    return requeued == null ? List.of() : requeued;
+  }
+
+  private static String placeholders(final int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static OffsetDateTime utc(final Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+}
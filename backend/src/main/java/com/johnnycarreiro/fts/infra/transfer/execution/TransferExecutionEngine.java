@@ -0,0 +1,560 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferClaimer.FailedTransfer;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Moves scheduled transfers to `completed` when their `scheduledDate`
+ * arrives.
+ *
+ * Transfers due within the next `lookahead` are kept in a {@link DelayQueue}
+ * (a heap ordered by due time). A dispatcher thread takes whatever is due
+ * and hands it to {@link AccountLanes}, so transfers of one source account
+ * are applied in due order while different accounts run in parallel. Each
+ * lane persists the transition with one conditional `UPDATE` per batch.
+ *
+ * The queue is refilled incrementally: each refill reads only the rows after
+ * a `(scheduled_date, id)` cursor, up to the new horizon, so the table is
+ * never polled as a whole. Transfers created behind the cursor arrive
+ * through {@link TransferScheduledEvent}, and the cursor is periodically
+ * rewound as a safety net for rows written by other processes. Because the
+ * lane claims its batch through {@link TransferClaimer} before executing
+ * it, seeing a transfer twice, here or on another node, never executes it
+ * twice. Transfers left overdue by a node that died holding their lease are
+ * claimed back once the lease expires.
+ *
+ * The business effect of a transfer is applied by a {@link TransferExecutor}.
+ * Transfers it cannot execute are marked `failed` with a next attempt chosen
+ * by {@link RetryBackoff} and handed to {@link TransferRetryScheduler}; once
+ * they run out of attempts they are moved to `dead_letter` instead.
+ *
+ * On start, transfers that fell due while the service was down are handed
+ * to {@link TransferCatchUp} first; regular dispatching begins once the
+ * whole backlog is on the lanes, so each account still runs in due order.
+ */
+@Component
+public class TransferExecutionEngine {
+
+  private static final Logger log = LoggerFactory.getLogger(TransferExecutionEngine.class);
+
+  private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+  /**
+   * One queued transfer, ordered by due time and then by id. `onDone`, when
+   * set, runs once the transfer has been executed.
+   */
+  record Due(DueTransfer transfer, long dueAtMillis, Runnable onDone) implements Delayed {
+
+    static Due of(final DueTransfer transfer) {
+      return new Due(transfer, transfer.scheduledDate().toEpochMilli(), null);
+    }
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+      return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+      final var that = (Due) other;
+      final int byTime = Long.compare(dueAtMillis, that.dueAtMillis);
+      return byTime != 0 ? byTime : transfer.id().compareTo(that.transfer.id());
+    }
+  }
+
+  private final DelayQueue<Due> queue = new DelayQueue<>();
+  private final Set<String> tracked = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Guards the refill cursor. Held while a page is read so a transfer
+   * announced by an event is either seen by that read or found behind the
+   * cursor afterwards.
+   */
+  private final ReentrantLock cursorLock = new ReentrantLock();
+  private volatile Instant cursorDate = Instant.EPOCH;
+  private volatile String cursorId = "";
+  /** Where a rewind restarts; the catch-up range is excluded while it runs. */
+  private volatile Instant rewindFloor = Instant.EPOCH;
+  private Instant lastRewind = Instant.EPOCH;
+
+  private final TransferJpaRepository jpaRepository;
+  private final TransferCatchUp catchUp;
+  private final TransferClaimer claimer;
+  private final TransferExecutor executor;
+  private final RetryBackoff backoff;
+  private final TransferRetryScheduler retries;
+  private final boolean enabled;
+  private final boolean virtualThreads;
+  private final Duration lookahead;
+  private final Duration refillInterval;
+  private final Duration rewindInterval;
+  private final Duration retryDelay;
+  private final int pageSize;
+  private final int maxInMemory;
+  private final int batchSize;
+  private final int laneCount;
+  private final int laneCapacity;
+  private final int hotLaneDepth;
+  private final int maxWriteAttempts;
+
+  private final Counter executed;
+  private final Counter skipped;
+  private final Counter retried;
+  private final Counter failed;
+  private final Counter deadLettered;
+
+  private volatile boolean running;
+  private Thread dispatcher;
+  private ScheduledExecutorService refiller;
+  private AccountLanes<Due> lanes;
+
+  public TransferExecutionEngine(
+      TransferJpaRepository jpaRepository,
+      TransferCatchUp catchUp,
+      TransferClaimer claimer,
+      TransferExecutor executor,
+      RetryBackoff backoff,
+      TransferRetryScheduler retries,
+      MeterRegistry meterRegistry,
+      @Value("${fts.execution.enabled:true}") boolean enabled,
+      @Value("${fts.execution.lookahead:PT5M}") Duration lookahead,
+      @Value("${fts.execution.refill-interval:PT5S}") Duration refillInterval,
+      @Value("${fts.execution.rewind-interval:PT1M}") Duration rewindInterval,
+      @Value("${fts.execution.retry-delay:PT5S}") Duration retryDelay,
+      @Value("${fts.execution.page-size:1000}") int pageSize,
+      @Value("${fts.execution.max-in-memory:200000}") int maxInMemory,
+      @Value("${fts.execution.batch-size:500}") int batchSize,
+      @Value("${fts.execution.lanes:8}") int laneCount,
+      @Value("${fts.execution.lane-capacity:10000}") int laneCapacity,
+      @Value("${fts.execution.hot-lane-depth:1000}") int hotLaneDepth,
+      @Value("${fts.execution.max-write-attempts:12}") int maxWriteAttempts,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.jpaRepository = jpaRepository;
+    this.catchUp = catchUp;
+    this.claimer = claimer;
+    this.executor = executor;
+    this.backoff = backoff;
+    this.retries = retries;
+    this.enabled = enabled;
+    this.lookahead = lookahead;
+    this.refillInterval = refillInterval;
+    this.rewindInterval = rewindInterval;
+    this.retryDelay = retryDelay;
+    this.pageSize = pageSize;
+    this.maxInMemory = maxInMemory;
+    this.batchSize = batchSize;
+    this.laneCount = laneCount;
+    this.laneCapacity = laneCapacity;
+    this.hotLaneDepth = hotLaneDepth;
+    this.maxWriteAttempts = maxWriteAttempts;
+    this.virtualThreads = virtualThreads;
+
+    Gauge.builder("fts.transfers.execution.queued", tracked, Set::size)
+        .description("Scheduled transfers held in memory waiting to be executed")
+        .register(meterRegistry);
+    this.executed = Counter.builder("fts.transfers.execution.executed")
+        .description("Transfers moved out of the scheduled status")
+        .register(meterRegistry);
+    this.skipped = Counter.builder("fts.transfers.execution.skipped")
+        .description("Due transfers that were no longer scheduled when executed")
+        .register(meterRegistry);
+    this.retried = Counter.builder("fts.transfers.execution.retried")
+        .description("Transfers whose batch had to be written again after a failure")
+        .register(meterRegistry);
+    this.failed = Counter.builder("fts.transfers.execution.failed")
+        .description("Transfer executions that failed and were scheduled for a retry")
+        .register(meterRegistry);
+    this.deadLettered = Counter.builder("fts.transfers.execution.dead_lettered")
+        .description("Transfers given up after running out of attempts")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    final var boundary = Instant.now();
+    cursorDate = boundary;
+    cursorId = "";
+    rewindFloor = boundary;
+    lastRewind = boundary;
+
+    final var laneThreads = virtualThreads
+        ? Thread.ofVirtual().name("transfer-lane-", 0).factory()
+        : Thread.ofPlatform().name("transfer-lane-", 0).daemon().factory();
+    lanes = new AccountLanes<>(laneCount, laneCapacity, batchSize, hotLaneDepth, laneThreads, this::execute);
+    refiller = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("transfer-refill").daemon().factory());
+    refiller.scheduleWithFixedDelay(this::refill, 0, refillInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+    final var builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+    dispatcher = builder.name("transfer-dispatch").start(() -> {
+      catchUpOverdue(boundary);
+      dispatchLoop();
+    });
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (refiller != null) {
+      refiller.shutdownNow();
+    }
+    if (dispatcher != null) {
+      dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    if (lanes != null) {
+      lanes.close();
+    }
+  }
+
+  /**
+   * Queues freshly stored transfers that fall behind the refill cursor; the
+   * others will be read by a later refill.
+   */
+  @EventListener
+  public void onScheduled(final TransferScheduledEvent event) {
+    if (!running) {
+      return;
+    }
+    cursorLock.lock();
+    try {
+      for (DueTransfer transfer : event.transfers()) {
+        if (isBehindCursor(transfer)) {
+          track(transfer);
+        }
+      }
+    } finally {
+      cursorLock.unlock();
+    }
+  }
+
+  /**
+   * Reads the next pages of scheduled transfers up to `now + lookahead`.
+   */
+  void refill() {
+    try {
+      final var now = Instant.now();
+      final var horizon = now.plus(lookahead);
+      if (!now.isBefore(lastRewind.plus(rewindInterval))) {
+        rewind();
+        lastRewind = now;
+      }
+      reclaimAbandoned(now);
+
+      while (running && tracked.size() < maxInMemory) {
+        cursorLock.lock();
+        try {
+          final var limit = Math.min(pageSize, maxInMemory - tracked.size());
+          final var page = jpaRepository.findScheduledAfter(cursorDate, cursorId, horizon, Limit.of(limit));
+          page.forEach(this::track);
+
+          if (page.size() < limit) {
+            // Everything up to the horizon is queued; new rows behind it
+            // will come through onScheduled.
+            if (horizon.isAfter(cursorDate)) {
+              cursorDate = horizon;
+              cursorId = "";
+            }
+            return;
+          }
+          final var last = page.get(page.size() - 1);
+          cursorDate = last.scheduledDate();
+          cursorId = last.id();
+        } finally {
+          cursorLock.unlock();
+        }
+      }
+    } catch (RuntimeException e) {
+      // Keep the schedule alive; the next refill starts from the same cursor.
+      log.warn("Could not refill the execution queue; retrying in {}", refillInterval, e);
+    }
+  }
+
+  /**
+   * Takes over transfers that should have run at least one lease ago but are
+   * still scheduled, e.g. because the node holding them went away.
+   */
+  private void reclaimAbandoned(final Instant now) {
+    if (!Instant.EPOCH.equals(rewindFloor)) {
+      return; // catch-up is still walking the overdue range
+    }
+    final var abandoned = claimer.claimDue(now.minus(claimer.lease()), pageSize);
+    for (DueTransfer transfer : abandoned) {
+      track(transfer);
+    }
+  }
+
+  private void rewind() {
+    cursorLock.lock();
+    try {
+      cursorDate = rewindFloor;
+      cursorId = "";
+    } finally {
+      cursorLock.unlock();
+    }
+  }
+
+  private boolean isBehindCursor(final DueTransfer transfer) {
+    final int byDate = transfer.scheduledDate().compareTo(cursorDate);
+    return byDate < 0 || (byDate == 0 && transfer.id().compareTo(cursorId) <= 0);
+  }
+
+  private void track(final DueTransfer transfer) {
+    if (tracked.add(transfer.id())) {
+      queue.add(Due.of(transfer));
+    }
+  }
+
+  private void catchUpOverdue(final Instant boundary) {
+    try {
+      catchUp.run(boundary, this::submitOverdue);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    } catch (RuntimeException e) {
+      // Whatever catch-up missed is still scheduled and found by a rewind.
+      log.error("Catch-up of overdue transfers stopped early; the rest is found by the next rewind", e);
+    } finally {
+      rewindFloor = Instant.EPOCH;
+    }
+  }
+
+  private void submitOverdue(final DueTransfer transfer, final Runnable onDone) throws InterruptedException {
+    tracked.add(transfer.id());
+    lanes.submit(transfer.sourceAccount(),
+        new Due(transfer, transfer.scheduledDate().toEpochMilli(), onDone));
+  }
+
+  private void dispatchLoop() {
+    while (running) {
+      try {
+        final var first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+          continue;
+        }
+        final var batch = new ArrayList<Due>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        for (Due due : batch) {
+          lanes.submit(due.transfer().sourceAccount(), due);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+    }
+  }
+
+  /**
+   * Claims a batch of due transfers from one lane, executes the claimed ones
+   * and records the outcome; the rest belong to another node or already ran.
+   *
+   * A write that fails because the database is unavailable is retried in
+   * place rather than re-queued, so later transfers of the same accounts
+   * cannot overtake it, up to `maxWriteAttempts` times. Any other failure,
+   * or running out of attempts, sends the claimed transfers to the retry
+   * schedule like transfers the executor rejects, except those the executor
+   * already applied: they keep their lease and are completed once it
+   * expires and they are claimed again.
+   */
+  void execute(final List<Due> batch) {
+    final var ids = batch.stream().map(due -> due.transfer().id()).toList();
+    for (int attempt = 1;; attempt++) {
+      Map<String, Integer> claimed = Map.of();
+      try {
+        final var now = Instant.now();
+        claimed = claimer.claim(ids, now);
+        record(batch, claimed, now);
+        break;
+      } catch (RuntimeException e) {
+        if (running && isTransient(e) && attempt < maxWriteAttempts) {
+          log.warn("Could not record a batch of {} transfers (attempt {} of {}); retrying in {}", ids.size(),
+              attempt, maxWriteAttempts, retryDelay, e);
+          retried.increment(ids.size());
+          if (pause(retryDelay)) {
+            continue;
+          }
+        }
+        if (!running || Thread.currentThread().isInterrupted()) {
+          log.warn("Stopped before recording a batch of {} transfers; they stay scheduled for the next start",
+              ids.size(), e);
+          return;
+        }
+        log.error("Giving up on recording a batch of {} transfers after {} attempt(s)", ids.size(), attempt, e);
+        giveUp(batch, claimed);
+        break;
+      }
+    }
+    ids.forEach(tracked::remove);
+    for (Due due : batch) {
+      if (due.onDone() != null) {
+        due.onDone().run();
+      }
+    }
+  }
+
+  private void record(final List<Due> batch, final Map<String, Integer> claimed, final Instant now) {
+    final var transfers = batch.stream().map(Due::transfer)
+        .filter(transfer -> claimed.containsKey(transfer.id())).toList();
+    final var rejected = unexecuted(run(transfers));
+    final var succeeded = claimed.keySet().stream().filter(id -> !rejected.contains(id)).toList();
+    final var completed = claimer.complete(succeeded, Status.COMPLETED.getValue(), now);
+    executor.completed(completed);
+    final int failedNow = fail(transfers, rejected, claimed, now);
+    executed.increment(completed.size());
+    skipped.increment(batch.size() - completed.size() - failedNow);
+  }
+
+  /**
+   * Sends the claimed transfers of a batch that could not be recorded to the
+   * retry schedule. Transfers the executor already applied are left alone
+   * instead: retrying them would apply them twice, so they keep their lease
+   * and are completed once it expires. If even that fails they keep their
+   * lease too, and are claimed back once it expires.
+   */
+  private void giveUp(final List<Due> batch, final Map<String, Integer> claimed) {
+    if (claimed.isEmpty()) {
+      return; // nothing was claimed; a rewind finds them still scheduled
+    }
+    final var transfers = batch.stream().map(Due::transfer)
+        .filter(transfer -> claimed.containsKey(transfer.id())).toList();
+    final var unexecuted = unexecuted(claimed.keySet());
+    if (unexecuted.size() < claimed.size()) {
+      log.warn("{} transfers were executed but not recorded as completed; they are completed once their lease"
+          + " expires", claimed.size() - unexecuted.size());
+    }
+    try {
+      fail(transfers, unexecuted, claimed, Instant.now());
+    } catch (RuntimeException e) {
+      log.error("Could not schedule {} transfers for a retry; they are claimed back when their lease expires",
+          transfers.size(), e);
+    }
+  }
+
+  /**
+   * @return the given transfers minus those the executor already applied.
+   */
+  private Set<String> unexecuted(final Set<String> ids) {
+    return ids.stream().filter(id -> !executor.isExecuted(id)).collect(Collectors.toSet());
+  }
+
+  /**
+   * The database could not be reached or refused the write for a reason
+   * that may go away on its own.
+   */
+  private static boolean isTransient(final RuntimeException e) {
+    return e instanceof TransientDataAccessException
+        || e instanceof RecoverableDataAccessException
+        || e instanceof DataAccessResourceFailureException
+        || e instanceof CannotCreateTransactionException;
+  }
+
+  private Set<String> run(final List<DueTransfer> transfers) {
+    if (transfers.isEmpty()) {
+      return Set.of();
+    }
+    try {
+      return executor.execute(transfers);
+    } catch (RuntimeException e) {
+      log.warn("Executor failed on a batch of {} transfers; scheduling them for a retry", transfers.size(), e);
+      return transfers.stream().map(DueTransfer::id).collect(Collectors.toSet());
+    }
+  }
+
+  /**
+   * Persists a failed attempt for each rejected transfer and schedules its
+   * retry, or moves it to the dead-letter status when it has none left.
+   *
+   * @return how many transfers were marked.
+   */
+  private int fail(final List<DueTransfer> transfers, final Set<String> rejected,
+      final Map<String, Integer> attempts, final Instant now) {
+    if (rejected.isEmpty()) {
+      return 0;
+    }
+    final var retryAt = new HashMap<String, Instant>();
+    final var exhausted = new ArrayList<String>();
+    final var toRetry = new ArrayList<DueTransfer>();
+    for (DueTransfer transfer : transfers) {
+      if (!rejected.contains(transfer.id())) {
+        continue;
+      }
+      final int attempt = attempts.get(transfer.id()) + 1;
+      if (backoff.exhausted(attempt)) {
+        exhausted.add(transfer.id());
+      } else {
+        retryAt.put(transfer.id(), backoff.nextAttempt(attempt, now));
+        toRetry.add(transfer);
+      }
+    }
+    final int changed = claimer.fail(retryAt, exhausted, now);
+    failed.increment(retryAt.size());
+    deadLettered.increment(exhausted.size());
+    for (DueTransfer transfer : toRetry) {
+      retries.schedule(new FailedTransfer(transfer, retryAt.get(transfer.id())));
+    }
+    return changed;
+  }
+
+  private static boolean pause(final Duration delay) {
+    try {
+      Thread.sleep(delay);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * @return the number of transfers waiting in memory.
+   */
+  public int queued() {
+    return tracked.size();
+  }
+
+  /**
+   * @return the number of transfers waiting on each execution lane.
+   */
+  public int[] laneDepths() {
+    return lanes == null ? new int[0] : lanes.depths();
+  }
+}
@@ -0,0 +1,40 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies the business effect of due transfers. The engine has already
+ * leased them to this node and records the outcome afterwards: completed,
+ * or failed and handed to the retry schedule.
+ */
+@FunctionalInterface
+public interface TransferExecutor {
+
+  /**
+   * @param transfers Claimed transfers of one lane, in due order.
+   * @return the ids of the transfers that could not be executed.
+   */
+  Set<String> execute(List<DueTransfer> transfers);
+
+  /**
+   * Tells whether the transfer's effect was already applied by an earlier
+   * attempt whose completion was never recorded. Such a transfer must be
+   * completed, never failed or retried, or its effect would apply twice.
+   *
+   * @param id The transfer id.
+   * @return true when executing it again would be skipped.
+   */
+  default boolean isExecuted(String id) {
+    return false;
+  }
+
+  /**
+   * Called once executed transfers are recorded as completed.
+   *
+   * @param ids The completed transfers.
+   */
+  default void completed(Collection<String> ids) {
+  }
+}
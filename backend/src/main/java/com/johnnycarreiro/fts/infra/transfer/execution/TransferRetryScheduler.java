@@ -0,0 +1,298 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferClaimer.FailedTransfer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Puts failed transfers back on the schedule once their backoff expires.
+ *
+ * The next attempt of every failed transfer is persisted in
+ * `next_attempt_at`, so retries survive a restart; the ones due within
+ * `lookahead` are also held in a {@link DelayQueue}, so they are requeued on
+ * time without polling. The queue is filled the same way the execution
+ * engine fills its own: keyset pages on `(next_attempt_at, id)` behind a
+ * cursor, with failures recorded by this node added directly through
+ * {@link #schedule(FailedTransfer)} and a periodic rewind picking up retries
+ * left behind by other nodes.
+ *
+ * Requeued transfers are leased to this node and announced with a
+ * {@link TransferScheduledEvent}, which the engine executes at once. The
+ * jitter in {@link RetryBackoff} spreads a burst of failures over time; on
+ * top of that, requeues are paced to at most `rate` per second, so even a
+ * large backlog of retries comes back as a steady trickle rather than a
+ * spike.
+ */
+@Component
+public class TransferRetryScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(TransferRetryScheduler.class);
+
+  private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+  /** One pending retry, ordered by next attempt and then by id. */
+  record Retry(DueTransfer transfer, long dueAtMillis) implements Delayed {
+
+    @Override
+    public long getDelay(final TimeUnit unit) {
+      return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+      final var that = (Retry) other;
+      final int byTime = Long.compare(dueAtMillis, that.dueAtMillis);
+      return byTime != 0 ? byTime : transfer.id().compareTo(that.transfer.id());
+    }
+  }
+
+  private final DelayQueue<Retry> queue = new DelayQueue<>();
+  private final Set<String> tracked = ConcurrentHashMap.newKeySet();
+
+  private final ReentrantLock cursorLock = new ReentrantLock();
+  private volatile Instant cursorDate = Instant.EPOCH;
+  private volatile String cursorId = "";
+  private Instant lastRewind = Instant.EPOCH;
+
+  private final TransferClaimer claimer;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean enabled;
+  private final boolean virtualThreads;
+  private final Duration lookahead;
+  private final Duration refillInterval;
+  private final Duration rewindInterval;
+  private final Duration retryDelay;
+  private final int pageSize;
+  private final int maxInMemory;
+  private final int batchSize;
+  private final long nanosPerRetry;
+
+  private final Counter requeued;
+
+  private volatile boolean running;
+  private long nextSlot;
+  private Thread dispatcher;
+  private ScheduledExecutorService refiller;
+
+  public TransferRetryScheduler(
+      TransferClaimer claimer,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      @Value("${fts.execution.enabled:true}") boolean enabled,
+      @Value("${fts.execution.retry.lookahead:PT5M}") Duration lookahead,
+      @Value("${fts.execution.refill-interval:PT5S}") Duration refillInterval,
+      @Value("${fts.execution.rewind-interval:PT1M}") Duration rewindInterval,
+      @Value("${fts.execution.retry-delay:PT5S}") Duration retryDelay,
+      @Value("${fts.execution.page-size:1000}") int pageSize,
+      @Value("${fts.execution.retry.max-in-memory:50000}") int maxInMemory,
+      @Value("${fts.execution.retry.rate:200}") int ratePerSecond,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.claimer = claimer;
+    this.eventPublisher = eventPublisher;
+    this.enabled = enabled;
+    this.lookahead = lookahead;
+    this.refillInterval = refillInterval;
+    this.rewindInterval = rewindInterval;
+    this.retryDelay = retryDelay;
+    this.pageSize = pageSize;
+    this.maxInMemory = maxInMemory;
+    this.batchSize = Math.max(1, Math.min(pageSize, ratePerSecond));
+    this.nanosPerRetry = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+    this.virtualThreads = virtualThreads;
+
+    Gauge.builder("fts.transfers.retry.pending", tracked, Set::size)
+        .description("Failed transfers held in memory waiting for their next attempt")
+        .register(meterRegistry);
+    this.requeued = Counter.builder("fts.transfers.retry.requeued")
+        .description("Failed transfers put back on the schedule")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    cursorDate = Instant.EPOCH;
+    cursorId = "";
+    lastRewind = Instant.now();
+    nextSlot = System.nanoTime();
+
+    refiller = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("transfer-retry-refill").daemon().factory());
+    refiller.scheduleWithFixedDelay(this::refill, 0, refillInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+    final var builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+    dispatcher = builder.name("transfer-retry-dispatch").start(this::dispatchLoop);
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (refiller != null) {
+      refiller.shutdownNow();
+    }
+    if (dispatcher != null) {
+      dispatcher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+  }
+
+  /**
+   * Queues a retry this node just recorded, if the refill cursor is already
+   * past it; otherwise a later refill reads it from the database.
+   */
+  public void schedule(final FailedTransfer failed) {
+    if (!running) {
+      return;
+    }
+    cursorLock.lock();
+    try {
+      if (isBehindCursor(failed)) {
+        track(failed);
+      }
+    } finally {
+      cursorLock.unlock();
+    }
+  }
+
+  /**
+   * Reads the next pages of failed transfers retried before
+   * `now + lookahead`.
+   */
+  void refill() {
+    try {
+      final var now = Instant.now();
+      final var horizon = now.plus(lookahead);
+      if (!now.isBefore(lastRewind.plus(rewindInterval))) {
+        rewind();
+        lastRewind = now;
+      }
+
+      while (running && tracked.size() < maxInMemory) {
+        cursorLock.lock();
+        try {
+          final var limit = Math.min(pageSize, maxInMemory - tracked.size());
+          final var page = claimer.findRetriesAfter(cursorDate, cursorId, horizon, limit);
+          page.forEach(this::track);
+
+          if (page.size() < limit) {
+            if (horizon.isAfter(cursorDate)) {
+              cursorDate = horizon;
+              cursorId = "";
+            }
+            return;
+          }
+          final var last = page.get(page.size() - 1);
+          cursorDate = last.nextAttemptAt();
+          cursorId = last.transfer().id();
+        } finally {
+          cursorLock.unlock();
+        }
+      }
+    } catch (RuntimeException e) {
+      // Keep the schedule alive; the next refill starts from the same cursor.
+      log.warn("Could not load failed transfers due for a retry; retrying in {}", refillInterval, e);
+    }
+  }
+
+  private void rewind() {
+    cursorLock.lock();
+    try {
+      cursorDate = Instant.EPOCH;
+      cursorId = "";
+    } finally {
+      cursorLock.unlock();
+    }
+  }
+
+  private boolean isBehindCursor(final FailedTransfer failed) {
+    final int byDate = failed.nextAttemptAt().compareTo(cursorDate);
+    return byDate < 0 || (byDate == 0 && failed.transfer().id().compareTo(cursorId) <= 0);
+  }
+
+  private void track(final FailedTransfer failed) {
+    if (tracked.add(failed.transfer().id())) {
+      queue.add(new Retry(failed.transfer(), failed.nextAttemptAt().toEpochMilli()));
+    }
+  }
+
+  private void dispatchLoop() {
+    while (running) {
+      try {
+        final var first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+          continue;
+        }
+        final var batch = new ArrayList<Retry>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        pace(batch.size());
+        requeue(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+    }
+  }
+
+  /**
+   * Waits until `count` more requeues fit in the configured rate.
+   */
+  private void pace(final int count) throws InterruptedException {
+    final long now = System.nanoTime();
+    final long wait = nextSlot - now;
+    if (wait > 0) {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+    nextSlot = Math.max(nextSlot, now) + count * nanosPerRetry;
+  }
+
+  private void requeue(final ArrayList<Retry> batch) {
+    final var ids = batch.stream().map(retry -> retry.transfer().id()).toList();
+    try {
+      final var transfers = claimer.requeue(ids, Instant.now());
+      ids.forEach(tracked::remove);
+      requeued.increment(transfers.size());
+      if (!transfers.isEmpty()) {
+        eventPublisher.publishEvent(new TransferScheduledEvent(transfers));
+      }
+    } catch (RuntimeException e) {
+      // The database is unavailable; the same retries come due again shortly.
+      log.warn("Could not requeue a batch of {} failed transfers; retrying in {}", batch.size(), retryDelay, e);
+      final long later = System.currentTimeMillis() + retryDelay.toMillis();
+      for (Retry retry : batch) {
+        queue.add(new Retry(retry.transfer(), later));
+      }
+    }
+  }
+
+  /**
+   * @return the number of retries waiting in memory.
+   */
+  public int pending() {
+    return tracked.size();
+  }
+}
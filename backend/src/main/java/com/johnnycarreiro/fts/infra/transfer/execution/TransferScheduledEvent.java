@@ -0,0 +1,12 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.util.List;
+
+/**
+ * Published after new scheduled transfers are committed, so the execution
+ * engine can pick up those due before its next refill.
+ *
+ * @param transfers The transfers that were just stored.
+ */
+public record TransferScheduledEvent(List<DueTransfer> transfers) {
+}
@@ -0,0 +1,33 @@
+package com.johnnycarreiro.fts.infra.transfer.execution;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Told about transfers that {@link TransferClaimer} moved from one status to
+ * another, inside the transaction that moved them.
+ */
+@FunctionalInterface
+public interface TransferStatusListener {
+
+  TransferStatusListener NONE = (ids, from, to) -> {
+  };
+
+  /**
+   * @return a listener that tells each of `listeners`, in order.
+   */
+  static TransferStatusListener all(final List<? extends TransferStatusListener> listeners) {
+    return switch (listeners.size()) {
+      case 0 -> NONE;
+      case 1 -> listeners.get(0);
+      default -> (ids, from, to) -> listeners.forEach(listener -> listener.transitioned(ids, from, to));
+    };
+  }
+
+  /**
+   * @param ids  The transfers that changed; never empty.
+   * @param from The status they had.
+   * @param to   The status they have now.
+   */
+  void transitioned(Collection<String> ids, String from, String to);
+}
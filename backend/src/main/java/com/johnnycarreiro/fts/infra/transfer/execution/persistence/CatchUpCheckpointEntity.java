@@ -0,0 +1,39 @@
+package com.johnnycarreiro.fts.infra.transfer.execution.persistence;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How far the catch-up walk got: every overdue transfer up to and including
+ * `(cursorDate, cursorId)` has been executed.
+ */
+@Entity
+@Table(name = "transfer_catch_up_checkpoints")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CatchUpCheckpointEntity {
+
+  @Id
+  @Column(name = "name", nullable = false, length = 64)
+  private String name;
+
+  @Column(name = "cursor_date", nullable = false)
+  private Instant cursorDate;
+
+  @Column(name = "cursor_id", nullable = false, length = 36)
+  private String cursorId;
+
+  @Column(name = "completed", nullable = false)
+  private long completed;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+}
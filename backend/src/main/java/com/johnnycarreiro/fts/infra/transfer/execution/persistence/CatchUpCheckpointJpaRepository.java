@@ -0,0 +1,6 @@
+package com.johnnycarreiro.fts.infra.transfer.execution.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CatchUpCheckpointJpaRepository extends JpaRepository<CatchUpCheckpointEntity, String> {
+}
@@ -0,0 +1,79 @@
+package com.johnnycarreiro.fts.infra.transfer.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferPresenter;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes every transfer as newline-delimited JSON, one presented transfer
+ * per line.
+ *
+ * Rows come from {@link TransferJpaRepository#streamAll()}, a forward-only
+ * cursor, and each entity is detached as soon as its line is written, so
+ * neither the result set nor the persistence context grows with the table.
+ * Lines are written by one {@link TransferPresenter.Writer} into a single
+ * {@link JsonGenerator}, which only flushes when its buffer fills; heap use
+ * stays constant whatever the row count.
+ */
+@Component
+public class TransferExporter {
+
+  public static final String MEDIA_TYPE = "application/x-ndjson";
+
+  private final TransferJpaRepository jpaRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+
+  public TransferExporter(
+      TransferJpaRepository jpaRepository,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper) {
+    this.jpaRepository = jpaRepository;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Streams all transfers to `out`, which is left open.
+   *
+   * @return how many transfers were written.
+   */
+  public long writeTo(final OutputStream out) {
+    final Long written = transactionTemplate.execute(status -> {
+      long count = 0;
+      try (var rows = jpaRepository.streamAll();
+          var generator = objectMapper.getFactory().createGenerator(out)) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines end in '\n' already; no separator between root values.
+        generator.setRootValueSeparator(null);
+        final var writer = new TransferPresenter.Writer();
+        for (var iterator = rows.iterator(); iterator.hasNext();) {
+          final var entity = iterator.next();
+          writer.write(generator, entity.toDomain());
+          generator.writeRaw('\n');
+          entityManager.detach(entity);
+          count++;
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not write the transfer export", e);
+      }
+      return count;
+    });
+    return written == null ? 0 : written;
+  }
+}
@@ -0,0 +1,17 @@
+package com.johnnycarreiro.fts.infra.transfer.models;
+
+import java.util.List;
+
+import com.johnnycarreiro.fts.application.transfer.batch.CreateTransfersBatchCommand;
+
+public final class TransferBatchRequest {
+
+  private TransferBatchRequest() {
+  }
+
+  public static CreateTransfersBatchCommand toCommand(final List<TransferRequest> requests) {
+    return CreateTransfersBatchCommand.of(requests == null
+        ? List.of()
+        : requests.stream().map(request -> request == null ? null : request.toCommand()).toList());
+  }
+}
@@ -0,0 +1,112 @@
+package com.johnnycarreiro.fts.infra.transfer.models;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.johnnycarreiro.fts.application.transfer.services.TransferPageVersion;
+import com.johnnycarreiro.fts.application.transfer.services.TransferVersion;
+
+/**
+ * Validators of a transfer or a page of transfers: a strong `ETag` and the
+ * `Last-Modified` date.
+ *
+ * Both are derived from `updatedAt`, which every write to a transfer moves
+ * forward. Fee rules are seeded and never rewritten, so a transfer's row is
+ * the only thing its body depends on. The tag of a page also covers which
+ * transfers are on it and whether another page follows.
+ *
+ * @param value        The quoted entity tag.
+ * @param lastModified The newest `updatedAt`, or null for an empty page.
+ */
+public record TransferETag(String value, Instant lastModified) {
+
+  /**
+   * @param updatedAt When the transfer last changed.
+   */
+  public static TransferETag of(final Instant updatedAt) {
+    return new TransferETag('"' + Long.toHexString(nanos(updatedAt)) + '"', updatedAt);
+  }
+
+  public static TransferETag of(final TransferPageVersion page) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    Instant lastModified = null;
+    for (TransferVersion item : page.items()) {
+      digest.update((item.id() + ':' + nanos(item.updatedAt()) + '\n').getBytes(StandardCharsets.UTF_8));
+      if (lastModified == null || item.updatedAt().isAfter(lastModified)) {
+        lastModified = item.updatedAt();
+      }
+    }
+    digest.update((byte) (page.hasNext() ? 1 : 0));
+    return new TransferETag('"' + HexFormat.of().formatHex(digest.digest(), 0, 16) + '"', lastModified);
+  }
+
+  /**
+   * @return whether the request carries `If-None-Match` or
+   *         `If-Modified-Since`.
+   */
+  public static boolean isConditional(final HttpHeaders request) {
+    return request.containsKey(HttpHeaders.IF_NONE_MATCH) || request.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+  }
+
+  /**
+   * Evaluates the request's preconditions against this tag, the way
+   * RFC 9110 does for a GET: `If-Modified-Since` only counts when there is
+   * no `If-None-Match`.
+   *
+   * @return whether the client's copy is still current.
+   */
+  public boolean notModified(final HttpHeaders request) {
+    final var ifNoneMatch = request.getIfNoneMatch();
+    if (!ifNoneMatch.isEmpty()) {
+      return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || opaque(tag).equals(opaque(value)));
+    }
+    final long ifModifiedSince = request.getIfModifiedSince();
+    return ifModifiedSince >= 0 && lastModified != null
+        && lastModified.getEpochSecond() <= ifModifiedSince / 1000;
+  }
+
+  /**
+   * @return a 200 response carrying these validators.
+   */
+  public ResponseEntity.BodyBuilder ok() {
+    return headers(ResponseEntity.ok());
+  }
+
+  /**
+   * @return a 304 response carrying these validators.
+   */
+  public ResponseEntity<?> notModifiedResponse() {
+    return headers(ResponseEntity.status(HttpStatus.NOT_MODIFIED)).build();
+  }
+
+  private ResponseEntity.BodyBuilder headers(final ResponseEntity.BodyBuilder builder) {
+    builder.eTag(value);
+    if (lastModified != null) {
+      builder.lastModified(lastModified);
+    }
+    return builder;
+  }
+
+  /**
+   * GET compares tags weakly: a `W/` prefix does not prevent a match.
+   */
+  private static String opaque(final String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+
+  private static long nanos(final Instant instant) {
+    return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+  }
+}
@@ -0,0 +1,12 @@
+package com.johnnycarreiro.fts.infra.transfer.models;
+
+import java.time.Instant;
+
+/**
+ * A transfer already serialized by {@link TransferPresenter}.
+ *
+ * @param json      The UTF-8 JSON body; never modified once built.
+ * @param updatedAt When the serialized transfer last changed.
+ */
+public record TransferJson(byte[] json, Instant updatedAt) {
+}
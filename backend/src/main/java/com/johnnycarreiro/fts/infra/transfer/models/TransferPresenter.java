@@ -1,24 +1,255 @@
 package com.johnnycarreiro.fts.infra.transfer.models;
 
-import java.util.Map;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.johnnycarreiro.fts.application.transfer.services.TransferPage;
 import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
 
+/**
+ * Writes transfers as JSON straight from their fields.
+ *
+ * A {@link Writer} streams each transfer into a {@link JsonGenerator}: field
+ * names and status values are encoded once, up front; amounts are written
+ * from their cents and dates are formatted the way `Instant.toString()`
+ * does, both into a buffer the writer reuses. Writing a transfer allocates
+ * nothing, however many a response holds.
+ *
+ * Controllers return {@link Page} and {@link Presented}, which Jackson hands
+ * to that writer through their serializers; the export and the transfer
+ * cache drive a writer directly.
+ */
 public class TransferPresenter {
 
-  public static Map<String, Object> present(Transfer transfer) {
-    return Map.of(
-        "id", transfer.getId().getValue(),
-        "sourceAccount", transfer.getSourceAccount().getValue(),
-        "destinationAccount", transfer.getDestinationAccount().getValue(),
-        "amount", transfer.getAmount(),
-        "scheduledDate", transfer.getScheduledDate(),
-        "transferDate", transfer.getTransferDate(),
-        "status", transfer.getStatus(),
-        "fee", Map.of(
-            "fixedFee", transfer.getFixedFee(),
-            "percentageFee", transfer.getPercentageFee()),
-        "createdAt", transfer.getCreatedAt(),
-        "updatedAt", transfer.getUpdatedAt());
+  private static final SerializableString ID = new SerializedString("id");
+  private static final SerializableString SOURCE_ACCOUNT = new SerializedString("sourceAccount");
+  private static final SerializableString DESTINATION_ACCOUNT = new SerializedString("destinationAccount");
+  private static final SerializableString AMOUNT = new SerializedString("amount");
+  private static final SerializableString SCHEDULED_DATE = new SerializedString("scheduledDate");
+  private static final SerializableString TRANSFER_DATE = new SerializedString("transferDate");
+  private static final SerializableString STATUS = new SerializedString("status");
+  private static final SerializableString FEE = new SerializedString("fee");
+  private static final SerializableString FIXED_FEE = new SerializedString("fixedFee");
+  private static final SerializableString PERCENTAGE_FEE = new SerializedString("percentageFee");
+  private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+  private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+  private static final SerializableString ITEMS = new SerializedString("items");
+  private static final SerializableString NEXT_CURSOR = new SerializedString("nextCursor");
+
+  /**
+   * The value of each {@link Status}, by ordinal.
+   */
+  private static final SerializableString[] STATUSES = Arrays.stream(Status.values())
+      .map(status -> new SerializedString(status.getValue()))
+      .toArray(SerializableString[]::new);
+
+  /**
+   * Body of a page of transfers; `nextCursor` is null on the last page.
+   */
+  @JsonSerialize(using = PageSerializer.class)
+  public record Page(List<Transfer> items, String nextCursor) {
+  }
+
+  /**
+   * Body of a single transfer.
+   */
+  @JsonSerialize(using = PresentedSerializer.class)
+  public record Presented(Transfer transfer) {
+  }
+
+  public static Page present(TransferPage page) {
+    return new Page(page.items(), page.nextCursor());
+  }
+
+  public static Presented present(Transfer transfer) {
+    return new Presented(transfer);
+  }
+
+  /**
+   * Serializes a transfer once, for responses that send it many times.
+   */
+  public static TransferJson toJson(JsonFactory jsonFactory, Transfer transfer) {
+    final var out = new ByteArrayOutputStream(512);
+    try (var generator = jsonFactory.createGenerator(out)) {
+      new Writer().write(generator, transfer);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not serialize transfer " + transfer.getId().getValue(), e);
+    }
+    return new TransferJson(out.toByteArray(), transfer.getUpdatedAt());
+  }
+
+  /**
+   * Writes transfers one after another. Not thread-safe: each response uses
+   * its own.
+   */
+  public static final class Writer {
+
+    private final char[] buffer = new char[32];
+
+    public void write(final JsonGenerator generator, final Transfer transfer) throws IOException {
+      generator.writeStartObject();
+      generator.writeFieldName(ID);
+      generator.writeString(transfer.getId().getValue());
+      generator.writeFieldName(SOURCE_ACCOUNT);
+      generator.writeString(transfer.getSourceAccount().getValue());
+      generator.writeFieldName(DESTINATION_ACCOUNT);
+      generator.writeString(transfer.getDestinationAccount().getValue());
+      generator.writeFieldName(AMOUNT);
+      writeMoney(generator, transfer.getAmount());
+      generator.writeFieldName(SCHEDULED_DATE);
+      writeInstant(generator, transfer.getScheduledDate());
+      generator.writeFieldName(TRANSFER_DATE);
+      writeInstant(generator, transfer.getTransferDate());
+      generator.writeFieldName(STATUS);
+      generator.writeString(STATUSES[transfer.getStatus().getValue().ordinal()]);
+      generator.writeFieldName(FEE);
+      generator.writeStartObject();
+      generator.writeFieldName(FIXED_FEE);
+      writeMoney(generator, transfer.getFixedFee());
+      generator.writeFieldName(PERCENTAGE_FEE);
+      generator.writeNumber(transfer.getPercentageFee());
+      generator.writeEndObject();
+      generator.writeFieldName(CREATED_AT);
+      writeInstant(generator, transfer.getCreatedAt());
+      generator.writeFieldName(UPDATED_AT);
+      writeInstant(generator, transfer.getUpdatedAt());
+      generator.writeEndObject();
+    }
+
+    /**
+     * Writes the amount with {@link Money#SCALE} decimal places, as
+     * {@link Money#toBigDecimal()} would print it.
+     */
+    private void writeMoney(final JsonGenerator generator, final Money money) throws IOException {
+      if (money == null) {
+        generator.writeNull();
+        return;
+      }
+      final long cents = money.getCents();
+      long rest = Math.abs(cents);
+      int start = buffer.length;
+      for (int digits = 0; digits <= Money.SCALE || rest > 0; digits++) {
+        if (digits == Money.SCALE) {
+          buffer[--start] = '.';
+        }
+        buffer[--start] = (char) ('0' + rest % 10);
+        rest /= 10;
+      }
+      if (cents < 0) {
+        buffer[--start] = '-';
+      }
+      generator.writeNumber(buffer, start, buffer.length - start);
+    }
+
+    /**
+     * Writes the instant as `Instant.toString()` would: ISO-8601 in UTC,
+     * with the fraction of a second in groups of three digits and only when
+     * there is one.
+     */
+    private void writeInstant(final JsonGenerator generator, final Instant instant) throws IOException {
+      if (instant == null) {
+        generator.writeNull();
+        return;
+      }
+      final long seconds = instant.getEpochSecond();
+      final int secondOfDay = (int) Math.floorMod(seconds, 86_400L);
+
+      // Civil date from days since the epoch, by Howard Hinnant's
+      // algorithm over 400-year eras starting on March 1st.
+      final long days = Math.floorDiv(seconds, 86_400L) + 719_468;
+      final long era = Math.floorDiv(days, 146_097);
+      final long dayOfEra = days - era * 146_097;
+      final long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+      final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+      final long shiftedMonth = (5 * dayOfYear + 2) / 153;
+      final int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+      final int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+      final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+      if (year < 0 || year > 9999) {
+        generator.writeString(instant.toString());
+        return;
+      }
+
+      int length = digits((int) year, 4, 0);
+      buffer[length++] = '-';
+      length = digits(month, 2, length);
+      buffer[length++] = '-';
+      length = digits(day, 2, length);
+      buffer[length++] = 'T';
+      length = digits(secondOfDay / 3_600, 2, length);
+      buffer[length++] = ':';
+      length = digits(secondOfDay / 60 % 60, 2, length);
+      buffer[length++] = ':';
+      length = digits(secondOfDay % 60, 2, length);
+      final int nanos = instant.getNano();
+      if (nanos > 0) {
+        buffer[length++] = '.';
+        if (nanos % 1_000_000 == 0) {
+          length = digits(nanos / 1_000_000, 3, length);
+        } else if (nanos % 1_000 == 0) {
+          length = digits(nanos / 1_000, 6, length);
+        } else {
+          length = digits(nanos, 9, length);
+        }
+      }
+      buffer[length++] = 'Z';
+      generator.writeString(buffer, 0, length);
+    }
+
+    /**
+     * Writes `value` zero-padded to `width` digits at `offset`.
+     *
+     * @return the offset right after it.
+     */
+    private int digits(int value, final int width, final int offset) {
+      for (int i = offset + width - 1; i >= offset; i--) {
+        buffer[i] = (char) ('0' + value % 10);
+        value /= 10;
+      }
+      return offset + width;
+    }
+  }
+
+  public static final class PageSerializer extends JsonSerializer<Page> {
+    @Override
+    public void serialize(final Page page, final JsonGenerator generator, final SerializerProvider provider)
+        throws IOException {
+      final var writer = new Writer();
+      generator.writeStartObject();
+      generator.writeFieldName(ITEMS);
+      generator.writeStartArray();
+      for (Transfer transfer : page.items()) {
+        writer.write(generator, transfer);
+      }
+      generator.writeEndArray();
+      generator.writeFieldName(NEXT_CURSOR);
+      if (page.nextCursor() == null) {
+        generator.writeNull();
+      } else {
+        generator.writeString(page.nextCursor());
+      }
+      generator.writeEndObject();
+    }
+  }
+
+  public static final class PresentedSerializer extends JsonSerializer<Presented> {
+    @Override
+    public void serialize(final Presented presented, final JsonGenerator generator,
+        final SerializerProvider provider) throws IOException {
+      new Writer().write(generator, presented.transfer());
+    }
   }
 }
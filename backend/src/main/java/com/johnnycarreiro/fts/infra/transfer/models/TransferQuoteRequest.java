@@ -0,0 +1,26 @@
+package com.johnnycarreiro.fts.infra.transfer.models;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesCommand;
+
+/**
+ * One candidate transfer of `POST /transfers/quotes`.
+ *
+ * Fields are not bean-validated: a missing amount or date is reported by
+ * {@link com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesUseCase}
+ * on that item's quote, so one bad item does not reject the whole list.
+ */
+public record TransferQuoteRequest(BigDecimal amount, String scheduledDate) {
+
+  public QuoteTransferFeesCommand.Item toItem() {
+    return new QuoteTransferFeesCommand.Item(amount, scheduledDate);
+  }
+
+  public static QuoteTransferFeesCommand toCommand(final List<TransferQuoteRequest> requests) {
+    return QuoteTransferFeesCommand.of(requests == null
+        ? List.of()
+        : requests.stream().map(TransferQuoteRequest::toItem).toList());
+  }
+}
@@ -1,6 +1,12 @@
 
 package com.johnnycarreiro.fts.infra.transfer.models;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 import com.johnnycarreiro.fts.application.transfer.create.CreateTransferCommand;
 
 import jakarta.validation.constraints.NotBlank;
@@ -11,11 +17,26 @@ public record TransferRequest(
 
     @NotBlank(message = "Destination account cannot be blank.") String destinationAccount,
 
-    @NotNull(message = "Amount cannot be null.") Double amount,
+    @NotNull(message = "Amount cannot be null.") BigDecimal amount,
 
     @NotBlank(message = "Scheduled date cannot be blank.") String scheduledDate) {
   // Método para converter TransferRequest em CreateTransferCommand
   public CreateTransferCommand toCommand() {
     return CreateTransferCommand.of(sourceAccount, destinationAccount, amount, scheduledDate);
   }
+
+  /**
+   * @return a stable hash of the request payload, used to detect an
+   *         idempotency key being reused for a different request.
+   */
+  public String fingerprint() {
+    final var canonical = sourceAccount + '|' + destinationAccount + '|'
+        + (amount == null ? null : amount.stripTrailingZeros().toPlainString()) + '|' + scheduledDate;
+    try {
+      final var digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -0,0 +1,200 @@
+package com.johnnycarreiro.fts.infra.transfer.persistence;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind queue that commits many transfers per transaction.
+ *
+ * Callers enqueue a transfer and get a future that completes once the
+ * transaction holding it has committed. A single writer thread drains the
+ * queue, closing a group when it reaches `max-batch-size` items or when
+ * `max-delay` has passed since its first item. A full queue rejects new
+ * transfers instead of blocking request threads.
+ *
+ * Every future completes: transfers still queued when the writer stops or
+ * is interrupted are failed rather than left waiting, so callers can wait
+ * for the outcome without a timeout of their own.
+ *
+ * Disabled by default; turn it on with
+ * `fts.persistence.group-commit.enabled=true`.
+ */
+@Component
+public class GroupCommitTransferWriter {
+
+  private record Pending(TransferEntity entity, CompletableFuture<Void> committed) {
+  }
+
+  private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+  private final TransferBatchWriter batchWriter;
+  private final boolean enabled;
+  private final boolean virtualThreads;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final BlockingQueue<Pending> queue;
+
+  private final DistributionSummary batchSizes;
+  private final Counter rejected;
+  private final Timer commitTimer;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  public GroupCommitTransferWriter(
+      TransferBatchWriter batchWriter,
+      MeterRegistry meterRegistry,
+      @Value("${fts.persistence.group-commit.enabled:false}") boolean enabled,
+      @Value("${fts.persistence.group-commit.capacity:10000}") int capacity,
+      @Value("${fts.persistence.group-commit.max-batch-size:500}") int maxBatchSize,
+      @Value("${fts.persistence.group-commit.max-delay:PT0.005S}") Duration maxDelay,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this.batchWriter = batchWriter;
+    this.enabled = enabled;
+    this.virtualThreads = virtualThreads;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.queue = new ArrayBlockingQueue<>(capacity);
+
+    Gauge.builder("fts.transfers.group_commit.queue_depth", queue, BlockingQueue::size)
+        .description("Transfers waiting to be committed")
+        .register(meterRegistry);
+    this.batchSizes = DistributionSummary.builder("fts.transfers.group_commit.batch_size")
+        .description("Transfers committed per transaction")
+        .register(meterRegistry);
+    this.rejected = Counter.builder("fts.transfers.group_commit.rejected")
+        .description("Transfers rejected because the queue was full")
+        .register(meterRegistry);
+    this.commitTimer = Timer.builder("fts.transfers.group_commit.commit")
+        .description("Time spent committing one group")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @return true when transfers should be routed through this writer.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Queues a transfer for insertion.
+   *
+   * @param entity the transfer to insert.
+   * @return a future completed once the transfer is committed, or completed
+   *         exceptionally if the queue is full or the insert failed.
+   */
+  public CompletableFuture<Void> submit(TransferEntity entity) {
+    final var pending = new Pending(entity, new CompletableFuture<>());
+    if (!running || !queue.offer(pending)) {
+      rejected.increment();
+      pending.committed().completeExceptionally(
+          new RejectedExecutionException("Transfer queue is full, try again later"));
+    } else if (!running && queue.remove(pending)) {
+      // The writer stopped while this was being queued and may never see it.
+      rejected.increment();
+      pending.committed().completeExceptionally(
+          new RejectedExecutionException("Transfer writer is stopping, try again later"));
+    }
+    return pending.committed();
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    final var builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+    writer = builder.name("transfer-group-commit").start(this::drainLoop);
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (writer != null) {
+      writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    failQueued(new RejectedExecutionException("Transfer writer stopped before committing the transfer"));
+  }
+
+  private void drainLoop() {
+    final var group = new ArrayList<Pending>(maxBatchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        final var first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+          continue;
+        }
+        group.add(first);
+
+        final long deadline = System.nanoTime() + maxDelayNanos;
+        while (group.size() < maxBatchSize) {
+          if (queue.drainTo(group, maxBatchSize - group.size()) > 0) {
+            continue;
+          }
+          final long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            break;
+          }
+          final var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          group.add(next);
+        }
+
+        commit(group);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+        group.forEach(pending -> pending.committed().completeExceptionally(e));
+        failQueued(e);
+      } finally {
+        group.clear();
+      }
+    }
+  }
+
+  private void failQueued(final Exception cause) {
+    final var left = new ArrayList<Pending>();
+    queue.drainTo(left);
+    left.forEach(pending -> pending.committed().completeExceptionally(cause));
+  }
+
+  private void commit(List<Pending> group) {
+    batchSizes.record(group.size());
+    try {
+      commitTimer.record(() -> batchWriter.insertAll(group.stream().map(Pending::entity).toList()));
+      group.forEach(pending -> pending.committed().complete(null));
+    } catch (RuntimeException groupFailure) {
+      // One bad row fails the whole transaction; retry one by one so the
+      // others still get in and only the culprit reports an error.
+      for (Pending pending : group) {
+        try {
+          batchWriter.insertAll(List.of(pending.entity()));
+          pending.committed().complete(null);
+        } catch (RuntimeException e) {
+          pending.committed().completeExceptionally(e);
+        }
+      }
+    }
+  }
+}
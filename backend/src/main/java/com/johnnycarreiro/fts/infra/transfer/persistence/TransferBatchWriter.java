@@ -0,0 +1,54 @@
+package com.johnnycarreiro.fts.infra.transfer.persistence;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummaries;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Inserts many transfers in a single transaction.
+ *
+ * `JpaRepository.save` merges entities that already carry an id, which costs
+ * one SELECT per row and defeats JDBC batching. This writer persists new
+ * rows directly, references the fee by proxy instead of loading it, and
+ * flushes once so Hibernate can group the inserts according to
+ * `hibernate.jdbc.batch_size`. The {@link AccountSummaries} of the senders
+ * are updated in the same transaction.
+ */
+@Component
+public class TransferBatchWriter {
+
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final AccountSummaries accountSummaries;
+
+  public TransferBatchWriter(EntityManager entityManager, PlatformTransactionManager transactionManager,
+      AccountSummaries accountSummaries) {
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.accountSummaries = accountSummaries;
+  }
+
+  /**
+   * Persists all given entities as new rows, in one transaction.
+   *
+   * @param entities the transfers to insert.
+   */
+  public void insertAll(List<TransferEntity> entities) {
+    transactionTemplate.executeWithoutResult(status -> {
+      for (TransferEntity entity : entities) {
+        entity.setTransferFee(
+            entityManager.getReference(TransferFeeEntity.class, entity.getTransferFee().getId()));
+        entityManager.persist(entity);
+      }
+      entityManager.flush();
+      accountSummaries.created(entities);
+      entityManager.clear();
+    });
+  }
+}
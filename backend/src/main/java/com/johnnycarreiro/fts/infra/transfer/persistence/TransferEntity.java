@@ -5,12 +5,14 @@ import java.time.Instant;
 
 import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
 import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
 import com.johnnycarreiro.fts.domain.value_objects.transfer_status.TransferStatus;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -21,7 +23,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "transfers")
+@Table(name = "transfers", indexes = {
+    @Index(name = "idx_transfers_status_scheduled_date", columnList = "status, scheduled_date, id"),
+    @Index(name = "idx_transfers_status_next_attempt", columnList = "status, next_attempt_at, id"),
+    @Index(name = "idx_transfers_created_at", columnList = "created_at DESC, id DESC"),
+    @Index(name = "idx_transfers_source_created_at", columnList = "source_account, created_at DESC, id DESC"),
+    @Index(name = "idx_transfers_destination_created_at", columnList = "destination_account, created_at DESC, id DESC"),
+    @Index(name = "idx_transfers_status_created_at", columnList = "status, created_at DESC, id DESC")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -62,6 +71,21 @@ public class TransferEntity {
   @Column(name = "deleted_at", nullable = true, columnDefinition = "TIMESTAMP")
   private Instant deletedAt;
 
+  /** Node currently executing the transfer; only written by TransferClaimer. */
+  @Column(name = "lease_owner", length = 64, insertable = false, updatable = false)
+  private String leaseOwner;
+
+  @Column(name = "lease_until", insertable = false, updatable = false)
+  private Instant leaseUntil;
+
+  /** Failed executions so far; counted by TransferClaimer. */
+  @Column(name = "attempts", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+  private int attempts;
+
+  /** When a failed transfer is retried next; empty unless status is failed. */
+  @Column(name = "next_attempt_at", insertable = false, updatable = false)
+  private Instant nextAttemptAt;
+
   @PrePersist
   public void prePersist() {
     Instant now = Instant.now();
@@ -83,7 +107,7 @@ public class TransferEntity {
     entity.id = transfer.getId().getValue();
     entity.sourceAccount = transfer.getSourceAccount().getValue();
     entity.destinationAccount = transfer.getDestinationAccount().getValue();
-    entity.amount = transfer.getAmount();
+    entity.amount = transfer.getAmount().toBigDecimal();
     entity.scheduledDate = transfer.getScheduledDate();
     entity.transferDate = transfer.getTransferDate();
 
@@ -109,11 +133,11 @@ public class TransferEntity {
         id,
         sourceAccount,
         destinationAccount,
-        amount.doubleValue(),
+        Money.of(amount),
         scheduledDate,
         transferDate,
         fee,
-        fee.getFixedFee(),
+        fee.getFixedFeeAmount(),
         fee.getPercentageFee(),
         status,
         createdAt,
@@ -7,6 +7,7 @@ import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -17,6 +18,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "transfer_fees")
+@EntityListeners(TransferFeeEntityListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -0,0 +1,42 @@
+package com.johnnycarreiro.fts.infra.transfer.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Invalidates the {@link TransferFeeCache} whenever a fee row is written.
+ *
+ * The cache is dropped right away and once more after the surrounding
+ * transaction commits, so a reader that reloaded between the flush and the
+ * commit cannot keep the pre-commit rows around.
+ */
+public class TransferFeeEntityListener {
+
+  private final TransferFeeCache feeCache;
+
+  public TransferFeeEntityListener(TransferFeeCache feeCache) {
+    this.feeCache = feeCache;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onWrite(TransferFeeEntity entity) {
+    feeCache.invalidate();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          feeCache.invalidate();
+        }
+      });
+    }
+  }
+}
@@ -1,13 +1,24 @@
 package com.johnnycarreiro.fts.infra.transfer.persistence;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer;
+
+import jakarta.persistence.QueryHint;
+
 public interface TransferJpaRepository extends JpaRepository<TransferEntity, String> {
   @Query("SELECT f FROM TransferFeeEntity f")
   List<TransferFeeEntity> findAllFees();
@@ -17,4 +28,59 @@ public interface TransferJpaRepository extends JpaRepository<TransferEntity, Str
 
   @Query("SELECT t FROM TransferEntity t JOIN FETCH t.transferFee WHERE t.id = :id")
   Optional<TransferEntity> findByIdWithFee(@Param("id") String id);
+
+  @Query("SELECT t FROM TransferEntity t JOIN FETCH t.transferFee WHERE t.id IN :ids")
+  List<TransferEntity> findAllWithFeeByIdIn(@Param("ids") Collection<String> ids);
+
+  /**
+   * Keyset page of scheduled transfers due up to `until`, strictly after the
+   * `(afterDate, afterId)` cursor, in due order.
+   */
+  @Query("""
+      SELECT new com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer(t.id, t.sourceAccount, t.scheduledDate)
+      FROM TransferEntity t
+      WHERE t.status = 'scheduled'
+        AND t.scheduledDate <= :until
+        AND (t.scheduledDate > :afterDate OR (t.scheduledDate = :afterDate AND t.id > :afterId))
+      ORDER BY t.scheduledDate, t.id
+      """)
+  List<DueTransfer> findScheduledAfter(
+      @Param("afterDate") Instant afterDate,
+      @Param("afterId") String afterId,
+      @Param("until") Instant until,
+      Limit limit);
+
+  /**
+   * Keyset page of scheduled transfers due strictly before `before`, after the
+   * `(afterDate, afterId)` cursor, in due order.
+   */
+  @Query("""
+      SELECT new com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer(t.id, t.sourceAccount, t.scheduledDate)
+      FROM TransferEntity t
+      WHERE t.status = 'scheduled'
+        AND t.scheduledDate < :before
+        AND (t.scheduledDate > :afterDate OR (t.scheduledDate = :afterDate AND t.id > :afterId))
+      ORDER BY t.scheduledDate, t.id
+      """)
+  List<DueTransfer> findScheduledBefore(
+      @Param("afterDate") Instant afterDate,
+      @Param("afterId") String afterId,
+      @Param("before") Instant before,
+      Limit limit);
+
+  @Query("SELECT COUNT(t) FROM TransferEntity t WHERE t.status = 'scheduled' AND t.scheduledDate < :before")
+  long countScheduledBefore(@Param("before") Instant before);
+
+  /**
+   * Every transfer, newest first along `idx_transfers_created_at`, read
+   * forward-only through a JDBC cursor `fetchSize` rows at a time. Loaded
+   * read-only, so Hibernate keeps no snapshot for dirty checking; the caller
+   * must consume the stream inside a transaction and close it.
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT t FROM TransferEntity t JOIN FETCH t.transferFee ORDER BY t.createdAt DESC, t.id DESC")
+  Stream<TransferEntity> streamAll();
 }
@@ -0,0 +1,69 @@
+package com.johnnycarreiro.fts.infra.transfer.persistence;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.johnnycarreiro.fts.application.transfer.services.TransferCursor;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+
+/**
+ * One row of a transfer listing: the transfer and its fee rule, flattened
+ * into the columns of a single join.
+ *
+ * Rows are plain values, never managed entities, so reading a page neither
+ * fills the persistence context nor keeps snapshots for dirty checking.
+ */
+public record TransferRow(
+    String id,
+    String sourceAccount,
+    String destinationAccount,
+    BigDecimal amount,
+    Instant scheduledDate,
+    Instant transferDate,
+    String status,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt,
+    String feeId,
+    String feeName,
+    int feeMinDays,
+    Integer feeMaxDays,
+    BigDecimal feeFixedFee,
+    BigDecimal feePercentageFee) {
+
+  /**
+   * @return the keyset position of this row in the listing.
+   */
+  public TransferCursor cursor() {
+    return new TransferCursor(createdAt, id);
+  }
+
+  public Transfer toDomain() {
+    final var fee = TransferFee.from(
+        feeId,
+        feeName,
+        feeMinDays,
+        feeMaxDays,
+        feeFixedFee,
+        feePercentageFee,
+        null,
+        null,
+        null);
+    return Transfer.from(
+        id,
+        sourceAccount,
+        destinationAccount,
+        Money.of(amount),
+        scheduledDate,
+        transferDate,
+        fee,
+        fee.getFixedFeeAmount(),
+        fee.getPercentageFee(),
+        status,
+        createdAt,
+        updatedAt,
+        deletedAt);
+  }
+}
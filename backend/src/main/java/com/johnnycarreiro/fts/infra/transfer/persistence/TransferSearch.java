@@ -0,0 +1,211 @@
+package com.johnnycarreiro.fts.infra.transfer.persistence;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+
+import com.johnnycarreiro.fts.application.transfer.services.TransferCursor;
+import com.johnnycarreiro.fts.application.transfer.services.TransferFilter;
+import com.johnnycarreiro.fts.application.transfer.services.TransferVersion;
+import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Reads one page of a filtered transfer listing in a single statement.
+ *
+ * Transfers are joined to their fee rule and returned as flat
+ * {@link TransferRow}s, so no entity is hydrated and no fee is loaded on its
+ * own. The statement is native SQL but goes through Hibernate, which keeps
+ * it in the session statistics alongside every other query.
+ *
+ * Rows come newest first, and every equality filter leads an index that ends
+ * in `(created_at, id)`, which serves both the filter and the keyset order:
+ * - `source_account` from `idx_transfers_source_created_at`;
+ * - `destination_account` from `idx_transfers_destination_created_at`;
+ * - `status` from `idx_transfers_status_created_at`;
+ * - no filter from `idx_transfers_created_at`.
+ * Scheduled-date and amount ranges are checked on the rows that range scan
+ * reaches. The fee of each row is then one primary key lookup.
+ */
+@Component
+public class TransferSearch {
+
+  /**
+   * A statement and its arguments.
+   */
+  public record Query(String sql, List<Object> args) {
+  }
+
+  private static final String SELECT = """
+      SELECT t.id, t.source_account, t.destination_account, t.amount, t.scheduled_date, t.transfer_date,
+        t.status, t.created_at, t.updated_at, t.deleted_at,
+        f.id AS fee_id, f.name AS fee_name, f.min_days, f.max_days, f.fixed_fee, f.percentage_fee
+      FROM transfers t JOIN transfer_fees f ON f.id = t.transfer_fee_id
+      WHERE 1 = 1""";
+
+  private static final String SELECT_VERSIONS = """
+      SELECT t.id, t.updated_at
+      FROM transfers t
+      WHERE 1 = 1""";
+
+  private final EntityManager entityManager;
+
+  public TransferSearch(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * @param filter What the transfers must match.
+   * @param after  The last transfer of the previous page, or null for the
+   *               first page.
+   * @param limit  Maximum number of rows to return.
+   * @return the rows of the page, newest first.
+   */
+  @SuppressWarnings("unchecked")
+  public List<TransferRow> findPage(final TransferFilter filter, final TransferCursor after, final int limit) {
+    final var query = pageQuery(filter, after, limit);
+    final NativeQuery<Object[]> nativeQuery = entityManager.createNativeQuery(query.sql())
+        .unwrap(NativeQuery.class)
+        .addScalar("id", String.class)
+        .addScalar("source_account", String.class)
+        .addScalar("destination_account", String.class)
+        .addScalar("amount", BigDecimal.class)
+        .addScalar("scheduled_date", Instant.class)
+        .addScalar("transfer_date", Instant.class)
+        .addScalar("status", String.class)
+        .addScalar("created_at", Instant.class)
+        .addScalar("updated_at", Instant.class)
+        .addScalar("deleted_at", Instant.class)
+        .addScalar("fee_id", String.class)
+        .addScalar("fee_name", String.class)
+        .addScalar("min_days", Integer.class)
+        .addScalar("max_days", Integer.class)
+        .addScalar("fixed_fee", BigDecimal.class)
+        .addScalar("percentage_fee", BigDecimal.class);
+    for (int i = 0; i < query.args().size(); i++) {
+      nativeQuery.setParameter(i + 1, query.args().get(i));
+    }
+    return nativeQuery.getResultList().stream().map(TransferSearch::toRow).toList();
+  }
+
+  /**
+   * Reads only when each transfer of a page last changed, walking the same
+   * index as {@link #findPage} without joining the fees.
+   *
+   * @return the versions of the transfers on the page, newest first.
+   */
+  @SuppressWarnings("unchecked")
+  public List<TransferVersion> findPageVersions(final TransferFilter filter, final TransferCursor after,
+      final int limit) {
+    final var query = query(SELECT_VERSIONS, filter, after, limit);
+    final NativeQuery<Object[]> nativeQuery = entityManager.createNativeQuery(query.sql())
+        .unwrap(NativeQuery.class)
+        .addScalar("id", String.class)
+        .addScalar("updated_at", Instant.class);
+    for (int i = 0; i < query.args().size(); i++) {
+      nativeQuery.setParameter(i + 1, query.args().get(i));
+    }
+    return nativeQuery.getResultList().stream()
+        .map(columns -> new TransferVersion(((String) columns[0]).trim(), (Instant) columns[1]))
+        .toList();
+  }
+
+  /**
+   * @param id The transfer id.
+   * @return when the transfer last changed, or empty if it does not exist.
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<Instant> findVersion(final String id) {
+    final List<Instant> versions = entityManager.createNativeQuery("SELECT updated_at FROM transfers WHERE id = ?")
+        .unwrap(NativeQuery.class)
+        .addScalar("updated_at", Instant.class)
+        .setParameter(1, id)
+        .getResultList();
+    return versions.stream().findFirst();
+  }
+
+  private static TransferRow toRow(final Object[] columns) {
+    return new TransferRow(
+        ((String) columns[0]).trim(),
+        (String) columns[1],
+        (String) columns[2],
+        (BigDecimal) columns[3],
+        (Instant) columns[4],
+        (Instant) columns[5],
+        (String) columns[6],
+        (Instant) columns[7],
+        (Instant) columns[8],
+        (Instant) columns[9],
+        ((String) columns[10]).trim(),
+        (String) columns[11],
+        (Integer) columns[12],
+        (Integer) columns[13],
+        (BigDecimal) columns[14],
+        (BigDecimal) columns[15]);
+  }
+
+  /**
+   * @return the statement {@link #findPage} runs; exposed so its plan can be
+   *         inspected.
+   */
+  public static Query pageQuery(final TransferFilter filter, final TransferCursor after, final int limit) {
+    return query(SELECT, filter, after, limit);
+  }
+
+  private static Query query(final String select, final TransferFilter filter, final TransferCursor after,
+      final int limit) {
+    final var sql = new StringBuilder(select);
+    final var args = new ArrayList<Object>();
+    if (filter.sourceAccount() != null) {
+      sql.append(" AND t.source_account = ?");
+      args.add(filter.sourceAccount());
+    }
+    if (filter.destinationAccount() != null) {
+      sql.append(" AND t.destination_account = ?");
+      args.add(filter.destinationAccount());
+    }
+    if (filter.status() != null) {
+      sql.append(" AND t.status = ?");
+      args.add(Status.fromString(filter.status()).getValue());
+    }
+    if (filter.scheduledFrom() != null) {
+      sql.append(" AND t.scheduled_date >= ?");
+      args.add(utc(filter.scheduledFrom()));
+    }
+    if (filter.scheduledTo() != null) {
+      sql.append(" AND t.scheduled_date <= ?");
+      args.add(utc(filter.scheduledTo()));
+    }
+    if (filter.minAmount() != null) {
+      sql.append(" AND t.amount >= ?");
+      args.add(filter.minAmount());
+    }
+    if (filter.maxAmount() != null) {
+      sql.append(" AND t.amount <= ?");
+      args.add(filter.maxAmount());
+    }
+    if (after != null) {
+      // The redundant `<=` bounds the index range; the rest drops the ties
+      // already returned.
+      sql.append(" AND t.created_at <= ? AND (t.created_at < ? OR t.id < ?)");
+      args.add(utc(after.createdAt()));
+      args.add(utc(after.createdAt()));
+      args.add(after.id());
+    }
+    sql.append(" ORDER BY t.created_at DESC, t.id DESC LIMIT ?");
+    args.add(limit);
+    return new Query(sql.toString(), args);
+  }
+
+  private static OffsetDateTime utc(final Instant instant) {
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+}
@@ -15,6 +15,61 @@ CREATE TABLE transfers (
   scheduled_date TIMESTAMP NOT NULL,
   transfer_date TIMESTAMP,  
   transfer_fee_id CHAR(36) NOT NULL,
-  status VARCHAR(20) NOT NULL CHECK (status IN ('scheduled', 'completed', 'cancelled', 'failed')),  
+  status VARCHAR(20) NOT NULL CHECK (status IN ('scheduled', 'completed', 'cancelled', 'failed', 'dead_letter')),  
+  lease_owner VARCHAR(64),
+  lease_until TIMESTAMP,
+  attempts INT NOT NULL DEFAULT 0,
+  next_attempt_at TIMESTAMP,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  deleted_at TIMESTAMP,
   FOREIGN KEY (transfer_fee_id) REFERENCES transfer_fees(id)
 );
+
+CREATE INDEX idx_transfers_status_scheduled_date ON transfers (status, scheduled_date, id);
+CREATE INDEX idx_transfers_status_next_attempt ON transfers (status, next_attempt_at, id);
+CREATE INDEX idx_transfers_created_at ON transfers (created_at DESC, id DESC);
+CREATE INDEX idx_transfers_source_created_at ON transfers (source_account, created_at DESC, id DESC);
+CREATE INDEX idx_transfers_destination_created_at ON transfers (destination_account, created_at DESC, id DESC);
+CREATE INDEX idx_transfers_status_created_at ON transfers (status, created_at DESC, id DESC);
+
+CREATE TABLE idempotency_keys (
+  idempotency_key VARCHAR(255) PRIMARY KEY,
+  fingerprint CHAR(64) NOT NULL,
+  status_code INT NOT NULL,
+  location VARCHAR(255),
+  body CLOB,
+  created_at TIMESTAMP NOT NULL,
+  expires_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE transfer_catch_up_checkpoints (
+  name VARCHAR(64) PRIMARY KEY,
+  cursor_date TIMESTAMP NOT NULL,
+  cursor_id CHAR(36) NOT NULL,
+  completed BIGINT NOT NULL,
+  updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE ledger_pending_postings (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  posting_id CHAR(36) NOT NULL,
+  leg VARCHAR(8) NOT NULL,
+  account VARCHAR(255) NOT NULL,
+  amount_cents BIGINT NOT NULL,
+  created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_ledger_pending_postings_posting_id ON ledger_pending_postings (posting_id);
+
+CREATE TABLE account_summary (
+  account VARCHAR(255) PRIMARY KEY,
+  scheduled_count BIGINT NOT NULL,
+  scheduled_cents BIGINT NOT NULL,
+  completed_count BIGINT NOT NULL,
+  completed_cents BIGINT NOT NULL,
+  failed_count BIGINT NOT NULL,
+  failed_cents BIGINT NOT NULL,
+  fees_cents BIGINT NOT NULL,
+  updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,176 @@
+package com.johnnycarreiro.fts.integration.infra.account;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummaries;
+import com.johnnycarreiro.fts.infra.account.summary.AccountSummary;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferClaimer;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
+
+/**
+ * Keeps the account summaries of an H2 database built from `db/schema.sql`
+ * up to date through inserts and claimer status changes, and checks them
+ * against a rebuild.
+ */
+@DisplayName("Account Summaries Test Suite")
+public class AccountSummariesIntegrationTest {
+
+  private static final TransferFee FEE = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"),
+      new BigDecimal("0.025"));
+
+  private JdbcTemplate jdbc;
+  private TransactionTemplate transactionTemplate;
+  private AccountSummaries summaries;
+  private TransferClaimer claimer;
+
+  @BeforeEach
+  public void setUp() {
+    final var dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:summaries-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbc = new JdbcTemplate(dataSource);
+    final var transactionManager = new DataSourceTransactionManager(dataSource);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql")).execute(dataSource);
+    jdbc.update("INSERT INTO transfer_fees VALUES (?, ?, ?, ?, ?, ?)", FEE.getId().getValue(), FEE.getName(),
+        FEE.getMinDays(), FEE.getMaxDays(), FEE.getFixedFee(), FEE.getPercentageFee());
+
+    summaries = new AccountSummaries(jdbc, transactionManager, new TransferFeeCache(), Duration.ofMinutes(1), 1000);
+    claimer = new TransferClaimer(jdbc, transactionManager, "node", Duration.ofMinutes(1), List.of(summaries));
+  }
+
+  private static TransferEntity scheduled(final String account, final String amount) {
+    return TransferEntity.fromDomain(Transfer.create(Account.from(account), Account.from("0987654321"),
+        Money.of(new BigDecimal(amount)), Instant.now(), FEE));
+  }
+
+  /**
+   * Writes the row and its summary delta; call inside a transaction.
+   */
+  private void write(final TransferEntity entity) {
+    jdbc.update("INSERT INTO transfers (id, source_account, destination_account, amount, scheduled_date,"
+        + " transfer_fee_id, status) VALUES (?, ?, ?, ?, ?, ?, ?)", entity.getId(), entity.getSourceAccount(),
+        entity.getDestinationAccount(), entity.getAmount(),
+        OffsetDateTime.ofInstant(entity.getScheduledDate(), ZoneOffset.UTC), FEE.getId().getValue(),
+        entity.getStatus());
+    summaries.created(List.of(entity));
+  }
+
+  /**
+   * Inserts a scheduled transfer the way the batch writer does: the row and
+   * its summary delta in one transaction.
+   */
+  private String insert(final String account, final String amount) {
+    final var entity = scheduled(account, amount);
+    transactionTemplate.executeWithoutResult(status -> write(entity));
+    return entity.getId();
+  }
+
+  @Test()
+  @DisplayName("Inserts And Status Changes - Summaries Match A Full Rebuild")
+  public void givenTransfersChangingStatus_whenReadingSummaries_thenTheyMatchARebuild() {
+    final var completed = insert("1111111111", "100.00");
+    final var failed = insert("1111111111", "40.00");
+    final var deadLettered = insert("2222222222", "10.00");
+    insert("2222222222", "25.50");
+    Assertions.assertEquals(new AccountSummary("1111111111", 2, 14000, 0, 0, 0, 0, 0),
+        summaries.get("1111111111"));
+
+    final var now = Instant.now();
+    claimer.claim(List.of(completed, failed, deadLettered), now);
+    Assertions.assertEquals(List.of(completed), claimer.complete(List.of(completed), "completed", now));
+    Assertions.assertEquals(2, claimer.fail(Map.of(failed, now.minusSeconds(1)), List.of(deadLettered), now));
+
+    // 3.00 fixed plus 2.5% of 100.00
+    final var first = new AccountSummary("1111111111", 0, 0, 1, 10000, 1, 4000, 550);
+    final var second = new AccountSummary("2222222222", 1, 2550, 0, 0, 1, 1000, 0);
+    Assertions.assertEquals(first, summaries.get("1111111111"));
+    Assertions.assertEquals(second, summaries.get("2222222222"));
+
+    Assertions.assertEquals(1, claimer.requeue(List.of(failed), now).size());
+    final var requeued = new AccountSummary("1111111111", 1, 4000, 1, 10000, 0, 0, 550);
+    Assertions.assertEquals(requeued, summaries.get("1111111111"));
+    Assertions.assertEquals(AccountSummary.empty("3333333333"), summaries.get("3333333333"));
+
+    jdbc.update("UPDATE account_summary SET completed_count = 99");
+    Assertions.assertEquals(2, summaries.rebuild());
+    Assertions.assertEquals(requeued, summaries.get("1111111111"));
+    Assertions.assertEquals(second, summaries.get("2222222222"));
+  }
+
+  @Test()
+  @DisplayName("Write Racing A Rebuild - Neither Is Lost")
+  public void givenWriteCommittingDuringRebuild_whenRebuilding_thenSummaryCountsBoth() throws Exception {
+    insert("1111111111", "100.00");
+    jdbc.update("UPDATE account_summary SET scheduled_count = 99");
+    final var written = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var writer = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+        write(scheduled("1111111111", "5.00"));
+        written.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }));
+      Assertions.assertTrue(written.await(5, TimeUnit.SECONDS));
+
+      // the rebuild reads before the write commits and merges after it
+      final var rebuild = executor.submit(summaries::rebuild);
+      Thread.sleep(100);
+      release.countDown();
+      writer.get(5, TimeUnit.SECONDS);
+      Assertions.assertEquals(1, rebuild.get(5, TimeUnit.SECONDS));
+    }
+
+    Assertions.assertEquals(new AccountSummary("1111111111", 2, 10500, 0, 0, 0, 0, 0),
+        summaries.get("1111111111"));
+    Assertions.assertEquals(1, summaries.rebuild());
+    Assertions.assertEquals(new AccountSummary("1111111111", 2, 10500, 0, 0, 0, 0, 0),
+        summaries.get("1111111111"));
+  }
+
+  @Test()
+  @DisplayName("Rolled Back Write - Leave The Summary Untouched")
+  public void givenRolledBackInsert_whenReadingSummary_thenItIsUnchanged() {
+    insert("1111111111", "100.00");
+    final var before = summaries.get("1111111111");
+
+    Assertions.assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+      summaries.created(List.of(scheduled("1111111111", "5.00")));
+      throw new IllegalStateException("insert failed");
+    }));
+
+    Assertions.assertEquals(before, summaries.get("1111111111"));
+    Assertions.assertEquals(1L, jdbc.queryForObject(
+        "SELECT scheduled_count FROM account_summary WHERE account = '1111111111'", Long.class));
+  }
+}
@@ -0,0 +1,186 @@
+package com.johnnycarreiro.fts.integration.infra.transfer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferClaimer;
+
+/**
+ * Runs several claimers, each standing in for one backend node, against a
+ * single H2 database built from `db/schema.sql`. Throughput per node count
+ * is measured by `TransferClaimerBenchmark`.
+ */
+@DisplayName("Transfer Claimer Multi-Node Test Suite")
+public class TransferClaimerIntegrationTest {
+
+  private static final int TRANSFERS = 5_000;
+  private static final int CLAIM_BATCH = 100;
+  private static final String FEE_ID = "c7b92261-8f3d-4f88-8d10-d8b790a6d001";
+
+  private JdbcTemplate jdbc;
+  private DataSourceTransactionManager transactionManager;
+
+  @BeforeEach
+  public void setUp() {
+    final var dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:claims-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    jdbc = new JdbcTemplate(dataSource);
+    transactionManager = new DataSourceTransactionManager(dataSource);
+    new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql"), new ClassPathResource("db/data.sql"))
+        .execute(dataSource);
+  }
+
+  private TransferClaimer node(final String name, final Duration lease) {
+    return new TransferClaimer(jdbc, transactionManager, name, lease);
+  }
+
+  private void insertDue(final int count) {
+    final var dueAt = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+    final var rows = new ArrayList<Object[]>(count);
+    for (int i = 0; i < count; i++) {
+      rows.add(new Object[] { UUID.randomUUID().toString(), "%010d".formatted(i % 500), dueAt.plusNanos(i * 1_000L),
+          FEE_ID });
+    }
+    jdbc.batchUpdate("""
+        INSERT INTO transfers (id, source_account, destination_account, amount, scheduled_date, transfer_fee_id,
+          status)
+        VALUES (?, ?, '0987654321', 10.00, ?, ?, 'scheduled')
+        """, rows);
+  }
+
+  /**
+   * Every node polls and completes batches until nothing is left.
+   *
+   * @return how many times each transfer id was completed.
+   */
+  private Map<String, AtomicInteger> drain(final int nodes) throws Exception {
+    final Map<String, AtomicInteger> completions = new ConcurrentHashMap<>();
+    try (var executor = Executors.newFixedThreadPool(nodes)) {
+      final var futures = new ArrayList<Future<?>>();
+      for (int n = 0; n < nodes; n++) {
+        final var claimer = node("node-" + n, Duration.ofMinutes(1));
+        futures.add(executor.submit(() -> {
+          while (true) {
+            final var batch = claimer.claimDue(Instant.now(), CLAIM_BATCH);
+            if (batch.isEmpty()) {
+              return null;
+            }
+            final var ids = batch.stream().map(due -> due.id()).toList();
+            Assertions.assertEquals(ids, claimer.complete(ids, "completed", Instant.now()));
+            ids.forEach(id -> completions.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+    return completions;
+  }
+
+  @Test()
+  @DisplayName("Concurrent Nodes - Claim Every Transfer Exactly Once")
+  public void givenSeveralNodes_whenDraining_thenEachTransferIsClaimedOnce() throws Exception {
+    insertDue(TRANSFERS);
+
+    final var completions = drain(4);
+
+    Assertions.assertEquals(TRANSFERS, completions.size());
+    Assertions.assertTrue(completions.values().stream().allMatch(count -> count.get() == 1));
+    Assertions.assertEquals(0, jdbc.queryForObject(
+        "SELECT COUNT(*) FROM transfers WHERE status = 'scheduled'", Integer.class));
+  }
+
+  @Test()
+  @DisplayName("Node Count - Claim Every Transfer Exactly Once At Any Scale")
+  public void givenMoreNodes_whenDraining_thenAllWorkIsStillDoneOnce() throws Exception {
+    for (int nodes : new int[] { 1, 2, 8 }) {
+      jdbc.update("DELETE FROM transfers");
+      insertDue(TRANSFERS);
+
+      final var completions = drain(nodes);
+
+      Assertions.assertEquals(TRANSFERS, completions.size(), nodes + " node(s)");
+      Assertions.assertTrue(completions.values().stream().allMatch(count -> count.get() == 1), nodes + " node(s)");
+    }
+  }
+
+  @Test()
+  @DisplayName("Held Lease - Keep Other Nodes Away Until It Expires")
+  public void givenLeasedTransfers_whenAnotherNodeClaims_thenOnlyExpiredLeasesAreTaken() {
+    insertDue(10);
+    final var first = node("node-a", Duration.ofSeconds(2));
+    final var second = node("node-b", Duration.ofMinutes(1));
+
+    final var claimedByFirst = first.claimDue(Instant.now(), 10);
+    Assertions.assertEquals(10, claimedByFirst.size());
+
+    final var ids = claimedByFirst.stream().map(due -> due.id()).toList();
+    Assertions.assertTrue(second.claim(ids, Instant.now()).isEmpty());
+    Assertions.assertTrue(second.claimDue(Instant.now(), 10).isEmpty());
+
+    // node-a stalls past its lease; node-b takes the work over
+    final var later = Instant.now().plusSeconds(5);
+    Assertions.assertEquals(10, second.claim(ids, later).size());
+    Assertions.assertEquals(List.of(), first.complete(ids, "completed", Instant.now()));
+    Assertions.assertEquals(10, second.complete(ids, "completed", Instant.now()).size());
+  }
+
+  @Test()
+  @DisplayName("Completed Transfer - Never Claim It Again")
+  public void givenCompletedTransfers_whenClaimingAgain_thenNothingIsReturned() {
+    insertDue(5);
+    final var claimer = node("node-a", Duration.ofMinutes(1));
+    final List<String> ids = claimer.claimDue(Instant.now(), 5).stream().map(due -> due.id()).toList();
+    claimer.complete(ids, "completed", Instant.now());
+
+    Assertions.assertTrue(claimer.claim(ids, Instant.now()).isEmpty());
+    Assertions.assertTrue(claimer.claimDue(Instant.now(), 5).isEmpty());
+  }
+
+  @Test()
+  @DisplayName("Failed Transfer - Requeue It On One Node Once Its Backoff Expires")
+  public void givenFailedTransfers_whenBackoffExpires_thenOneNodeRequeuesThem() {
+    insertDue(3);
+    final var first = node("node-a", Duration.ofMinutes(1));
+    final var second = node("node-b", Duration.ofMinutes(1));
+    final List<String> ids = first.claimDue(Instant.now(), 3).stream().map(due -> due.id()).toList();
+    final var retryAt = Instant.now().plusSeconds(30);
+
+    Assertions.assertEquals(3, first.fail(Map.of(ids.get(0), retryAt, ids.get(1), retryAt), List.of(ids.get(2)),
+        Instant.now()));
+    Assertions.assertEquals(1, jdbc.queryForObject(
+        "SELECT COUNT(*) FROM transfers WHERE status = 'dead_letter'", Integer.class));
+    Assertions.assertTrue(second.findRetriesAfter(Instant.EPOCH, "", Instant.now(), 10).isEmpty());
+
+    final var due = second.findRetriesAfter(Instant.EPOCH, "", retryAt, 10);
+    Assertions.assertEquals(2, due.size());
+    final var retryIds = due.stream().map(failed -> failed.transfer().id()).toList();
+    Assertions.assertTrue(second.requeue(retryIds, Instant.now()).isEmpty());
+
+    final var later = retryAt.plusSeconds(1);
+    Assertions.assertEquals(2, second.requeue(retryIds, later).size());
+    Assertions.assertTrue(first.requeue(retryIds, later).isEmpty());
+    Assertions.assertEquals(Map.of(retryIds.get(0), 1, retryIds.get(1), 1), second.claim(retryIds, later));
+  }
+}
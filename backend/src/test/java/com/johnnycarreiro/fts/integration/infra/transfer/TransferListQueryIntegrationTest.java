@@ -0,0 +1,139 @@
+package com.johnnycarreiro.fts.integration.infra.transfer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.johnnycarreiro.fts.application.transfer.services.TransferFilter;
+import com.johnnycarreiro.fts.application.transfer.services.TransferPageVersion;
+import com.johnnycarreiro.fts.application.transfer.services.TransferService;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferETag;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferFeeEntity;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferSearch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL statements behind a page of `GET /transfers` with
+ * Hibernate statistics, against an H2 database built from the entities.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ TransferService.class, TransferSearch.class, TransferFeeCache.class })
+@DisplayName("Transfer List Query Test Suite")
+public class TransferListQueryIntegrationTest {
+
+  private static final int FEES = 4;
+  private static final int TRANSFERS = 30;
+  private static final int PAGE = 10;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TransferService transferService;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  public void setUp() {
+    final var fees = new ArrayList<TransferFeeEntity>(FEES);
+    for (int i = 0; i < FEES; i++) {
+      final var fee = TransferFeeEntity.fromDomain(TransferFee.create("Faixa " + i, i * 10, i * 10 + 9,
+          new BigDecimal(i + ".00"), new BigDecimal("0.0" + (i + 1))));
+      entityManager.persist(fee);
+      fees.add(fee);
+    }
+    for (int i = 0; i < TRANSFERS; i++) {
+      final var entity = TransferEntity.fromDomain(Transfer.create(Account.from("1234567890"),
+          Account.from("0987654321"), Money.of(new BigDecimal("100.00")), Instant.now(), fees.get(0).toDomain()));
+      entity.setTransferFee(fees.get(i % FEES));
+      entity.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z").plusSeconds(i));
+      entityManager.persist(entity);
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test()
+  @DisplayName("List Pages - One Statement Per Page And No Entity Loaded")
+  public void givenTransfersWithFees_whenListingPages_thenRunsOneQueryPerPage() {
+    final var ids = new ArrayList<String>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      statistics.clear();
+
+      final var result = transferService.listPage(cursor, PAGE, TransferFilter.none());
+
+      Assertions.assertTrue(result.isSuccess());
+      Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+      Assertions.assertEquals(0, statistics.getEntityLoadCount());
+      Assertions.assertEquals(0, statistics.getEntityFetchCount());
+      final List<Transfer> items = result.getSuccess().items();
+      for (var transfer : items) {
+        Assertions.assertNotNull(transfer.getTransferFee());
+        Assertions.assertEquals(transfer.getTransferFee().getFixedFeeAmount(), transfer.getFixedFee());
+        ids.add(transfer.getId().getValue());
+      }
+      cursor = result.getSuccess().nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    Assertions.assertEquals(TRANSFERS / PAGE, pages);
+    Assertions.assertEquals(TRANSFERS, ids.size());
+    Assertions.assertEquals(TRANSFERS, ids.stream().distinct().count());
+  }
+
+  @Test()
+  @DisplayName("Page And Transfer Versions - One Statement And Same Tag As The Content")
+  public void givenTransfers_whenReadingVersions_thenTagsMatchTheContent() {
+    final var page = transferService.listPage(null, PAGE, TransferFilter.none()).getSuccess();
+    statistics.clear();
+
+    final var version = transferService.pageVersion(null, PAGE, TransferFilter.none());
+
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    Assertions.assertTrue(version.getSuccess().hasNext());
+    final var tag = TransferETag.of(version.getSuccess());
+    Assertions.assertEquals(TransferETag.of(TransferPageVersion.of(page)), tag);
+
+    final var first = page.items().get(0);
+    statistics.clear();
+    Assertions.assertEquals(first.getUpdatedAt(), transferService.findVersion(first.getId().getValue()).orElseThrow());
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    Assertions.assertTrue(transferService.findVersion("missing").isEmpty());
+
+    entityManager.createNativeQuery("UPDATE transfers SET updated_at = ? WHERE id = ?")
+        .setParameter(1, first.getUpdatedAt().plusSeconds(1))
+        .setParameter(2, first.getId().getValue())
+        .executeUpdate();
+    Assertions.assertNotEquals(tag, TransferETag.of(transferService.pageVersion(null, PAGE, TransferFilter.none())
+        .getSuccess()));
+  }
+}
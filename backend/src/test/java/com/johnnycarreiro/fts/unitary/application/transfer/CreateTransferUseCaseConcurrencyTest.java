@@ -0,0 +1,96 @@
+package com.johnnycarreiro.fts.unitary.application.transfer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.johnnycarreiro.fts.application.transfer.create.CreateTransferCommand;
+import com.johnnycarreiro.fts.application.transfer.create.CreateTransferUseCase;
+import com.johnnycarreiro.fts.core.domain.validation.ValidationHandler;
+import com.johnnycarreiro.fts.core.utils.Result;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@DisplayName("Create Transfer Use Case Concurrency Test Suite")
+public class CreateTransferUseCaseConcurrencyTest {
+
+  private static final int THREADS = 16;
+  private static final int COMMANDS = 4_000;
+
+  @Test()
+  @DisplayName("Concurrent Mixed Commands - No Result Leaks Between Requests")
+  public void givenConcurrentMixedCommands_whenCallExecute_thenEachResultOnlyReflectsItsCommand() throws Exception {
+    final var transferFees = List.copyOf(List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")),
+        TransferFee.create("De 1 a 10 dias", 1, 10, new BigDecimal("12.00"), new BigDecimal("0.0"))));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(transferFees));
+    Mockito.when(transferRepository.save(any())).thenReturn(Result.success(null));
+
+    final var useCase = new CreateTransferUseCase(new TransferFeeCalculatorService(), transferRepository);
+    final var scheduledDate = Instant.now().plusSeconds(3600).toString();
+
+    final List<CreateTransferCommand> commands = new ArrayList<>(COMMANDS);
+    for (int i = 0; i < COMMANDS; i++) {
+      final var amount = BigDecimal.valueOf(i + 1, 2);
+      commands.add(switch (i % 3) {
+        case 0 -> CreateTransferCommand.of("1234567890", "0987654321", amount, scheduledDate);
+        case 1 -> CreateTransferCommand.of("1234567890", "1234567890", amount, scheduledDate);
+        default -> CreateTransferCommand.of("1234567890", "0987654321", BigDecimal.ZERO, scheduledDate);
+      });
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final var startGate = new CountDownLatch(1);
+    final List<Future<Result<Transfer, ValidationHandler>>> futures = new ArrayList<>(COMMANDS);
+    try {
+      for (CreateTransferCommand command : commands) {
+        futures.add(executor.submit(() -> {
+          startGate.await();
+          return useCase.execute(command);
+        }));
+      }
+      startGate.countDown();
+
+      for (int i = 0; i < COMMANDS; i++) {
+        final var result = futures.get(i).get(30, TimeUnit.SECONDS);
+        switch (i % 3) {
+          case 0 -> {
+            Assertions.assertTrue(result.isSuccess(), "command " + i);
+            Assertions.assertEquals(Money.of(commands.get(i).amount()), result.getSuccess().getAmount());
+          }
+          case 1 -> {
+            Assertions.assertTrue(result.isError(), "command " + i);
+            Assertions.assertEquals(1, result.getError().getErrors().size(), "command " + i);
+            Assertions.assertEquals("Source and target accounts must be different",
+                result.getError().getErrors().get(0).message());
+          }
+          default -> {
+            Assertions.assertTrue(result.isError(), "command " + i);
+            Assertions.assertEquals(1, result.getError().getErrors().size(), "command " + i);
+            Assertions.assertEquals("Amount must be greater than zero",
+                result.getError().getErrors().get(0).message());
+          }
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -12,11 +12,14 @@ import org.mockito.Mockito;
 import com.johnnycarreiro.fts.application.transfer.create.CreateTransferCommand;
 import com.johnnycarreiro.fts.application.transfer.create.CreateTransferUseCase;
 import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.exceptions.UnavailableException;
+import com.johnnycarreiro.fts.core.domain.validation.Error;
 import com.johnnycarreiro.fts.core.utils.Result;
 import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
 import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
 import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
 import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+import com.johnnycarreiro.fts.domain.services.TransferFeeSchedule;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -28,7 +31,7 @@ public class CreateTransferUseCaseTest {
   public void givenValidCommand_whenCallExecute_thenCreateANewTransfer() {
     final var sourceAccount = "1234567890";
     final var destinationAccount = "0987654321";
-    final var amount = 100.50;
+    final var amount = new BigDecimal("100.50");
     final var scheduledDate = Instant.now();
     final var aCommand = CreateTransferCommand.of(sourceAccount, destinationAccount, amount,
         scheduledDate.toString());
@@ -45,9 +48,9 @@ public class CreateTransferUseCaseTest {
 
     TransferFee transferFee = transferFees.get(0);
 
-    Mockito.when(feeCalculatorService.setTransferFee(any()))
-        .thenReturn(Result.success(null));
-    Mockito.when(feeCalculatorService.calculateFee(any(), any()))
+    Mockito.when(feeCalculatorService.scheduleOf(any()))
+        .thenReturn(TransferFeeSchedule.compile(transferFees));
+    Mockito.when(feeCalculatorService.calculateFee(any(), any(), any()))
         .thenReturn(Result.success(transferFee));
     Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(transferFees));
     Mockito.when(transferRepository.save(any())).thenReturn(Result.success(null));
@@ -60,4 +63,44 @@ public class CreateTransferUseCaseTest {
     Mockito.verify(transferRepository, times(1)).save(Mockito.any());
   }
 
+  @Test()
+  @DisplayName("Transfer Queue Full - Surface As Unavailable")
+  public void givenFullQueue_whenCallExecute_thenThrowsUnavailable() {
+    final var aCommand = CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("100.50"),
+        Instant.now().toString());
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+    final TransferFeeCalculatorService feeCalculatorService = Mockito.mock(TransferFeeCalculatorService.class);
+    final var transferFees = List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")));
+
+    Mockito.when(feeCalculatorService.scheduleOf(any()))
+        .thenReturn(TransferFeeSchedule.compile(transferFees));
+    Mockito.when(feeCalculatorService.calculateFee(any(), any(), any()))
+        .thenReturn(Result.success(transferFees.get(0)));
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(transferFees));
+    Mockito.when(transferRepository.save(any()))
+        .thenReturn(Result.error(UnavailableException.with(new Error("Transfer queue is full, try again later"))));
+
+    final var useCase = new CreateTransferUseCase(feeCalculatorService, transferRepository);
+
+    final var thrown = Assertions.assertThrows(UnavailableException.class, () -> useCase.execute(aCommand));
+    Assertions.assertEquals("Transfer queue is full, try again later", thrown.getMessage());
+  }
+  @Test()
+  @DisplayName("Missing Scheduled Date - Invalid Scheduled Date")
+  public void givenNoScheduledDate_whenCallExecute_thenReturnsValidationError() {
+    final var aCommand = CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("100.50"), null);
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+    final TransferFeeCalculatorService feeCalculatorService = Mockito.mock(TransferFeeCalculatorService.class);
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(List.of()));
+
+    final var useCase = new CreateTransferUseCase(feeCalculatorService, transferRepository);
+
+    final var result = useCase.execute(aCommand);
+
+    Assertions.assertTrue(result.isError());
+    Assertions.assertEquals("Invalid scheduled date", result.getError().getErrors().get(0).message());
+    Mockito.verify(transferRepository, times(0)).save(any());
+  }
 }
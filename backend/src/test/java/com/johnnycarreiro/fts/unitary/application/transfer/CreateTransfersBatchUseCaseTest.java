@@ -0,0 +1,124 @@
+package com.johnnycarreiro.fts.unitary.application.transfer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.johnnycarreiro.fts.application.transfer.batch.CreateTransfersBatchCommand;
+import com.johnnycarreiro.fts.application.transfer.batch.CreateTransfersBatchUseCase;
+import com.johnnycarreiro.fts.application.transfer.create.CreateTransferCommand;
+import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.core.utils.Result;
+import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+
+@DisplayName("Create Transfers Batch Use Case Test Suite")
+public class CreateTransfersBatchUseCaseTest {
+
+  private static final List<TransferFee> TRANSFER_FEES = List.of(
+      TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")),
+      TransferFee.create("De 1 a 10 dias", 1, 10, new BigDecimal("12.00"), new BigDecimal("0.0")));
+
+  @Test()
+  @DisplayName("Mixed Items - Create Valid Ones And Report Invalid Ones")
+  public void givenMixedItems_whenCallExecute_thenReportsEveryItem() {
+    final var scheduledDate = Instant.now().plusSeconds(3600).toString();
+    final var aCommand = CreateTransfersBatchCommand.of(List.of(
+        CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("100.50"), scheduledDate),
+        CreateTransferCommand.of("1234567890", "1234567890", new BigDecimal("100.50"), scheduledDate),
+        CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("10.00"), scheduledDate)));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(TRANSFER_FEES));
+    Mockito.when(transferRepository.saveAll(anyList())).thenReturn(Result.success(null));
+
+    final var useCase = new CreateTransfersBatchUseCase(new TransferFeeCalculatorService(), transferRepository);
+
+    final var result = useCase.execute(aCommand);
+
+    Assertions.assertTrue(result.isSuccess());
+    final var items = result.getSuccess();
+    Assertions.assertEquals(3, items.size());
+    Assertions.assertTrue(items.get(0).isCreated());
+    Assertions.assertFalse(items.get(1).isCreated());
+    Assertions.assertEquals("Source and target accounts must be different", items.get(1).errors().get(0).message());
+    Assertions.assertTrue(items.get(2).isCreated());
+    Mockito.verify(transferRepository, times(1)).listAllFees();
+    Mockito.verify(transferRepository, times(1)).saveAll(anyList());
+  }
+
+  @Test()
+  @DisplayName("Failed Chunk - Mark Its Items As Failed")
+  public void givenFailingSave_whenCallExecute_thenMarksChunkAsFailed() {
+    final var scheduledDate = Instant.now().plusSeconds(3600).toString();
+    final var aCommand = CreateTransfersBatchCommand.of(List.of(
+        CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("100.50"), scheduledDate)));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(TRANSFER_FEES));
+    Mockito.when(transferRepository.saveAll(anyList()))
+        .thenReturn(Result.error(DomainException.with(new Error("Error saving transfers"))));
+
+    final var useCase = new CreateTransfersBatchUseCase(new TransferFeeCalculatorService(), transferRepository);
+
+    final var result = useCase.execute(aCommand);
+
+    Assertions.assertTrue(result.isSuccess());
+    Assertions.assertFalse(result.getSuccess().get(0).isCreated());
+    Assertions.assertEquals("Error saving transfers", result.getSuccess().get(0).errors().get(0).message());
+  }
+
+  @Test()
+  @DisplayName("Oversized Amount - Fail Only That Item")
+  public void givenAmountOutOfRange_whenCallExecute_thenFailsOnlyThatItem() {
+    final var scheduledDate = Instant.now().plusSeconds(3600).toString();
+    final var aCommand = CreateTransfersBatchCommand.of(List.of(
+        CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("1E+30"), scheduledDate),
+        CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("10.00"), scheduledDate)));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(TRANSFER_FEES));
+    Mockito.when(transferRepository.saveAll(anyList())).thenReturn(Result.success(null));
+
+    final var useCase = new CreateTransfersBatchUseCase(new TransferFeeCalculatorService(), transferRepository);
+
+    final var result = useCase.execute(aCommand);
+
+    Assertions.assertTrue(result.isSuccess());
+    Assertions.assertFalse(result.getSuccess().get(0).isCreated());
+    Assertions.assertEquals("Amount cannot exceed 92233720368547758.07",
+        result.getSuccess().get(0).errors().get(0).message());
+    Assertions.assertTrue(result.getSuccess().get(1).isCreated());
+  }
+  @Test()
+  @DisplayName("Missing Scheduled Date - Fail Only That Item")
+  public void givenNoScheduledDate_whenCallExecute_thenFailsOnlyThatItem() {
+    final var scheduledDate = Instant.now().plusSeconds(3600).toString();
+    final var aCommand = CreateTransfersBatchCommand.of(List.of(
+        CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("10.00"), null),
+        CreateTransferCommand.of("1234567890", "0987654321", new BigDecimal("10.00"), scheduledDate)));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(TRANSFER_FEES));
+    Mockito.when(transferRepository.saveAll(anyList())).thenReturn(Result.success(null));
+
+    final var useCase = new CreateTransfersBatchUseCase(new TransferFeeCalculatorService(), transferRepository);
+
+    final var result = useCase.execute(aCommand);
+
+    Assertions.assertTrue(result.isSuccess());
+    Assertions.assertFalse(result.getSuccess().get(0).isCreated());
+    Assertions.assertEquals("Invalid scheduled date", result.getSuccess().get(0).errors().get(0).message());
+    Assertions.assertTrue(result.getSuccess().get(1).isCreated());
+  }
+}
@@ -0,0 +1,101 @@
+package com.johnnycarreiro.fts.unitary.application.transfer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesCommand;
+import com.johnnycarreiro.fts.application.transfer.quote.QuoteTransferFeesUseCase;
+import com.johnnycarreiro.fts.core.utils.Result;
+import com.johnnycarreiro.fts.domain.entities.transfer.TransferRepository;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.services.TransferFeeCalculatorService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("Quote Transfer Fees Use Case Test Suite")
+public class QuoteTransferFeesUseCaseTest {
+  @Test()
+  @DisplayName("Valid Items - Quote Every Item Without Saving")
+  public void givenValidItems_whenCallExecute_thenQuotesEveryItem() {
+    final var now = Instant.now();
+    final var aCommand = QuoteTransferFeesCommand.of(List.of(
+        new QuoteTransferFeesCommand.Item(new BigDecimal("100.00"), now.plusSeconds(3600).toString()),
+        new QuoteTransferFeesCommand.Item(new BigDecimal("100.00"), now.plusSeconds(86400L * 5).toString()),
+        new QuoteTransferFeesCommand.Item(new BigDecimal("100.00"), now.plusSeconds(86400L * 90).toString()),
+        new QuoteTransferFeesCommand.Item(new BigDecimal("100.00"), "not-a-date")));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+
+    var transferFees = List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")),
+        TransferFee.create("De 1 a 10 dias", 1, 10, new BigDecimal("12.00"), new BigDecimal("0.0")));
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(transferFees));
+
+    final var useCase = new QuoteTransferFeesUseCase(new TransferFeeCalculatorService(), transferRepository);
+
+    final var result = useCase.execute(aCommand);
+
+    Assertions.assertTrue(result.isSuccess());
+    final var quotes = result.getSuccess();
+    Assertions.assertEquals(4, quotes.size());
+    Assertions.assertEquals(0, new BigDecimal("5.50").compareTo(quotes.get(0).totalFee()));
+    Assertions.assertEquals(0, new BigDecimal("12.00").compareTo(quotes.get(1).totalFee()));
+    Assertions.assertFalse(quotes.get(2).errors().isEmpty());
+    Assertions.assertFalse(quotes.get(3).errors().isEmpty());
+    Mockito.verify(transferRepository, times(1)).listAllFees();
+    Mockito.verify(transferRepository, never()).save(any());
+  }
+
+  @Test()
+  @DisplayName("Oversized Amount - Report It On Its Item Only")
+  public void givenAmountOutOfRange_whenCallExecute_thenOnlyThatItemHasErrors() {
+    final var scheduledDate = Instant.now().plusSeconds(3600).toString();
+    final var aCommand = QuoteTransferFeesCommand.of(List.of(
+        new QuoteTransferFeesCommand.Item(new BigDecimal("1E+999999999"), scheduledDate),
+        new QuoteTransferFeesCommand.Item(new BigDecimal("100.00"), scheduledDate)));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")))));
+
+    final var useCase = new QuoteTransferFeesUseCase(new TransferFeeCalculatorService(), transferRepository);
+
+    final var result = useCase.execute(aCommand);
+
+    Assertions.assertTrue(result.isSuccess());
+    Assertions.assertEquals("Amount cannot exceed 92233720368547758.07",
+        result.getSuccess().get(0).errors().get(0).message());
+    Assertions.assertTrue(result.getSuccess().get(1).errors().isEmpty());
+    Assertions.assertEquals(0, new BigDecimal("5.50").compareTo(result.getSuccess().get(1).totalFee()));
+  }
+
+  @Test()
+  @DisplayName("Missing Fields - Report Them On Their Items Only")
+  public void givenItemsWithMissingFields_whenCallExecute_thenOnlyThoseItemsHaveErrors() {
+    final var scheduledDate = Instant.now().plusSeconds(3600).toString();
+    final var aCommand = QuoteTransferFeesCommand.of(List.of(
+        new QuoteTransferFeesCommand.Item(null, scheduledDate),
+        new QuoteTransferFeesCommand.Item(new BigDecimal("100.00"), null),
+        new QuoteTransferFeesCommand.Item(new BigDecimal("100.00"), scheduledDate)));
+    final TransferRepository transferRepository = Mockito.mock(TransferRepository.class);
+
+    Mockito.when(transferRepository.listAllFees()).thenReturn(Result.success(List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")))));
+
+    final var useCase = new QuoteTransferFeesUseCase(new TransferFeeCalculatorService(), transferRepository);
+
+    final var quotes = useCase.execute(aCommand).getSuccess();
+
+    Assertions.assertEquals("Amount must be greater than zero", quotes.get(0).errors().get(0).message());
+    Assertions.assertEquals("Invalid scheduled date", quotes.get(1).errors().get(0).message());
+    Assertions.assertTrue(quotes.get(2).errors().isEmpty());
+  }
+}
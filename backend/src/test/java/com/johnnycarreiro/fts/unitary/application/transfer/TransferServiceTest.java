@@ -0,0 +1,93 @@
+package com.johnnycarreiro.fts.unitary.application.transfer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.johnnycarreiro.fts.application.transfer.services.TransferCursor;
+import com.johnnycarreiro.fts.application.transfer.services.TransferFilter;
+import com.johnnycarreiro.fts.application.transfer.services.TransferService;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferRow;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferSearch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+
+@DisplayName("Transfer Service Test Suite")
+public class TransferServiceTest {
+
+  private static List<TransferRow> transfers(final int count) {
+    final var rows = new ArrayList<TransferRow>(count);
+    for (int i = 0; i < count; i++) {
+      final var createdAt = Instant.parse("2025-01-01T00:00:00Z").minusSeconds(i);
+      rows.add(new TransferRow(UUID.randomUUID().toString(), "1234567890", "0987654321",
+          new BigDecimal("100.00"), createdAt, null, "scheduled", createdAt, createdAt, null,
+          UUID.randomUUID().toString(), "Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")));
+    }
+    return rows;
+  }
+
+  @Test()
+  @DisplayName("More Rows Than The Limit - Return A Cursor To The Last Item")
+  public void givenMoreRowsThanTheLimit_whenListingAPage_thenReturnsNextCursor() {
+    final var repository = Mockito.mock(TransferJpaRepository.class);
+    final var search = Mockito.mock(TransferSearch.class);
+    final var rows = transfers(3);
+    Mockito.when(search.findPage(TransferFilter.none(), null, 3)).thenReturn(rows);
+
+    final var result = new TransferService(repository, search).listPage(null, 2, TransferFilter.none());
+
+    Assertions.assertTrue(result.isSuccess());
+    final var page = result.getSuccess();
+    Assertions.assertEquals(List.of(rows.get(0).id(), rows.get(1).id()),
+        page.items().stream().map(transfer -> transfer.getId().getValue()).toList());
+    Assertions.assertEquals(new BigDecimal("3.00"), page.items().get(0).getFixedFee().toBigDecimal());
+    final var cursor = TransferCursor.decode(page.nextCursor()).orElseThrow();
+    Assertions.assertEquals(rows.get(1).createdAt(), cursor.createdAt());
+    Assertions.assertEquals(rows.get(1).id(), cursor.id());
+    Mockito.verifyNoInteractions(repository);
+  }
+
+  @Test()
+  @DisplayName("Cursor And Filter - Search After It And Stop On The Last Page")
+  public void givenCursorAndFilter_whenListingAPage_thenSearchesAfterItUntilTheEnd() {
+    final var repository = Mockito.mock(TransferJpaRepository.class);
+    final var search = Mockito.mock(TransferSearch.class);
+    final var rows = transfers(1);
+    final var cursor = new TransferCursor(Instant.parse("2025-01-02T00:00:00.123456Z"), "some-id");
+    final var filter = new TransferFilter("1234567890", null, "scheduled", null, null, new BigDecimal("50.00"),
+        null);
+    Mockito.when(search.findPage(filter, cursor, 51)).thenReturn(rows);
+
+    final var result = new TransferService(repository, search).listPage(cursor.encode(), 50, filter);
+
+    Assertions.assertTrue(result.isSuccess());
+    Assertions.assertEquals(1, result.getSuccess().items().size());
+    Assertions.assertNull(result.getSuccess().nextCursor());
+  }
+
+  @Test()
+  @DisplayName("Invalid Parameters - Report Every Error Without Querying")
+  public void givenInvalidParameters_whenListingAPage_thenReturnsErrors() {
+    final var search = Mockito.mock(TransferSearch.class);
+    final var service = new TransferService(Mockito.mock(TransferJpaRepository.class), search);
+    final var filter = new TransferFilter(null, null, "unknown", Instant.parse("2025-02-01T00:00:00Z"),
+        Instant.parse("2025-01-01T00:00:00Z"), new BigDecimal("10"), new BigDecimal("1"));
+
+    final var result = service.listPage("not a cursor", 0, filter);
+
+    Assertions.assertTrue(result.isError());
+    Assertions.assertEquals(5, result.getError().getErrors().size());
+    Assertions.assertTrue(service.listPage(null, TransferService.MAX_PAGE_SIZE + 1, TransferFilter.none()).isError());
+    Mockito.verify(search, never()).findPage(any(), any(), anyInt());
+  }
+}
@@ -13,6 +13,7 @@ import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
 import com.johnnycarreiro.fts.core.domain.validation.ThrowsValidationHandler;
 import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
 import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
 import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
 import com.johnnycarreiro.fts.domain.value_objects.transfer_status.Status;
 import com.johnnycarreiro.fts.domain.value_objects.transfer_status.TransferStatus;
@@ -24,12 +25,12 @@ public class TransferTest {
   public void givenValidParams_whenCallCreateANewTransfer_thenInstantiateNewTransfer() {
     final var expectedSourceAccount = Account.from("0123456789");
     final var expectedDestinationAccount = Account.from("9876543210");
-    final var expectedAmount = 200.0;
+    final var expectedAmount = Money.of(new BigDecimal("200.00"));
     final var expectedScheduledDate = Instant.now();
     final var expectedTransferDate = Instant.now();
     final var expectedTransferFee = TransferFee.create("Transfer Fee", 0, 0, BigDecimal.valueOf(0.0),
         BigDecimal.valueOf(0.0));
-    final var expectedFixedFee = 0.0;
+    final var expectedFixedFee = Money.ZERO;
     final var expectedPercentageFee = 0.0;
 
     final var sut = Transfer.create(expectedSourceAccount, expectedDestinationAccount, expectedAmount,
@@ -41,11 +42,11 @@ public class TransferTest {
     Assertions.assertNotNull(sut);
     Assertions.assertEquals(expectedSourceAccount, sut.getSourceAccount());
     Assertions.assertEquals(expectedDestinationAccount, sut.getDestinationAccount());
-    Assertions.assertEquals(BigDecimal.valueOf(expectedAmount), sut.getAmount());
+    Assertions.assertEquals(expectedAmount, sut.getAmount());
     Assertions.assertEquals((expectedScheduledDate), sut.getScheduledDate());
     Assertions.assertEquals(expectedTransferDateTruncated, actualTransferDateTruncated);
     Assertions.assertEquals(expectedTransferFee, sut.getTransferFee());
-    Assertions.assertEquals(BigDecimal.valueOf(expectedFixedFee), sut.getFixedFee());
+    Assertions.assertEquals(expectedFixedFee, sut.getFixedFee());
     Assertions.assertEquals(BigDecimal.valueOf(expectedPercentageFee), sut.getPercentageFee());
     Assertions.assertEquals(TransferStatus.from(Status.SCHEDULED), sut.getStatus());
   }
@@ -58,7 +59,7 @@ public class TransferTest {
 
     final var sourceAccount = Account.from("0123456789");
     final var destinationAccount = Account.from("9876543210");
-    final var amount = 200.0;
+    final var amount = Money.of(new BigDecimal("200.00"));
     final var transferFee = TransferFee.create("Transfer Fee", 0, 0, BigDecimal.valueOf(0.0),
         BigDecimal.valueOf(0.0));
 
@@ -79,7 +80,7 @@ public class TransferTest {
 
     final var sourceAccount = Account.from("0123456789");
     final var destinationAccount = Account.from("9876543210");
-    final var amount = 200.0;
+    final var amount = Money.of(new BigDecimal("200.00"));
     final var pastDate = Instant.now().minusSeconds(60 * 60 * 24); // one day before today
     final var transferFee = TransferFee.create("Transfer Fee", 0, 0, BigDecimal.valueOf(0.0),
         BigDecimal.valueOf(0.0));
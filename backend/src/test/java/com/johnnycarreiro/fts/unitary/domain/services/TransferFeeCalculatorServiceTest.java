@@ -36,4 +36,63 @@ public class TransferFeeCalculatorServiceTest {
     Assertions.assertEquals(new BigDecimal("12.00"), fee.getFixedFee());
     Assertions.assertEquals(new BigDecimal("0.00"), fee.getPercentageFee());
   }
+
+  @Test
+  @DisplayName("Open Ended Rule - Matches Days Past The Bounded Range")
+  void givenOpenEndedRule_whenCalculateFeeBeyondBoundedRange_thenReturnsOpenEndedRule() {
+    var fees = List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")),
+        TransferFee.create("De 1 a 10 dias", 1, 10, new BigDecimal("12.00"), new BigDecimal("0.00")),
+        TransferFee.create("Acima de 10 dias", 11, null, new BigDecimal("0.00"), new BigDecimal("0.017")));
+    TransferFeeCalculatorService service = new TransferFeeCalculatorService();
+    service.setTransferFee(fees);
+
+    var scheduledDateAt = Instant.parse("2024-12-01T10:00:00Z");
+    var scheduledDateFor = Instant.parse("2025-06-01T10:00:00Z");
+
+    var feeResult = service.calculateFee(scheduledDateAt, scheduledDateFor);
+
+    Assertions.assertTrue(feeResult.isSuccess());
+    Assertions.assertEquals("Acima de 10 dias", feeResult.getSuccess().getName());
+  }
+
+  @Test
+  @DisplayName("Uncovered Day - Returns an Error")
+  void givenDaysOutsideEveryRule_whenCalculateFee_thenReturnsError() {
+    var fees = List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")),
+        TransferFee.create("De 1 a 10 dias", 1, 10, new BigDecimal("12.00"), new BigDecimal("0.00")));
+    TransferFeeCalculatorService service = new TransferFeeCalculatorService();
+    service.setTransferFee(fees);
+
+    var scheduledDateAt = Instant.parse("2024-12-01T10:00:00Z");
+
+    Assertions.assertTrue(service.calculateFee(scheduledDateAt, scheduledDateAt.plusSeconds(86400L * 11)).isError());
+    Assertions.assertTrue(service.calculateFee(scheduledDateAt, scheduledDateAt.minusSeconds(86400L)).isError());
+  }
+  @Test
+  @DisplayName("Rule Past The Lookup Table - Still Matched In Order")
+  void givenRuleReachingPastTable_whenCalculateFeeBeyondTable_thenReturnsFirstMatchingRule() {
+    var fees = List.of(
+        TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"), new BigDecimal("0.025")),
+        TransferFee.create("Longo Prazo", 1, 1_000_000, new BigDecimal("12.00"), new BigDecimal("0.00")),
+        TransferFee.create("Sobreposta", 5_000, 6_000, new BigDecimal("0.00"), new BigDecimal("0.082")),
+        TransferFee.create("Acima de 1000000 dias", 1_000_001, null, new BigDecimal("0.00"),
+            new BigDecimal("0.017")));
+    TransferFeeCalculatorService service = new TransferFeeCalculatorService();
+    service.setTransferFee(fees);
+
+    var scheduledDateAt = Instant.parse("2024-12-01T10:00:00Z");
+
+    Assertions.assertEquals("Longo Prazo",
+        service.calculateFee(scheduledDateAt, scheduledDateAt.plusSeconds(86400L * 10)).getSuccess().getName());
+    Assertions.assertEquals("Longo Prazo",
+        service.calculateFee(scheduledDateAt, scheduledDateAt.plusSeconds(86400L * 5_500)).getSuccess().getName());
+    Assertions.assertEquals("Longo Prazo",
+        service.calculateFee(scheduledDateAt, scheduledDateAt.plusSeconds(86400L * 1_000_000)).getSuccess()
+            .getName());
+    Assertions.assertEquals("Acima de 1000000 dias",
+        service.calculateFee(scheduledDateAt, scheduledDateAt.plusSeconds(86400L * 1_000_001)).getSuccess()
+            .getName());
+  }
 }
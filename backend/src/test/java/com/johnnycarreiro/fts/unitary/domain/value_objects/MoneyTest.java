@@ -0,0 +1,88 @@
+package com.johnnycarreiro.fts.unitary.domain.value_objects;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.validation.StackValidationHandler;
+import com.johnnycarreiro.fts.core.domain.validation.ThrowsValidationHandler;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.domain.value_objects.money.MoneyValidator;
+
+@DisplayName("Money Test Suite")
+public class MoneyTest {
+
+  @Test
+  @DisplayName("Valid - Create Money From Decimal")
+  public void givenDecimalAmount_whenCallOf_thenStoresCents() {
+    final var money = Money.of(new BigDecimal("100.50"));
+
+    Assertions.assertEquals(10050L, money.getCents());
+    Assertions.assertEquals(new BigDecimal("100.50"), money.toBigDecimal());
+  }
+
+  @Test
+  @DisplayName("Extra Precision - Rounds Half Even")
+  public void givenAmountWithExtraPrecision_whenCallOf_thenRoundsHalfEven() {
+    Assertions.assertEquals(Money.ofCents(1002L), Money.of(new BigDecimal("10.025")));
+    Assertions.assertEquals(Money.ofCents(1004L), Money.of(new BigDecimal("10.035")));
+  }
+
+  @Test
+  @DisplayName("Out Of Range - Rejected Before Conversion")
+  public void givenAmountBeyondLongCents_whenCheckingRange_thenRejects() {
+    Assertions.assertTrue(Money.isRepresentable(Money.MAX_AMOUNT));
+    Assertions.assertTrue(Money.isRepresentable(Money.MAX_AMOUNT.negate()));
+    Assertions.assertEquals(Long.MAX_VALUE, Money.of(Money.MAX_AMOUNT).getCents());
+
+    for (String amount : new String[] { "92233720368547758.08", "-92233720368547758.08", "1E+30", "1E+999999999" }) {
+      final var handler = StackValidationHandler.create();
+
+      Assertions.assertFalse(Money.isRepresentable(new BigDecimal(amount)), amount);
+      Assertions.assertFalse(MoneyValidator.validateRange(new BigDecimal(amount), handler), amount);
+      Assertions.assertEquals(1, handler.getErrors().size(), amount);
+    }
+    Assertions.assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+30")));
+    Assertions.assertTrue(MoneyValidator.validateRange(null, StackValidationHandler.create()));
+  }
+
+  @Test
+  @DisplayName("Percentage - Matches BigDecimal Rounded Half Even")
+  public void givenRate_whenCallPercentage_thenMatchesBigDecimalResult() {
+    final var rates = new String[] { "0.025", "0.082", "0.069", "0.047", "0.017", "0.00" };
+    final var amounts = new String[] { "0.01", "100.50", "1234.57", "99999.99", "0.05" };
+
+    for (String rate : rates) {
+      for (String amount : amounts) {
+        final var expected = Money.of(new BigDecimal(amount).multiply(new BigDecimal(rate)));
+        final var actual = Money.of(new BigDecimal(amount)).percentage(Money.rateMicros(new BigDecimal(rate)));
+        Assertions.assertEquals(expected, actual, amount + " * " + rate);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Too Precise Rate - Is Not Representable In Millionths")
+  public void givenTooPreciseRate_whenCallRateMicros_thenReturnsMinusOne() {
+    Assertions.assertEquals(25_000L, Money.rateMicros(new BigDecimal("0.025")));
+    Assertions.assertEquals(-1L, Money.rateMicros(new BigDecimal("0.0000001")));
+  }
+
+  @Test
+  @DisplayName("Negative Money - Throws an Exception")
+  public void givenNegativeMoney_whenCallValidate_thenThrows() {
+    final var expectedErrorCount = 1;
+    final var expectedErrorMessage = "Money cannot be negative";
+
+    final var money = Money.ofCents(-1L);
+
+    final var sut = Assertions.assertThrows(
+        DomainException.class, () -> money.validate(new ThrowsValidationHandler()));
+
+    Assertions.assertEquals(expectedErrorCount, sut.getErrors().size());
+    Assertions.assertEquals(expectedErrorMessage, sut.getErrors().get(0).message());
+  }
+}
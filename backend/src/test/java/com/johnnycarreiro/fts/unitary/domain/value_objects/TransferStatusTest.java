@@ -44,7 +44,7 @@ public class TransferStatusTest {
     final var invalidValue = "INVALID_STATUS";
     final var expectedErrorMessage = "Invalid TransferStatus value: INVALID_STATUS valid values are: "
         + Status.SCHEDULED.getValue() + ", " + Status.COMPLETED.getValue() + ", " + Status.CANCELLED.getValue() + ", "
-        + Status.FAILED.getValue();
+        + Status.FAILED.getValue() + ", " + Status.DEAD_LETTER.getValue();
 
     final var sut = Assertions.assertThrows(
         IllegalArgumentException.class, () -> TransferStatus.fromString(invalidValue));
@@ -0,0 +1,256 @@
+package com.johnnycarreiro.fts.unitary.infra.idempotency;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.johnnycarreiro.fts.core.domain.exceptions.DomainException;
+import com.johnnycarreiro.fts.core.domain.exceptions.UnavailableException;
+import com.johnnycarreiro.fts.core.domain.validation.Error;
+import com.johnnycarreiro.fts.infra.idempotency.IdempotencyStore;
+import com.johnnycarreiro.fts.infra.idempotency.RequestInFlightException;
+import com.johnnycarreiro.fts.infra.idempotency.persistence.IdempotencyKeyEntity;
+import com.johnnycarreiro.fts.infra.idempotency.persistence.IdempotencyKeyJpaRepository;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+
+@DisplayName("Idempotency Store Test Suite")
+public class IdempotencyStoreTest {
+
+  private final IdempotencyKeyJpaRepository repository = Mockito.mock(IdempotencyKeyJpaRepository.class);
+
+  private IdempotencyStore store;
+
+  @BeforeEach
+  public void setUp() {
+    Mockito.when(repository.findById(anyString())).thenReturn(Optional.empty());
+    store = newStore(100, Duration.ofSeconds(5));
+  }
+
+  private IdempotencyStore newStore(final int maxEntries, final Duration inFlightWait) {
+    return new IdempotencyStore(repository, new ObjectMapper(), maxEntries, Duration.ofHours(1), inFlightWait);
+  }
+
+  private static ResponseEntity<?> created(final String id) {
+    return ResponseEntity.created(URI.create("/transfers/" + id)).body(Map.of("id", id));
+  }
+
+  private static boolean isReplay(final ResponseEntity<?> response) {
+    return "true".equals(response.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+  }
+
+  @Test()
+  @DisplayName("Concurrent Duplicates - Run The Action Once")
+  public void givenConcurrentRequestsWithSameKey_whenExecuting_thenRunsActionOnce() throws Exception {
+    final var runs = new AtomicInteger();
+    final var release = new CountDownLatch(1);
+    final var results = new ArrayList<Future<ResponseEntity<?>>>();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> store.execute("key-1", "fingerprint", () -> {
+          runs.incrementAndGet();
+          await(release);
+          return created("t-1");
+        })));
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      int replays = 0;
+      for (Future<ResponseEntity<?>> result : results) {
+        final var response = result.get();
+        Assertions.assertEquals(201, response.getStatusCode().value());
+        Assertions.assertEquals(URI.create("/transfers/t-1"), response.getHeaders().getLocation());
+        replays += isReplay(response) ? 1 : 0;
+      }
+      Assertions.assertEquals(15, replays);
+    }
+    Assertions.assertEquals(1, runs.get());
+    Mockito.verify(repository, times(1)).save(any());
+  }
+
+  @Test()
+  @DisplayName("Retry - Replay The Stored Response")
+  public void givenCompletedKey_whenRetried_thenReplaysResponseWithoutRunningAction() {
+    final var runs = new AtomicInteger();
+
+    final var first = store.execute("key-2", "fingerprint", () -> {
+      runs.incrementAndGet();
+      return created("t-2");
+    });
+    final var replay = store.execute("key-2", "fingerprint", () -> {
+      runs.incrementAndGet();
+      return created("other");
+    });
+
+    Assertions.assertEquals(1, runs.get());
+    Assertions.assertFalse(isReplay(first));
+    Assertions.assertTrue(isReplay(replay));
+    Assertions.assertEquals(201, replay.getStatusCode().value());
+    Assertions.assertEquals(URI.create("/transfers/t-2"), replay.getHeaders().getLocation());
+    Assertions.assertEquals("{\"id\":\"t-2\"}", replay.getBody());
+  }
+
+  @Test()
+  @DisplayName("Key Only In The Database - Replay The Stored Row")
+  public void givenKeyStoredByAnotherNode_whenExecuting_thenReplaysRow() {
+    final var now = Instant.now();
+    Mockito.when(repository.findById("key-3")).thenReturn(Optional.of(new IdempotencyKeyEntity("key-3",
+        "fingerprint", 201, "/transfers/t-3", "{\"id\":\"t-3\"}", now, now.plusSeconds(60))));
+
+    final var replay = store.execute("key-3", "fingerprint", () -> {
+      throw new AssertionError("the action must not run again");
+    });
+
+    Assertions.assertTrue(isReplay(replay));
+    Assertions.assertEquals("{\"id\":\"t-3\"}", replay.getBody());
+  }
+
+  @Test()
+  @DisplayName("Validation Failure - Replay It Like A Success")
+  public void givenUnprocessableResponse_whenRetried_thenReplaysIt() {
+    final var runs = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      store.execute("key-8", "fingerprint", () -> {
+        runs.incrementAndGet();
+        return ResponseEntity.unprocessableEntity().body(Map.of("message", "Invalid scheduled date"));
+      });
+    }
+
+    Assertions.assertEquals(1, runs.get());
+    Mockito.verify(repository, times(1)).save(any());
+  }
+
+  @Test()
+  @DisplayName("Transient Failure - Do Not Store It, Run The Retry Again")
+  public void givenUnavailableResponse_whenRetried_thenRunsActionAgain() {
+    final var runs = new AtomicInteger();
+
+    final var first = store.execute("key-9", "fingerprint", () -> {
+      runs.incrementAndGet();
+      return ResponseEntity.status(503).body(Map.of("message", "Transfer queue is full, try again later"));
+    });
+    final var retry = store.execute("key-9", "fingerprint", () -> {
+      runs.incrementAndGet();
+      return created("t-9");
+    });
+
+    Assertions.assertEquals(503, first.getStatusCode().value());
+    Assertions.assertEquals(201, retry.getStatusCode().value());
+    Assertions.assertFalse(isReplay(retry));
+    Assertions.assertEquals(2, runs.get());
+    Mockito.verify(repository, times(1)).save(any());
+  }
+
+  @Test()
+  @DisplayName("Action Throws Unavailable - Release The Key For The Retry")
+  public void givenUnavailableException_whenRetried_thenRunsActionAgain() {
+    Assertions.assertThrows(UnavailableException.class, () -> store.execute("key-10", "fingerprint", () -> {
+      throw UnavailableException.with(new Error("Error saving transfer: connection refused"));
+    }));
+
+    final var retry = store.execute("key-10", "fingerprint", () -> created("t-10"));
+
+    Assertions.assertEquals(201, retry.getStatusCode().value());
+    Assertions.assertFalse(isReplay(retry));
+    Mockito.verify(repository, times(1)).save(any());
+  }
+
+  @Test()
+  @DisplayName("Same Key, Different Request - Reject It")
+  public void givenKeyReusedWithOtherPayload_whenExecuting_thenRejects() {
+    store.execute("key-4", "fingerprint", () -> created("t-4"));
+
+    Assertions.assertThrows(DomainException.class,
+        () -> store.execute("key-4", "other-fingerprint", () -> created("t-4b")));
+  }
+
+  @Test()
+  @DisplayName("Original Still Running - Turn The Duplicate Away With A Conflict")
+  public void givenSlowOriginal_whenDuplicateWaitsTooLong_thenConflict() throws Exception {
+    store = newStore(100, Duration.ofMillis(100));
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var original = executor.submit(() -> store.execute("key-5", "fingerprint", () -> {
+        started.countDown();
+        await(release);
+        return created("t-5");
+      }));
+      Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      Assertions.assertThrows(RequestInFlightException.class,
+          () -> store.execute("key-5", "fingerprint", () -> created("t-5b")));
+
+      release.countDown();
+      Assertions.assertEquals(201, original.get().getStatusCode().value());
+    }
+  }
+
+  @Test()
+  @DisplayName("Over Capacity - Evict Completed Keys, Never Running Ones")
+  public void givenRunningKey_whenEvicting_thenKeepsIt() throws Exception {
+    store = newStore(1, Duration.ofSeconds(5));
+    final var runs = new AtomicInteger();
+    final var started = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var running = executor.submit(() -> store.execute("running", "fingerprint", () -> {
+        runs.incrementAndGet();
+        started.countDown();
+        await(release);
+        return created("t-6");
+      }));
+      Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      store.execute("done-1", "fingerprint", () -> created("t-7"));
+      store.execute("done-2", "fingerprint", () -> created("t-8"));
+
+      final var duplicate = executor.submit(() -> store.execute("running", "fingerprint", () -> {
+        runs.incrementAndGet();
+        return created("t-6b");
+      }));
+      Thread.sleep(100);
+      release.countDown();
+
+      Assertions.assertFalse(isReplay(running.get()));
+      Assertions.assertTrue(isReplay(duplicate.get()));
+    }
+    Assertions.assertEquals(1, runs.get());
+
+    // done-1 was evicted: seeing it again falls back to the database
+    store.execute("done-1", "fingerprint", () -> created("t-7"));
+    Mockito.verify(repository, times(2)).findById("done-1");
+    Mockito.verify(repository, times(1)).findById("running");
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.johnnycarreiro.fts.unitary.infra.ledger;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.johnnycarreiro.fts.infra.ledger.AccountBalances;
+
+@DisplayName("Account Balances Test Suite")
+public class AccountBalancesTest {
+
+  private static final String FEES = "0000000000";
+
+  @Test()
+  @DisplayName("Insufficient Funds - Reject Without Moving Any Money")
+  public void givenSourceThatCannotCoverTheFee_whenTransferring_thenNothingMoves() {
+    final var balances = new AccountBalances(account -> account.equals("1111111111") ? 10_000 : 0);
+
+    Assertions.assertFalse(balances.transfer("1111111111", "2222222222", 10_000, FEES, 300));
+
+    Assertions.assertEquals(10_000, balances.balance("1111111111"));
+    Assertions.assertEquals(0, balances.balance("2222222222"));
+    Assertions.assertEquals(0, balances.balance(FEES));
+  }
+
+  @Test()
+  @DisplayName("Valid Transfer - Debit Amount And Fee, Credit Destination And Fee Account")
+  public void givenFundedSource_whenTransferring_thenMovesAmountAndFee() {
+    final var balances = new AccountBalances(account -> account.equals("1111111111") ? 10_300 : 0);
+
+    Assertions.assertTrue(balances.transfer("1111111111", "2222222222", 10_000, FEES, 300));
+
+    Assertions.assertEquals(0, balances.balance("1111111111"));
+    Assertions.assertEquals(10_000, balances.balance("2222222222"));
+    Assertions.assertEquals(300, balances.balance(FEES));
+
+    balances.reverse("1111111111", "2222222222", 10_000, FEES, 300);
+    Assertions.assertEquals(10_300, balances.balance("1111111111"));
+    Assertions.assertEquals(0, balances.balance("2222222222"));
+    Assertions.assertEquals(0, balances.balance(FEES));
+  }
+
+  @Test()
+  @DisplayName("Racing Debits - Never Overdraw A Hot Account")
+  public void givenManyThreadsDebitingOneAccount_whenRacing_thenExactlyTheFundsAreSpent() throws Exception {
+    final var balances = new AccountBalances(account -> account.equals("1111111111") ? 1_000 : 0);
+    final var succeeded = new AtomicInteger();
+    final var start = new CountDownLatch(1);
+
+    try (var executor = Executors.newFixedThreadPool(16)) {
+      final var futures = new ArrayList<Future<?>>();
+      for (int t = 0; t < 16; t++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < 200; i++) {
+            if (balances.transfer("1111111111", "2222222222", 1, FEES, 0)) {
+              succeeded.incrementAndGet();
+            }
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    Assertions.assertEquals(1_000, succeeded.get());
+    Assertions.assertEquals(0, balances.balance("1111111111"));
+    Assertions.assertEquals(1_000, balances.balance("2222222222"));
+  }
+
+  @Test()
+  @DisplayName("Concurrent Transfers - Conserve The Total Across Accounts")
+  public void givenConcurrentTransfersBetweenFewAccounts_whenDone_thenTotalIsUnchanged() throws Exception {
+    final var accounts = new String[] { "1111111111", "2222222222", "3333333333", "4444444444" };
+    final var balances = new AccountBalances(account -> account.equals(FEES) ? 0 : 500);
+
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      final var futures = new ArrayList<Future<?>>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(executor.submit(() -> {
+          final var random = ThreadLocalRandom.current();
+          for (int i = 0; i < 10_000; i++) {
+            final var source = accounts[random.nextInt(accounts.length)];
+            final var destination = accounts[random.nextInt(accounts.length)];
+            balances.transfer(source, destination, random.nextInt(1, 100), FEES, 1);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    long total = balances.balance(FEES);
+    for (String account : accounts) {
+      Assertions.assertTrue(balances.balance(account) >= 0);
+      total += balances.balance(account);
+    }
+    Assertions.assertEquals(2_000, total);
+  }
+}
@@ -0,0 +1,73 @@
+package com.johnnycarreiro.fts.unitary.infra.ledger;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.johnnycarreiro.fts.infra.ledger.journal.Posting;
+import com.johnnycarreiro.fts.infra.ledger.settlement.NettingBatch;
+
+@DisplayName("Netting Batch Test Suite")
+public class NettingBatchTest {
+
+  private static final String FEES = "0000000000";
+
+  @Test()
+  @DisplayName("Both Directions - Net Into One Movement With Each Side's Fees")
+  public void givenTransfersBackAndForth_whenNetting_thenPostsOneMovementForThePair() {
+    final var batch = new NettingBatch(4);
+    batch.add("t1", "1111111111", "2222222222", 10_000, 300);
+    batch.add("t2", "2222222222", "1111111111", 3_000, 100);
+    batch.add("t3", "1111111111", "2222222222", 5_000, 0);
+
+    final var movements = batch.movements();
+
+    Assertions.assertEquals(1, movements.size());
+    final var movement = movements.get(0);
+    Assertions.assertEquals(List.of("t1", "t2", "t3"), movement.transferIds());
+    Assertions.assertEquals(12_000, movement.net());
+    Assertions.assertEquals(List.of(
+        new Posting.Entry(Posting.Leg.DEBIT, "1111111111", -12_300),
+        new Posting.Entry(Posting.Leg.CREDIT, "2222222222", 11_900),
+        new Posting.Entry(Posting.Leg.FEE, FEES, 400)), movement.entries(FEES));
+    Assertions.assertEquals(8, batch.postingsBefore());
+    Assertions.assertEquals(8, movement.postingsBefore());
+  }
+
+  @Test()
+  @DisplayName("Netted Movements - Move The Same Money As The Transfers One By One")
+  public void givenManyPairs_whenNetting_thenBalancesMatchExecutingEachTransfer() {
+    final var batch = new NettingBatch(1);
+    final var expected = new HashMap<String, Long>();
+    for (int i = 0; i < 5_000; i++) {
+      final var source = "%010d".formatted(i % 97);
+      final var destination = "%010d".formatted((i * 31 + 7) % 89);
+      final long amount = 1_000 + i;
+      final long fee = i % 3 == 0 ? 0 : 10;
+      batch.add("t" + i, source, destination, amount, fee);
+      expected.merge(source, -(amount + fee), Long::sum);
+      expected.merge(destination, amount, Long::sum);
+      expected.merge(FEES, fee, Long::sum);
+    }
+
+    final var netted = new HashMap<String, Long>();
+    int transfers = 0;
+    long postings = 0;
+    for (NettingBatch.NetMovement movement : batch.movements()) {
+      transfers += movement.transferIds().size();
+      for (Posting.Entry entry : movement.entries(FEES)) {
+        netted.merge(entry.account(), entry.amountCents(), Long::sum);
+        postings++;
+      }
+    }
+
+    Assertions.assertEquals(5_000, transfers);
+    Assertions.assertEquals(5_000, batch.transfers());
+    Assertions.assertTrue(batch.pairs() < 5_000);
+    Assertions.assertTrue(postings < batch.postingsBefore());
+    expected.forEach((account, cents) -> Assertions.assertEquals(cents, netted.getOrDefault(account, 0L), account));
+  }
+}
@@ -0,0 +1,203 @@
+package com.johnnycarreiro.fts.unitary.infra.ledger;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.johnnycarreiro.fts.infra.ledger.journal.Posting;
+import com.johnnycarreiro.fts.infra.ledger.journal.PostingJournal;
+
+@DisplayName("Posting Journal Test Suite")
+public class PostingJournalTest {
+
+  private static final int SEGMENT_RECORDS = 100;
+
+  @TempDir
+  Path directory;
+
+  private static List<Posting.Entry> legs(final int i) {
+    return List.of(
+        new Posting.Entry(Posting.Leg.DEBIT, "1111111111", -(1_000 + i + 10)),
+        new Posting.Entry(Posting.Leg.CREDIT, "2222222222", 1_000 + i),
+        new Posting.Entry(Posting.Leg.FEE, "0000000000", 10));
+  }
+
+  private void appendTransfers(final PostingJournal journal, final int count) {
+    for (int i = 0; i < count; i++) {
+      journal.append(UUID.randomUUID(), legs(i), i);
+    }
+    journal.sync();
+  }
+
+  private void zero(final long segment, final int slot) throws Exception {
+    final var path = directory.resolve("%020d.postings".formatted(segment));
+    try (var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[PostingJournal.RECORD_SIZE]), (long) slot * PostingJournal.RECORD_SIZE);
+    }
+  }
+
+  private static void assertEveryTransferNetsToZero(final List<Posting> postings) {
+    final var perTransfer = new HashMap<UUID, Long>();
+    postings.forEach(posting -> perTransfer.merge(posting.transferId(), posting.amountCents(), Long::sum));
+    Assertions.assertTrue(perTransfer.values().stream().allMatch(sum -> sum == 0), perTransfer.toString());
+  }
+
+  private List<Posting> replay() throws Exception {
+    final var postings = new ArrayList<Posting>();
+    PostingJournal.replay(directory, postings::add);
+    return postings;
+  }
+
+  @Test()
+  @DisplayName("Many Segments - Replay Every Posting In Order")
+  public void givenPostingsSpanningSegments_whenReplaying_thenReadsThemAllInOrder() throws Exception {
+    try (var journal = PostingJournal.open(directory, SEGMENT_RECORDS, posting -> {
+    })) {
+      appendTransfers(journal, 250);
+    }
+
+    final var postings = replay();
+
+    Assertions.assertEquals(750, postings.size());
+    try (var files = Files.list(directory)) {
+      Assertions.assertEquals(8, files.count());
+    }
+    for (int i = 0; i < postings.size(); i++) {
+      Assertions.assertEquals(i + 1, postings.get(i).sequence());
+    }
+    Assertions.assertEquals(Posting.Leg.CREDIT, postings.get(1).leg());
+    Assertions.assertEquals("2222222222", postings.get(1).account());
+    Assertions.assertEquals(1_000, postings.get(1).amountCents());
+  }
+
+  @Test()
+  @DisplayName("Replay - Every Transfer Nets To Zero")
+  public void givenPostedTransfers_whenReplaying_thenEachTransferBalances() throws Exception {
+    try (var journal = PostingJournal.open(directory, SEGMENT_RECORDS, posting -> {
+    })) {
+      appendTransfers(journal, 120);
+    }
+
+    final var perTransfer = new HashMap<UUID, Long>();
+    final var perAccount = new HashMap<String, Long>();
+    for (Posting posting : replay()) {
+      perTransfer.merge(posting.transferId(), posting.amountCents(), Long::sum);
+      perAccount.merge(posting.account(), posting.amountCents(), Long::sum);
+    }
+
+    Assertions.assertEquals(120, perTransfer.size());
+    Assertions.assertTrue(perTransfer.values().stream().allMatch(sum -> sum == 0));
+    Assertions.assertEquals(1_200L, perAccount.get("0000000000"));
+    Assertions.assertEquals(0L, perAccount.values().stream().mapToLong(Long::longValue).sum());
+  }
+
+  @Test()
+  @DisplayName("Torn Tail - Drop The Damaged Posting And Continue After The Last Good One")
+  public void givenCorruptedLastRecord_whenReopening_thenResumesAtItsPosting() throws Exception {
+    try (var journal = PostingJournal.open(directory, SEGMENT_RECORDS, posting -> {
+    })) {
+      appendTransfers(journal, 50);
+    }
+    // 33 postings fill the first segment, so sequence 150 is in slot 50 of the one starting at 100
+    final var segment = directory.resolve("%020d.postings".formatted(100));
+    try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), 50L * PostingJournal.RECORD_SIZE + 41);
+    }
+
+    final var recovered = new ArrayList<Posting>();
+    try (var journal = PostingJournal.open(directory, SEGMENT_RECORDS, recovered::add)) {
+      Assertions.assertEquals(147, recovered.size());
+      Assertions.assertEquals(148, journal.nextSequence());
+      journal.append(UUID.randomUUID(), List.of(new Posting.Entry(Posting.Leg.CREDIT, "3333333333", 7)), 0);
+      journal.sync();
+    }
+
+    final var postings = replay();
+    Assertions.assertEquals(148, postings.size());
+    Assertions.assertEquals("3333333333", postings.get(147).account());
+  }
+
+  @Test()
+  @DisplayName("Crash Inside A Posting - Replay Only Complete Postings")
+  public void givenPostingCutOffBeforeItsLastLeg_whenReopening_thenDropsItsOtherLegs() throws Exception {
+    try (var journal = PostingJournal.open(directory, SEGMENT_RECORDS, posting -> {
+    })) {
+      appendTransfers(journal, 10);
+    }
+    // the fee leg of the 10th posting never reached the disk
+    zero(1, 29);
+
+    final var recovered = new ArrayList<Posting>();
+    try (var journal = PostingJournal.open(directory, SEGMENT_RECORDS, recovered::add)) {
+      Assertions.assertEquals(27, recovered.size());
+      Assertions.assertEquals(28, journal.nextSequence());
+      appendTransfers(journal, 1);
+    }
+
+    final var postings = replay();
+    Assertions.assertEquals(30, postings.size());
+    Assertions.assertEquals(28, postings.get(27).sequence());
+    Assertions.assertEquals(Posting.Leg.DEBIT, postings.get(27).leg());
+    assertEveryTransferNetsToZero(postings);
+  }
+
+  @Test()
+  @DisplayName("Failed Batch - Roll The Journal Back To Where It Started")
+  public void givenBatchFailingHalfway_whenCommitting_thenNoneOfItIsJournaled() throws Exception {
+    try (var journal = PostingJournal.open(directory, 10, posting -> {
+    })) {
+      final var first = new LinkedHashMap<UUID, List<Posting.Entry>>();
+      first.put(UUID.randomUUID(), legs(0));
+      first.put(UUID.randomUUID(), legs(1));
+      journal.commit(first, 0);
+
+      // fills the first segment, starts a second one, then fails
+      final var second = new LinkedHashMap<UUID, List<Posting.Entry>>();
+      second.put(UUID.randomUUID(), legs(2));
+      second.put(UUID.randomUUID(), legs(3));
+      second.put(UUID.randomUUID(), List.of(new Posting.Entry(Posting.Leg.CREDIT, "12345678901234567", 1)));
+      Assertions.assertThrows(IllegalArgumentException.class, () -> journal.commit(second, 0));
+
+      Assertions.assertEquals(7, journal.nextSequence());
+      try (var files = Files.list(directory)) {
+        Assertions.assertEquals(1, files.count());
+      }
+      second.remove(second.keySet().stream().skip(2).findFirst().orElseThrow());
+      journal.commit(second, 0);
+    }
+
+    final var postings = replay();
+    Assertions.assertEquals(12, postings.size());
+    for (int i = 0; i < postings.size(); i++) {
+      Assertions.assertEquals(i + 1, postings.get(i).sequence());
+    }
+    assertEveryTransferNetsToZero(postings);
+  }
+
+  @Test()
+  @DisplayName("Damaged Synced Segment - Refuse To Replay")
+  public void givenCorruptionBeforeTheLastSegment_whenReplaying_thenThrows() throws Exception {
+    try (var journal = PostingJournal.open(directory, SEGMENT_RECORDS, posting -> {
+    })) {
+      appendTransfers(journal, 50);
+    }
+    final var segment = directory.resolve("%020d.postings".formatted(1));
+    try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] { 9 }), 10L * PostingJournal.RECORD_SIZE + 44);
+    }
+
+    Assertions.assertThrows(IllegalStateException.class, this::replay);
+  }
+}
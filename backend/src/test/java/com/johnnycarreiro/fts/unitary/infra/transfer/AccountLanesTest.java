@@ -0,0 +1,87 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.AccountLanes;
+
+@DisplayName("Account Lanes Test Suite")
+public class AccountLanesTest {
+
+  private record Item(String account, int sequence) {
+  }
+
+  @Test()
+  @DisplayName("Many Accounts - Keep Each Account In Submission Order")
+  public void givenManyAccounts_whenSubmitting_thenEachAccountIsHandledInOrder() throws InterruptedException {
+    final Map<String, Integer> lastSeen = new ConcurrentHashMap<>();
+    final var outOfOrder = new AtomicInteger();
+    final var handled = new AtomicInteger();
+
+    final var lanes = new AccountLanes<Item>(4, 256, 16, 64, Thread.ofPlatform().factory(), items -> {
+      for (Item item : items) {
+        final var previous = lastSeen.put(item.account(), item.sequence());
+        if (previous != null && previous >= item.sequence()) {
+          outOfOrder.incrementAndGet();
+        }
+        handled.incrementAndGet();
+      }
+    });
+
+    final int accounts = 50;
+    final int perAccount = 200;
+    for (int sequence = 0; sequence < perAccount; sequence++) {
+      for (int account = 0; account < accounts; account++) {
+        final var number = "%010d".formatted(account);
+        lanes.submit(number, new Item(number, sequence));
+      }
+    }
+    lanes.close();
+
+    Assertions.assertEquals(accounts * perAccount, handled.get());
+    Assertions.assertEquals(0, outOfOrder.get());
+  }
+
+  @Test()
+  @DisplayName("Hot Account - Route Idle Accounts Around Its Lane")
+  public void givenStalledHotAccount_whenSubmittingOthers_thenTheyAreNotStuckBehindIt() throws InterruptedException {
+    final var hot = "0000000001";
+    final var releaseHot = new CountDownLatch(1);
+    final var coldHandled = new CountDownLatch(20);
+
+    final var lanes = new AccountLanes<Item>(2, 1_000, 8, 10, Thread.ofPlatform().factory(), items -> {
+      for (Item item : items) {
+        if (item.account().equals(hot)) {
+          try {
+            releaseHot.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        } else {
+          coldHandled.countDown();
+        }
+      }
+    });
+
+    for (int i = 0; i < 50; i++) {
+      lanes.submit(hot, new Item(hot, i));
+    }
+    for (int i = 0; i < 20; i++) {
+      final var cold = "%010d".formatted(1_000 + i);
+      lanes.submit(cold, new Item(cold, 0));
+    }
+
+    Assertions.assertTrue(coldHandled.await(5, TimeUnit.SECONDS));
+    Assertions.assertTrue(lanes.rebalanced() > 0);
+
+    releaseHot.countDown();
+    lanes.close();
+  }
+}
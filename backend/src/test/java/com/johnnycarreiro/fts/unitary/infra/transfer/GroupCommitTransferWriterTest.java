@@ -0,0 +1,152 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.johnnycarreiro.fts.infra.transfer.persistence.GroupCommitTransferWriter;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferBatchWriter;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+@DisplayName("Group Commit Transfer Writer Test Suite")
+public class GroupCommitTransferWriterTest {
+
+  private final TransferBatchWriter batchWriter = Mockito.mock(TransferBatchWriter.class);
+  private final List<List<String>> groups = new CopyOnWriteArrayList<>();
+  private GroupCommitTransferWriter writer;
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    if (writer != null) {
+      writer.stop();
+    }
+  }
+
+  private GroupCommitTransferWriter newWriter(final int capacity, final int maxBatchSize, final Duration maxDelay) {
+    writer = new GroupCommitTransferWriter(batchWriter, new SimpleMeterRegistry(), true, capacity, maxBatchSize,
+        maxDelay, false);
+    writer.start();
+    return writer;
+  }
+
+  private static TransferEntity entity(final String id) {
+    final var entity = new TransferEntity();
+    entity.setId(id);
+    return entity;
+  }
+
+  private void recordGroups() {
+    Mockito.doAnswer(invocation -> {
+      groups.add(invocation.<List<TransferEntity>>getArgument(0).stream().map(TransferEntity::getId).toList());
+      return null;
+    }).when(batchWriter).insertAll(anyList());
+  }
+
+  @Test()
+  @DisplayName("Burst Of Transfers - Commit Them In Full Groups")
+  public void givenBurst_whenSubmitting_thenCommitsGroupsOfMaxBatchSize() throws Exception {
+    recordGroups();
+    newWriter(100, 10, Duration.ofMillis(500));
+
+    final var futures = new ArrayList<CompletableFuture<Void>>();
+    for (int i = 0; i < 25; i++) {
+      futures.add(writer.submit(entity("t-" + i)));
+    }
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+    Assertions.assertEquals(List.of(10, 10, 5), groups.stream().map(List::size).toList());
+    Assertions.assertEquals("t-0", groups.get(0).get(0));
+    Assertions.assertEquals("t-24", groups.get(2).get(4));
+  }
+
+  @Test()
+  @DisplayName("Lone Transfer - Commit It Once The Delay Passes")
+  public void givenSingleTransfer_whenDelayPasses_thenCommitsPartialGroup() throws Exception {
+    recordGroups();
+    newWriter(100, 10, Duration.ofMillis(20));
+
+    writer.submit(entity("t-1")).get(5, TimeUnit.SECONDS);
+
+    Assertions.assertEquals(List.of(List.of("t-1")), groups);
+  }
+
+  @Test()
+  @DisplayName("Bad Row In A Group - Retry One By One And Fail Only The Culprit")
+  public void givenGroupWithBadRow_whenCommitting_thenOthersStillCommit() throws Exception {
+    Mockito.doAnswer(invocation -> {
+      final List<TransferEntity> entities = invocation.getArgument(0);
+      if (entities.stream().anyMatch(entity -> entity.getId().equals("bad"))) {
+        throw new IllegalStateException("constraint violated");
+      }
+      groups.add(entities.stream().map(TransferEntity::getId).toList());
+      return null;
+    }).when(batchWriter).insertAll(anyList());
+    newWriter(100, 3, Duration.ofMillis(500));
+
+    final var good = writer.submit(entity("good-1"));
+    final var bad = writer.submit(entity("bad"));
+    final var other = writer.submit(entity("good-2"));
+
+    good.get(5, TimeUnit.SECONDS);
+    other.get(5, TimeUnit.SECONDS);
+    final var failure = Assertions.assertThrows(ExecutionException.class, () -> bad.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals("constraint violated", failure.getCause().getMessage());
+    Assertions.assertEquals(List.of(List.of("good-1"), List.of("good-2")), groups);
+  }
+
+  @Test()
+  @DisplayName("Full Queue - Reject Instead Of Blocking")
+  public void givenFullQueue_whenSubmitting_thenRejects() throws Exception {
+    final var committing = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    Mockito.doAnswer(invocation -> {
+      committing.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(batchWriter).insertAll(anyList());
+    newWriter(2, 1, Duration.ZERO);
+
+    final var first = writer.submit(entity("t-1"));
+    Assertions.assertTrue(committing.await(5, TimeUnit.SECONDS));
+    final var queued = List.of(writer.submit(entity("t-2")), writer.submit(entity("t-3")));
+    final var rejected = writer.submit(entity("t-4"));
+
+    final var failure = Assertions.assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+
+    release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    for (CompletableFuture<Void> future : queued) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test()
+  @DisplayName("Stopped Writer - Reject New Transfers")
+  public void givenStoppedWriter_whenSubmitting_thenRejects() throws Exception {
+    newWriter(100, 10, Duration.ofMillis(5));
+    writer.stop();
+
+    final var future = writer.submit(entity("t-1"));
+
+    final var failure = Assertions.assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+    Assertions.assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+    Mockito.verifyNoInteractions(batchWriter);
+  }
+}
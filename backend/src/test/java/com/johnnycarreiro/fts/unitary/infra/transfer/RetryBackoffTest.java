@@ -0,0 +1,50 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.RetryBackoff;
+
+@DisplayName("Retry Backoff Test Suite")
+public class RetryBackoffTest {
+
+  private final RetryBackoff backoff = new RetryBackoff(Duration.ofSeconds(30), Duration.ofMinutes(10), 5);
+
+  @Test()
+  @DisplayName("Consecutive Failures - Double The Delay Up To The Cap")
+  public void givenMoreAttempts_whenComputingDelay_thenDoublesUntilCapped() {
+    Assertions.assertEquals(Duration.ofSeconds(30), backoff.delayCeiling(1));
+    Assertions.assertEquals(Duration.ofSeconds(60), backoff.delayCeiling(2));
+    Assertions.assertEquals(Duration.ofSeconds(240), backoff.delayCeiling(4));
+    Assertions.assertEquals(Duration.ofMinutes(10), backoff.delayCeiling(6));
+    Assertions.assertEquals(Duration.ofMinutes(10), backoff.delayCeiling(200));
+  }
+
+  @Test()
+  @DisplayName("Simultaneous Failures - Spread Retries Over The Upper Half Of The Delay")
+  public void givenManyFailuresAtOnce_whenComputingNextAttempt_thenSpreadsThem() {
+    final var now = Instant.parse("2026-01-01T00:00:00Z");
+    final var distinct = new HashSet<Instant>();
+
+    for (int i = 0; i < 1_000; i++) {
+      final var next = backoff.nextAttempt(3, now);
+      Assertions.assertFalse(next.isBefore(now.plusSeconds(60)));
+      Assertions.assertFalse(next.isAfter(now.plusSeconds(120)));
+      distinct.add(next);
+    }
+
+    Assertions.assertTrue(distinct.size() > 500);
+  }
+
+  @Test()
+  @DisplayName("Max Attempts - Give Up Once Reached")
+  public void givenMaxAttempts_whenChecking_thenIsExhausted() {
+    Assertions.assertFalse(backoff.exhausted(4));
+    Assertions.assertTrue(backoff.exhausted(5));
+  }
+}
@@ -0,0 +1,129 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.johnnycarreiro.fts.application.transfer.services.TransferService;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferCache;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferJson;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.mockito.Mockito.times;
+
+@DisplayName("Transfer Cache Test Suite")
+public class TransferCacheTest {
+
+  private static final TransferFee FEE = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"),
+      new BigDecimal("0.025"));
+
+  private final Transfer transfer = Transfer.create(Account.from("1234567890"), Account.from("0987654321"),
+      Money.of(new BigDecimal("100.00")), Instant.now(), FEE);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private TransferService service;
+  private SimpleMeterRegistry registry;
+  private TransferCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    service = Mockito.mock(TransferService.class);
+    registry = new SimpleMeterRegistry();
+    cache = new TransferCache(service, objectMapper, registry, 1000, Duration.ofMinutes(1), true);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    cache.stop();
+  }
+
+  @Test()
+  @DisplayName("Concurrent Misses - Load The Transfer Once")
+  public void givenConcurrentMisses_whenGetting_thenLoadsOnce() throws Exception {
+    final var id = transfer.getId().getValue();
+    final var release = new CountDownLatch(1);
+    Mockito.when(service.findById(id)).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return Optional.of(transfer);
+    });
+
+    final var results = new ArrayList<Future<TransferJson>>();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> cache.get(id).orElseThrow()));
+      }
+      Thread.sleep(100);
+      release.countDown();
+      for (Future<TransferJson> result : results) {
+        Assertions.assertEquals(id, objectMapper.readTree(result.get().json()).get("id").asText());
+      }
+    }
+
+    Mockito.verify(service, times(1)).findById(id);
+    Assertions.assertEquals(transfer.getUpdatedAt(), cache.get(id).orElseThrow().updatedAt());
+    Mockito.verify(service, times(1)).findById(id);
+    Assertions.assertTrue(registry.get("fts.transfers.cache.hit_rate").gauge().value() > 0);
+    Assertions.assertEquals(1, registry.get("fts.transfers.cache.load").timer().count());
+  }
+
+  @Test()
+  @DisplayName("Write - Next Read Reloads The Transfer")
+  public void givenCachedTransfer_whenInvalidated_thenReloads() {
+    final var id = transfer.getId().getValue();
+    Mockito.when(service.findById(id)).thenReturn(Optional.of(transfer));
+
+    cache.get(id);
+    cache.invalidateAfterCommit(List.of(id));
+    cache.get(id);
+    cache.transitioned(List.of(id), "scheduled", "completed");
+    cache.get(id);
+
+    Mockito.verify(service, times(3)).findById(id);
+  }
+
+  @Test()
+  @DisplayName("Unknown Id - Not Cached")
+  public void givenUnknownId_whenGetting_thenReturnsEmptyAndDoesNotCache() {
+    Mockito.when(service.findById("missing")).thenReturn(Optional.empty());
+
+    Assertions.assertTrue(cache.get("missing").isEmpty());
+    Assertions.assertTrue(cache.get("missing").isEmpty());
+
+    Mockito.verify(service, times(2)).findById("missing");
+  }
+
+  @Test()
+  @DisplayName("Cached Transfer Older Than The Database - Reload It")
+  public void givenStaleCachedTransfer_whenGettingAtLeastANewerVersion_thenReloads() {
+    final var id = transfer.getId().getValue();
+    Mockito.when(service.findById(id)).thenReturn(Optional.of(transfer));
+
+    cache.get(id);
+    cache.get(id, transfer.getUpdatedAt());
+    Mockito.verify(service, times(1)).findById(id);
+
+    cache.get(id, transfer.getUpdatedAt().plusMillis(1));
+    Mockito.verify(service, times(2)).findById(id);
+  }
+}
@@ -0,0 +1,107 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferCatchUp;
+import com.johnnycarreiro.fts.infra.transfer.execution.persistence.CatchUpCheckpointEntity;
+import com.johnnycarreiro.fts.infra.transfer.execution.persistence.CatchUpCheckpointJpaRepository;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+@DisplayName("Transfer Catch-Up Test Suite")
+public class TransferCatchUpTest {
+
+  private final TransferJpaRepository jpaRepository = Mockito.mock(TransferJpaRepository.class);
+  private final CatchUpCheckpointJpaRepository checkpoints = Mockito.mock(CatchUpCheckpointJpaRepository.class);
+
+  private TransferCatchUp newCatchUp() {
+    return new TransferCatchUp(jpaRepository, checkpoints, new SimpleMeterRegistry(), true, 2, 1,
+        Duration.ofMinutes(1));
+  }
+
+  private static DueTransfer due(final String id, final int minutesAgo) {
+    return new DueTransfer(id, "1234567890", Instant.now().minus(Duration.ofMinutes(minutesAgo)));
+  }
+
+  @Test()
+  @DisplayName("Overdue Backlog - Stream Every Page And Clear The Checkpoint")
+  public void givenOverdueBacklog_whenRun_thenStreamsAllPagesInOrder() throws InterruptedException {
+    final var first = List.of(due("t-1", 30), due("t-2", 20));
+    final var second = List.of(due("t-3", 10));
+    Mockito.when(checkpoints.findById(TransferCatchUp.CHECKPOINT)).thenReturn(Optional.empty());
+    Mockito.when(jpaRepository.countScheduledBefore(any())).thenReturn(3L);
+    Mockito.when(jpaRepository.findScheduledBefore(any(), anyString(), any(), any()))
+        .thenReturn(first)
+        .thenReturn(second);
+
+    final var catchUp = newCatchUp();
+    final var received = new ArrayList<String>();
+    catchUp.run(Instant.now(), (transfer, onDone) -> {
+      received.add(transfer.id());
+      onDone.run();
+    });
+
+    Assertions.assertEquals(List.of("t-1", "t-2", "t-3"), received);
+    Assertions.assertEquals(0, catchUp.remaining());
+    Mockito.verify(checkpoints).deleteById(TransferCatchUp.CHECKPOINT);
+  }
+
+  @Test()
+  @DisplayName("Saved Checkpoint - Resume Reading After It")
+  public void givenCheckpoint_whenRun_thenResumesAfterIt() throws InterruptedException {
+    final var checkpointDate = Instant.now().minus(Duration.ofHours(1));
+    Mockito.when(checkpoints.findById(TransferCatchUp.CHECKPOINT)).thenReturn(Optional.of(
+        new CatchUpCheckpointEntity(TransferCatchUp.CHECKPOINT, checkpointDate, "t-9", 100, Instant.now())));
+    Mockito.when(jpaRepository.countScheduledBefore(any())).thenReturn(1L);
+    Mockito.when(jpaRepository.findScheduledBefore(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due("t-10", 5)));
+
+    newCatchUp().run(Instant.now(), (transfer, onDone) -> onDone.run());
+
+    final var afterDate = ArgumentCaptor.forClass(Instant.class);
+    Mockito.verify(jpaRepository).findScheduledBefore(afterDate.capture(), eq("t-9"), any(), any());
+    Assertions.assertEquals(checkpointDate, afterDate.getValue());
+  }
+
+  @Test()
+  @DisplayName("Unfinished Pages - Keep The Checkpoint Behind Them")
+  public void givenPendingTransfers_whenEarlierPageCompletes_thenCheckpointStopsBeforePendingPage()
+      throws InterruptedException {
+    final var first = List.of(due("t-1", 30), due("t-2", 20));
+    final var second = List.of(due("t-3", 10));
+    Mockito.when(checkpoints.findById(TransferCatchUp.CHECKPOINT)).thenReturn(Optional.empty());
+    Mockito.when(jpaRepository.countScheduledBefore(any())).thenReturn(3L);
+    Mockito.when(jpaRepository.findScheduledBefore(any(), anyString(), any(), any()))
+        .thenReturn(first)
+        .thenReturn(second);
+
+    final var catchUp = newCatchUp();
+    catchUp.run(Instant.now(), (transfer, onDone) -> {
+      if (!transfer.id().equals("t-3")) {
+        onDone.run();
+      }
+    });
+
+    final var saved = ArgumentCaptor.forClass(CatchUpCheckpointEntity.class);
+    Mockito.verify(checkpoints).save(saved.capture());
+    Assertions.assertEquals("t-2", saved.getValue().getCursorId());
+    Assertions.assertEquals(1, catchUp.remaining());
+    Mockito.verify(checkpoints, Mockito.never()).deleteById(any());
+  }
+}
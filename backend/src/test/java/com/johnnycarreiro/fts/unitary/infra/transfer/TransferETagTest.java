@@ -0,0 +1,85 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import com.johnnycarreiro.fts.application.transfer.services.TransferPageVersion;
+import com.johnnycarreiro.fts.application.transfer.services.TransferVersion;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferETag;
+
+@DisplayName("Transfer ETag Test Suite")
+public class TransferETagTest {
+
+  private static final Instant UPDATED_AT = Instant.parse("2026-01-01T10:00:00.123456Z");
+
+  private static HttpHeaders headers(final String name, final String value) {
+    final var headers = new HttpHeaders();
+    headers.add(name, value);
+    return headers;
+  }
+
+  @Test()
+  @DisplayName("Same Or Weak Tag - Not Modified")
+  public void givenMatchingIfNoneMatch_whenChecking_thenNotModified() {
+    final var tag = TransferETag.of(UPDATED_AT);
+
+    Assertions.assertTrue(tag.notModified(headers(HttpHeaders.IF_NONE_MATCH, tag.value())));
+    Assertions.assertTrue(tag.notModified(headers(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + tag.value())));
+    Assertions.assertTrue(tag.notModified(headers(HttpHeaders.IF_NONE_MATCH, "*")));
+    Assertions.assertFalse(tag.notModified(headers(HttpHeaders.IF_NONE_MATCH,
+        TransferETag.of(UPDATED_AT.plusNanos(1000)).value())));
+    Assertions.assertFalse(tag.notModified(new HttpHeaders()));
+  }
+
+  @Test()
+  @DisplayName("If-Modified-Since - Compared In Seconds And Ignored Next To If-None-Match")
+  public void givenIfModifiedSince_whenChecking_thenComparesSeconds() {
+    final var tag = TransferETag.of(UPDATED_AT);
+    final var sameSecond = new HttpHeaders();
+    sameSecond.setIfModifiedSince(UPDATED_AT.toEpochMilli() - 123);
+    final var before = new HttpHeaders();
+    before.setIfModifiedSince(UPDATED_AT.minusSeconds(1).toEpochMilli());
+
+    Assertions.assertTrue(tag.notModified(sameSecond));
+    Assertions.assertFalse(tag.notModified(before));
+
+    sameSecond.setIfNoneMatch("\"other\"");
+    Assertions.assertFalse(tag.notModified(sameSecond));
+  }
+
+  @Test()
+  @DisplayName("Page - Tag Changes With Any Transfer Or The Next Page")
+  public void givenPages_whenTagging_thenCoversItemsAndNextPage() {
+    final var first = new TransferVersion("a", UPDATED_AT);
+    final var second = new TransferVersion("b", UPDATED_AT.minusSeconds(5));
+    final var tag = TransferETag.of(new TransferPageVersion(List.of(first, second), true));
+
+    Assertions.assertEquals(tag, TransferETag.of(new TransferPageVersion(List.of(first, second), true)));
+    Assertions.assertEquals(UPDATED_AT, tag.lastModified());
+    Assertions.assertNotEquals(tag.value(), TransferETag.of(new TransferPageVersion(List.of(first, second),
+        false)).value());
+    Assertions.assertNotEquals(tag.value(), TransferETag.of(new TransferPageVersion(List.of(first,
+        new TransferVersion("b", second.updatedAt().plusNanos(1000))), true)).value());
+    Assertions.assertNotEquals(tag.value(), TransferETag.of(new TransferPageVersion(List.of(first), true)).value());
+    Assertions.assertNull(TransferETag.of(new TransferPageVersion(List.of(), false)).lastModified());
+  }
+
+  @Test()
+  @DisplayName("Not Modified Response - 304 With The Validators")
+  public void givenTag_whenAnsweringNotModified_thenSendsValidators() {
+    final var tag = TransferETag.of(UPDATED_AT);
+
+    final var response = tag.notModifiedResponse();
+
+    Assertions.assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    Assertions.assertEquals(tag.value(), response.getHeaders().getETag());
+    Assertions.assertEquals(UPDATED_AT.getEpochSecond() * 1000, response.getHeaders().getLastModified());
+    Assertions.assertNull(response.getBody());
+  }
+}
@@ -0,0 +1,297 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import com.johnnycarreiro.fts.infra.transfer.execution.DueTransfer;
+import com.johnnycarreiro.fts.infra.transfer.execution.RetryBackoff;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferCatchUp;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferClaimer;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferExecutionEngine;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferExecutor;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferRetryScheduler;
+import com.johnnycarreiro.fts.infra.transfer.execution.TransferScheduledEvent;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@DisplayName("Transfer Execution Engine Test Suite")
+public class TransferExecutionEngineTest {
+
+  private static final long WAIT_MILLIS = 3_000;
+
+  private final TransferJpaRepository jpaRepository = Mockito.mock(TransferJpaRepository.class);
+  private final TransferClaimer claimer = Mockito.mock(TransferClaimer.class);
+  private final TransferRetryScheduler retries = Mockito.mock(TransferRetryScheduler.class);
+  private final RetryBackoff backoff = new RetryBackoff(Duration.ofSeconds(30), Duration.ofHours(1), 3);
+  private TransferExecutor executor = transfers -> Set.of();
+  private TransferExecutionEngine engine;
+
+  @BeforeEach
+  public void setUp() {
+    Mockito.when(claimer.lease()).thenReturn(Duration.ofMinutes(1));
+    Mockito.when(claimer.claimDue(any(), anyInt())).thenReturn(List.of());
+    Mockito.when(claimer.claim(anyCollection(), any())).thenAnswer(invocation -> attempts(invocation.getArgument(0), 0));
+    Mockito.when(claimer.complete(anyCollection(), anyString(), any()))
+        .thenAnswer(invocation -> List.copyOf(invocation.<Collection<String>>getArgument(0)));
+  }
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    if (engine != null) {
+      engine.stop();
+    }
+  }
+
+  private static Map<String, Integer> attempts(final Collection<String> ids, final int attempts) {
+    return ids.stream().collect(Collectors.toMap(Function.identity(), id -> attempts));
+  }
+
+  private TransferExecutionEngine newEngine() {
+    final var delegate = new TransferExecutor() {
+      @Override
+      public Set<String> execute(final List<DueTransfer> transfers) {
+        return executor.execute(transfers);
+      }
+
+      @Override
+      public boolean isExecuted(final String id) {
+        return executor.isExecuted(id);
+      }
+
+      @Override
+      public void completed(final Collection<String> ids) {
+        executor.completed(ids);
+      }
+    };
+    return new TransferExecutionEngine(jpaRepository, Mockito.mock(TransferCatchUp.class), claimer, delegate,
+        backoff, retries, new SimpleMeterRegistry(), true, Duration.ofMinutes(5), Duration.ofMillis(50),
+        Duration.ofHours(1), Duration.ofMillis(50), 100, 1_000, 50, 2, 1_000, 100, 3, false);
+  }
+
+  @Test()
+  @DisplayName("Overdue Transfer - Complete It On The First Refill")
+  public void givenOverdueTransfer_whenEngineStarts_thenCompletesIt() {
+    final var due = new DueTransfer("t-1", "1234567890", Instant.now().minusSeconds(60));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).complete(eq(List.of("t-1")), eq("completed"), any());
+  }
+
+  @Test()
+  @DisplayName("Future Transfer - Wait Until It Is Due")
+  public void givenTransferDueSoon_whenEventArrives_thenCompletesItOnlyWhenDue() {
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any())).thenReturn(List.of());
+
+    engine = newEngine();
+    engine.start();
+    Mockito.verify(jpaRepository, timeout(WAIT_MILLIS)).findScheduledAfter(any(), anyString(), any(), any());
+
+    final var dueAt = Instant.now().plusMillis(500);
+    engine.onScheduled(new TransferScheduledEvent(List.of(new DueTransfer("t-2", "1234567890", dueAt))));
+
+    Mockito.verify(claimer, Mockito.after(200).never()).claim(anyCollection(), any());
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).complete(eq(List.of("t-2")), eq("completed"), any());
+  }
+
+  @Test()
+  @DisplayName("Claimed Elsewhere - Skip Transfers Another Node Owns")
+  public void givenTransferOwnedByAnotherNode_whenDue_thenDoesNotCompleteIt() {
+    final var due = new DueTransfer("t-4", "1234567890", Instant.now().minusSeconds(1));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+    Mockito.when(claimer.claim(anyCollection(), any())).thenReturn(Map.of());
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).complete(eq(List.of()), eq("completed"), any());
+    Mockito.verify(claimer, Mockito.never()).complete(eq(List.of("t-4")), anyString(), any());
+  }
+
+  @Test()
+  @DisplayName("Failed Batch - Retry The Same Transfers")
+  public void givenFailingUpdate_whenExecuting_thenRetriesBatch() {
+    final var due = new DueTransfer("t-3", "1234567890", Instant.now().minusSeconds(1));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+    Mockito.when(claimer.claim(anyCollection(), any()))
+        .thenThrow(new TransientDataAccessResourceException("database is down"))
+        .thenAnswer(invocation -> attempts(invocation.getArgument(0), 0));
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS).times(2)).claim(eq(List.of("t-3")), any());
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).complete(eq(List.of("t-3")), eq("completed"), any());
+  }
+
+  @Test()
+  @DisplayName("Database Down For Good - Stop Retrying After The Last Attempt")
+  public void givenDatabaseStaysDown_whenExecuting_thenGivesUpAfterMaxAttempts() {
+    final var due = new DueTransfer("t-7", "1234567890", Instant.now().minusSeconds(1));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+    Mockito.when(claimer.claim(anyCollection(), any()))
+        .thenThrow(new TransientDataAccessResourceException("database is down"));
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS).times(3)).claim(eq(List.of("t-7")), any());
+    Mockito.verify(claimer, Mockito.after(300).times(3)).claim(eq(List.of("t-7")), any());
+    Assertions.assertEquals(0, engine.queued());
+  }
+
+  @Test()
+  @DisplayName("Unexpected Error - Schedule A Retry Instead Of Looping")
+  public void givenNonTransientFailure_whenRecording_thenFailsTheClaimedTransfers() {
+    final var due = new DueTransfer("t-8", "1234567890", Instant.now().minusSeconds(1));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+    Mockito.when(claimer.complete(anyCollection(), anyString(), any()))
+        .thenThrow(new IllegalStateException("constraint violated"));
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).fail(argThat(retryAt -> retryAt.containsKey("t-8")),
+        eq(List.of()), any());
+    Mockito.verify(claimer, times(1)).claim(eq(List.of("t-8")), any());
+    Mockito.verify(retries, timeout(WAIT_MILLIS)).schedule(any());
+  }
+
+  @Test()
+  @DisplayName("Executed But Not Recorded - Keep It For Completion Instead Of Retrying")
+  public void givenExecutedTransfer_whenRecordingFails_thenOnlyUnexecutedOnesAreRetried() {
+    final var now = Instant.now().minusSeconds(1);
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(new DueTransfer("t-11", "1234567890", now), new DueTransfer("t-12", "1234567890", now)))
+        .thenReturn(List.of());
+    Mockito.when(claimer.complete(anyCollection(), anyString(), any()))
+        .thenThrow(new IllegalStateException("constraint violated"));
+    executor = Mockito.mock(TransferExecutor.class);
+    Mockito.when(executor.execute(any())).thenReturn(Set.of());
+    Mockito.when(executor.isExecuted("t-11")).thenReturn(true);
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).fail(argThat(retryAt -> retryAt.keySet().equals(Set.of("t-12"))),
+        eq(List.of()), any());
+    Mockito.verify(retries, timeout(WAIT_MILLIS).times(1)).schedule(any());
+    Mockito.verify(claimer, Mockito.never()).fail(argThat(retryAt -> retryAt.containsKey("t-11")), any(), any());
+  }
+
+  @Test()
+  @DisplayName("Executor Error On An Executed Transfer - Complete It Rather Than Fail It")
+  public void givenExecutedTransfer_whenExecutorThrows_thenCompletesIt() {
+    final var due = new DueTransfer("t-13", "1234567890", Instant.now().minusSeconds(1));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+    executor = Mockito.mock(TransferExecutor.class);
+    Mockito.when(executor.execute(any())).thenThrow(new IllegalStateException("downstream is down"));
+    Mockito.when(executor.isExecuted("t-13")).thenReturn(true);
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).complete(eq(List.of("t-13")), eq("completed"), any());
+    Mockito.verify(claimer, Mockito.never()).fail(any(), any(), any());
+  }
+
+  @Test()
+  @DisplayName("Lease Lost Before Completing - Tell The Executor Only What Changed")
+  public void givenTransferNoLongerLeased_whenCompleting_thenExecutorOnlySeesCompletedOnes() {
+    final var now = Instant.now().minusSeconds(1);
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(new DueTransfer("t-9", "1234567890", now), new DueTransfer("t-10", "1234567890", now)))
+        .thenReturn(List.of());
+    Mockito.when(claimer.complete(anyCollection(), anyString(), any())).thenReturn(List.of("t-10"));
+    executor = Mockito.mock(TransferExecutor.class);
+    Mockito.when(executor.execute(any())).thenReturn(Set.of());
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(executor, timeout(WAIT_MILLIS)).completed(List.of("t-10"));
+    Mockito.verify(executor, Mockito.never()).completed(argThat(ids -> ids.contains("t-9")));
+  }
+
+  @Test()
+  @DisplayName("Rejected Transfer - Schedule A Retry With Backoff")
+  public void givenRejectedTransfer_whenExecuting_thenSchedulesRetry() {
+    final var due = new DueTransfer("t-5", "1234567890", Instant.now().minusSeconds(1));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+    executor = transfers -> Set.of("t-5");
+    final var before = Instant.now();
+
+    engine = newEngine();
+    engine.start();
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Map<String, Instant>> retryAt = ArgumentCaptor.forClass(Map.class);
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).fail(retryAt.capture(), eq(List.of()), any());
+    Mockito.verify(retries, timeout(WAIT_MILLIS)).schedule(any());
+    Mockito.verify(claimer).complete(eq(List.of()), eq("completed"), any());
+
+    final var next = retryAt.getValue().get("t-5");
+    Assertions.assertFalse(next.isBefore(before.plusSeconds(15)));
+    Assertions.assertFalse(next.isAfter(Instant.now().plusSeconds(30)));
+  }
+
+  @Test()
+  @DisplayName("Out Of Attempts - Move The Transfer To Dead Letter")
+  public void givenTransferOnItsLastAttempt_whenRejected_thenDeadLettersIt() {
+    final var due = new DueTransfer("t-6", "1234567890", Instant.now().minusSeconds(1));
+    Mockito.when(jpaRepository.findScheduledAfter(any(), anyString(), any(), any()))
+        .thenReturn(List.of(due))
+        .thenReturn(List.of());
+    Mockito.when(claimer.claim(anyCollection(), any())).thenAnswer(invocation -> attempts(invocation.getArgument(0), 2));
+    executor = transfers -> {
+      throw new IllegalStateException("downstream is down");
+    };
+
+    engine = newEngine();
+    engine.start();
+
+    Mockito.verify(claimer, timeout(WAIT_MILLIS)).fail(eq(Map.of()), eq(List.of("t-6")), any());
+    Mockito.verify(retries, Mockito.never()).schedule(any());
+  }
+}
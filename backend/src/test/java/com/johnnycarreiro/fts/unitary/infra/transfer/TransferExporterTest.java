@@ -0,0 +1,70 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.account.Account;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.transfer.export.TransferExporter;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferEntity;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferJpaRepository;
+
+import jakarta.persistence.EntityManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+
+@DisplayName("Transfer Exporter Test Suite")
+public class TransferExporterTest {
+
+  private static final TransferFee FEE = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"),
+      new BigDecimal("0.025"));
+
+  private static TransferEntity transfer(final String amount) {
+    return TransferEntity.fromDomain(Transfer.create(Account.from("1234567890"), Account.from("0987654321"),
+        Money.of(new BigDecimal(amount)), Instant.now(), FEE));
+  }
+
+  @Test()
+  @DisplayName("Export - One JSON Line Per Transfer, Detached And Stream Closed")
+  public void givenTransfers_whenExporting_thenWritesOneLineEach() throws Exception {
+    final var jpaRepository = Mockito.mock(TransferJpaRepository.class);
+    final var entityManager = Mockito.mock(EntityManager.class);
+    final var closed = new AtomicBoolean();
+    final var rows = new TransferEntity[] { transfer("10.00"), transfer("20.50"), transfer("30.00") };
+    Mockito.when(jpaRepository.streamAll()).thenReturn(Stream.of(rows).onClose(() -> closed.set(true)));
+    final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    final var exporter = new TransferExporter(jpaRepository, entityManager,
+        Mockito.mock(PlatformTransactionManager.class), objectMapper);
+    final var out = new ByteArrayOutputStream();
+
+    Assertions.assertEquals(3, exporter.writeTo(out));
+
+    final var body = out.toString(StandardCharsets.UTF_8);
+    Assertions.assertTrue(body.endsWith("\n"));
+    final var lines = body.split("\n");
+    Assertions.assertEquals(3, lines.length);
+    for (int i = 0; i < lines.length; i++) {
+      final var line = objectMapper.readTree(lines[i]);
+      Assertions.assertEquals(rows[i].getId(), line.get("id").asText());
+      Assertions.assertEquals(rows[i].getAmount().doubleValue(), line.get("amount").asDouble());
+    }
+    Mockito.verify(entityManager, times(3)).detach(any());
+    Assertions.assertTrue(closed.get());
+  }
+}
@@ -0,0 +1,130 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+
+@DisplayName("Transfer Fee Cache Test Suite")
+public class TransferFeeCacheTest {
+
+  private static final TransferFee SAME_DAY = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"),
+      new BigDecimal("0.025"));
+  private static final TransferFee UP_TO_TEN_DAYS = TransferFee.create("De 1 a 10 dias", 1, 10,
+      new BigDecimal("12.00"), BigDecimal.ZERO);
+
+  private final TransferFeeCache cache = new TransferFeeCache();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private Supplier<List<TransferFee>> loader(final List<TransferFee> fees) {
+    return () -> {
+      loads.incrementAndGet();
+      return fees;
+    };
+  }
+
+  @Test()
+  @DisplayName("Concurrent Readers - Load The Schedule Once")
+  public void givenConcurrentReaders_whenCacheIsEmpty_thenLoadsOnce() throws Exception {
+    final var release = new CountDownLatch(1);
+    final var results = new ArrayList<Future<List<TransferFee>>>();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> cache.get(() -> {
+          loads.incrementAndGet();
+          await(release);
+          return List.of(SAME_DAY);
+        })));
+      }
+      Thread.sleep(100);
+      release.countDown();
+      for (Future<List<TransferFee>> result : results) {
+        Assertions.assertEquals(List.of(SAME_DAY), result.get());
+      }
+    }
+
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals(List.of(SAME_DAY), cache.get(loader(List.of())));
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test()
+  @DisplayName("Invalidated - Next Read Reloads The New Schedule")
+  public void givenCachedSchedule_whenInvalidated_thenReloads() {
+    Assertions.assertEquals(List.of(SAME_DAY), cache.get(loader(List.of(SAME_DAY))));
+
+    cache.invalidate();
+
+    Assertions.assertEquals(List.of(SAME_DAY, UP_TO_TEN_DAYS), cache.get(loader(List.of(SAME_DAY, UP_TO_TEN_DAYS))));
+    Assertions.assertEquals(List.of(SAME_DAY, UP_TO_TEN_DAYS), cache.get(loader(List.of())));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test()
+  @DisplayName("Invalidated While Loading - Serve The Load But Do Not Keep It")
+  public void givenWriteDuringLoad_whenLoading_thenDoesNotCacheStaleRows() {
+    final var stale = cache.get(() -> {
+      loads.incrementAndGet();
+      cache.invalidate();
+      return List.of(SAME_DAY);
+    });
+
+    Assertions.assertEquals(List.of(SAME_DAY), stale);
+    Assertions.assertEquals(List.of(UP_TO_TEN_DAYS), cache.get(loader(List.of(UP_TO_TEN_DAYS))));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test()
+  @DisplayName("Loaded Schedule - Callers Cannot Change It")
+  public void givenLoadedSchedule_whenModifying_thenRejects() {
+    final var fees = new ArrayList<>(List.of(SAME_DAY));
+
+    final var cached = cache.get(loader(fees));
+    fees.add(UP_TO_TEN_DAYS);
+
+    Assertions.assertEquals(List.of(SAME_DAY), cached);
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> cached.add(UP_TO_TEN_DAYS));
+  }
+
+  @Test()
+  @DisplayName("Reloaded Schedule - New Version, Etag Follows The Contents")
+  public void givenReload_whenSnapshotting_thenBumpsVersionAndKeepsEtagForSameRules() {
+    Assertions.assertNull(cache.peek());
+
+    final var first = cache.snapshot(loader(List.of(SAME_DAY)));
+    Assertions.assertSame(first, cache.peek());
+
+    cache.invalidate();
+    final var same = cache.snapshot(loader(List.of(SAME_DAY)));
+    cache.invalidate();
+    final var changed = cache.snapshot(loader(List.of(SAME_DAY, UP_TO_TEN_DAYS)));
+
+    Assertions.assertEquals(1, first.version());
+    Assertions.assertEquals(2, same.version());
+    Assertions.assertEquals(3, changed.version());
+    Assertions.assertEquals(first.etag(), same.etag());
+    Assertions.assertNotEquals(first.etag(), changed.etag());
+    Assertions.assertTrue(changed.etag().startsWith("\"") && changed.etag().endsWith("-2\""));
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
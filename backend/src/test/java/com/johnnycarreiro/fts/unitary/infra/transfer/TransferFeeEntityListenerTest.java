@@ -0,0 +1,87 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.infra.transfer.cache.TransferFeeCache;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferFeeEntity;
+import com.johnnycarreiro.fts.infra.transfer.persistence.TransferFeeEntityListener;
+
+import static org.mockito.Mockito.times;
+
+@DisplayName("Transfer Fee Entity Listener Test Suite")
+public class TransferFeeEntityListenerTest {
+
+  private static final TransferFee BEFORE = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"),
+      new BigDecimal("0.025"));
+  private static final TransferFee AFTER = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("5.00"),
+      new BigDecimal("0.025"));
+
+  @AfterEach
+  public void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test()
+  @DisplayName("Write Outside A Transaction - Invalidate Right Away")
+  public void givenNoTransaction_whenFeeIsWritten_thenInvalidatesOnce() {
+    final var cache = Mockito.mock(TransferFeeCache.class);
+
+    new TransferFeeEntityListener(cache).onWrite(TransferFeeEntity.fromDomain(AFTER));
+
+    Mockito.verify(cache, times(1)).invalidate();
+  }
+
+  @Test()
+  @DisplayName("Read Between Flush And Commit - Dropped Again After The Commit")
+  public void givenReloadBeforeCommit_whenTransactionCommits_thenNextReadSeesCommittedRows() {
+    final var cache = new TransferFeeCache();
+    final var loads = new AtomicInteger();
+    cache.get(() -> List.of(BEFORE));
+    TransactionSynchronizationManager.initSynchronization();
+
+    new TransferFeeEntityListener(cache).onWrite(TransferFeeEntity.fromDomain(AFTER));
+    // another reader still sees the pre-commit row and caches it
+    Assertions.assertEquals(List.of(BEFORE), cache.get(() -> {
+      loads.incrementAndGet();
+      return List.of(BEFORE);
+    }));
+    Assertions.assertEquals(1, loads.get());
+
+    final var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    Assertions.assertEquals(1, synchronizations.size());
+    synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    Assertions.assertEquals(List.of(AFTER), cache.get(() -> {
+      loads.incrementAndGet();
+      return List.of(AFTER);
+    }));
+    Assertions.assertEquals(2, loads.get());
+  }
+
+  @Test()
+  @DisplayName("Rolled Back Write - Still Drop The Cached Schedule")
+  public void givenTransaction_whenRolledBack_thenInvalidatesAgain() {
+    final var cache = Mockito.mock(TransferFeeCache.class);
+    TransactionSynchronizationManager.initSynchronization();
+
+    new TransferFeeEntityListener(cache).onWrite(TransferFeeEntity.fromDomain(AFTER));
+    Mockito.verify(cache, times(1)).invalidate();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    Mockito.verify(cache, times(2)).invalidate();
+  }
+}
@@ -0,0 +1,112 @@
+package com.johnnycarreiro.fts.unitary.infra.transfer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.johnnycarreiro.fts.application.transfer.services.TransferPage;
+import com.johnnycarreiro.fts.domain.entities.transfer.Transfer;
+import com.johnnycarreiro.fts.domain.entities.transfer_fee.TransferFee;
+import com.johnnycarreiro.fts.domain.value_objects.money.Money;
+import com.johnnycarreiro.fts.infra.transfer.models.TransferPresenter;
+
+@DisplayName("Transfer Presenter Test Suite")
+public class TransferPresenterTest {
+
+  private static final TransferFee FEE = TransferFee.create("Mesmo Dia", 0, 0, new BigDecimal("3.00"),
+      new BigDecimal("0.025"));
+
+  private final ObjectMapper objectMapper = JsonMapper.builder()
+      .findAndAddModules()
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  private static Transfer transfer(final long amountCents, final String status, final Instant createdAt,
+      final Instant transferDate) {
+    return Transfer.from("8f1c6d7e-0000-4000-8000-000000000001", "1234567890", "0987654321",
+        Money.ofCents(amountCents), Instant.parse("2026-03-01T00:00:00Z"), transferDate, FEE,
+        FEE.getFixedFeeAmount(), FEE.getPercentageFee(), status, createdAt, createdAt.plusMillis(1), null);
+  }
+
+  @Test()
+  @DisplayName("Transfer - Same JSON As Mapping Its Fields")
+  public void givenTransfer_whenPresenting_thenWritesEveryField() throws Exception {
+    final var transfer = transfer(12_345, "completed", Instant.parse("2026-01-02T03:04:05.678Z"),
+        Instant.parse("2026-03-01T10:00:00.000001Z"));
+    final var expected = new LinkedHashMap<String, Object>();
+    expected.put("id", transfer.getId().getValue());
+    expected.put("sourceAccount", "1234567890");
+    expected.put("destinationAccount", "0987654321");
+    expected.put("amount", new BigDecimal("123.45"));
+    expected.put("scheduledDate", transfer.getScheduledDate());
+    expected.put("transferDate", transfer.getTransferDate());
+    expected.put("status", "completed");
+    expected.put("fee", new LinkedHashMap<>(Map.of(
+        "fixedFee", new BigDecimal("3.00"),
+        "percentageFee", new BigDecimal("0.025"))));
+    expected.put("createdAt", transfer.getCreatedAt());
+    expected.put("updatedAt", transfer.getUpdatedAt());
+
+    final var json = objectMapper.writeValueAsString(TransferPresenter.present(transfer));
+
+    Assertions.assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(expected)),
+        objectMapper.readTree(json));
+    Assertions.assertTrue(json.contains("\"amount\":123.45"));
+    Assertions.assertTrue(json.contains("\"transferDate\":\"2026-03-01T10:00:00.000001Z\""));
+  }
+
+  @Test()
+  @DisplayName("Amounts And Dates - Printed Like Money And Instant")
+  public void givenAmountsAndDates_whenPresenting_thenMatchesTheirOwnFormatting() throws Exception {
+    final var random = new Random(42);
+    final var instants = new ArrayList<>(List.of(Instant.EPOCH, Instant.parse("2000-02-29T23:59:59Z"),
+        Instant.parse("1969-12-31T23:59:59.999999999Z"), Instant.parse("0001-01-01T00:00:00.100Z"),
+        Instant.parse("9999-12-31T23:59:59.000000010Z"), Instant.parse("+10000-01-01T00:00:00Z")));
+    for (int i = 0; i < 1_000; i++) {
+      instants.add(Instant.ofEpochSecond(random.nextLong(-62_135_596_800L, 253_402_300_800L),
+          random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000)));
+    }
+    final long[] amounts = { 0, 1, 9, 10, 99, 100, 12_345, -5, -1_000, Long.MAX_VALUE };
+
+    for (int i = 0; i < instants.size(); i++) {
+      final var transfer = transfer(amounts[i % amounts.length], "scheduled", instants.get(i), null);
+
+      final var json = objectMapper.writeValueAsString(TransferPresenter.present(transfer));
+      final var tree = objectMapper.readTree(json);
+
+      Assertions.assertEquals(instants.get(i).toString(), tree.get("createdAt").asText());
+      Assertions.assertTrue(json.contains("\"amount\":" + transfer.getAmount().toBigDecimal() + ","), json);
+      Assertions.assertTrue(tree.get("transferDate").isNull());
+    }
+  }
+
+  @Test()
+  @DisplayName("Page - Items In Order And Next Cursor")
+  public void givenPage_whenPresenting_thenWritesItemsAndCursor() throws Exception {
+    final var first = transfer(100, "scheduled", Instant.parse("2026-01-01T00:00:00Z"), null);
+    final var second = transfer(200, "dead_letter", Instant.parse("2026-01-01T00:00:01Z"), null);
+
+    final var tree = objectMapper.readTree(objectMapper.writeValueAsString(
+        TransferPresenter.present(new TransferPage(List.of(first, second), "next"))));
+    final var last = objectMapper.readTree(objectMapper.writeValueAsString(
+        TransferPresenter.present(new TransferPage(List.of(), null))));
+
+    Assertions.assertEquals(2, tree.get("items").size());
+    Assertions.assertEquals(first.getId().getValue(), tree.get("items").get(0).get("id").asText());
+    Assertions.assertEquals("dead_letter", tree.get("items").get(1).get("status").asText());
+    Assertions.assertEquals("next", tree.get("nextCursor").asText());
+    Assertions.assertEquals(0, last.get("items").size());
+    Assertions.assertTrue(last.get("nextCursor").isNull());
+  }
+}
@@ -11,6 +11,11 @@ export interface PaginationResponse<T> {
 	size: number;
 }
 
+export interface CursorPage<T> {
+	items: T[];
+	nextCursor: string | null;
+}
+
 export interface Transfer {
 	id: string;
 	sourceAccount: string;
@@ -1,5 +1,7 @@
+import type { CursorPage } from "@/@types";
+
 export interface ITransferService<T> {
-	listTransfers(): Promise<T[]>;
+	listTransfers(cursor?: string | null, limit?: number): Promise<CursorPage<T>>;
 	getTransferById(id: string): Promise<T>;
 	createTransfer(payload: Partial<T>): Promise<T>;
 	updateTransfer(id: string, payload: Partial<T>): Promise<T>;
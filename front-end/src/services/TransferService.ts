@@ -1,3 +1,4 @@
+import type { CursorPage } from "@/@types";
 import { ITransferService } from "./ITransferService";
 import { HttpClient } from "./utils/IHttpClient";
 
@@ -10,8 +11,11 @@ export class TransferService<T> implements ITransferService<T> {
 		this.resourceUrl = resourceUrl;
 	}
 
-	async listTransfers(): Promise<T[]> {
-		return this.client.get<T[]>(this.resourceUrl);
+	async listTransfers(cursor?: string | null, limit?: number): Promise<CursorPage<T>> {
+		return this.client.get<CursorPage<T>>(this.resourceUrl, {
+			...(cursor ? { cursor } : {}),
+			...(limit ? { limit } : {}),
+		});
 	}
 
 	async getTransferById(id: string): Promise<T> {